@@ -0,0 +1,148 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.controls.ActionListener;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare dispatching an action through an ActionRegistry with comparing its
+ * name against each handled action in turn, as a chain of string switches
+ * does once it falls through to the next layer.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class ActionDispatchBenchmark implements ActionListener {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of actions with handlers
+     */
+    @Param({"8", "64", "256"})
+    public int numActions;
+    /**
+     * number of actions handled so far
+     */
+    private int actionCount;
+    /**
+     * registry under test
+     */
+    private ActionRegistry registry;
+    /**
+     * action string as delivered by the InputManager
+     */
+    private String actionString;
+    /**
+     * names of the handled actions, in the order they're compared
+     */
+    private String[] actionNames;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare the action string against each handled action name.
+     *
+     * @return the number of actions handled so far
+     */
+    @Benchmark
+    public int compareNames() {
+        for (String actionName : actionNames) {
+            if (actionName.equals(actionString)) {
+                onAction(actionString, true, 0.016f);
+                break;
+            }
+        }
+
+        return actionCount;
+    }
+
+    /**
+     * Dispatch the action through the registry.
+     *
+     * @return the number of actions handled so far
+     */
+    @Benchmark
+    public int registry() {
+        int actionId = ActionRegistry.findId(actionString);
+        registry.dispatch(actionId, actionString, true, 0.016f);
+
+        return actionCount;
+    }
+
+    /**
+     * Register the handlers. The action under test is the last one added.
+     */
+    @Setup
+    public void setup() {
+        this.registry = new ActionRegistry();
+        this.actionNames = new String[numActions];
+        for (int actionIndex = 0; actionIndex < numActions; ++actionIndex) {
+            String actionName = "bench action " + actionIndex;
+            actionNames[actionIndex] = actionName;
+            registry.add(actionName, this);
+        }
+        /*
+         * Use a distinct String instance, as the InputManager would,
+         * so that neither approach benefits from reference equality.
+         */
+        this.actionString = new String(actionNames[numActions - 1]);
+    }
+    // *************************************************************************
+    // ActionListener methods
+
+    /**
+     * Callback for a dispatched action.
+     *
+     * @param actionName the name of the action (not null)
+     * @param ongoing true
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionName, boolean ongoing, float tpf) {
+        ++actionCount;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+
+/**
+ * An InputMode for benchmarks: it's wired directly to an InputManager, without
+ * being attached to an application.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+class BenchInputMode extends InputMode {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a mode that maps to the specified InputManager.
+     *
+     * @param name terse name for the mode (not null)
+     * @param inputManager the InputManager to use (not null)
+     */
+    BenchInputMode(String name, InputManager inputManager) {
+        super(name);
+        this.inputManager = inputManager;
+    }
+    // *************************************************************************
+    // InputMode methods
+
+    /**
+     * Add the default hotkey bindings, of which there are none.
+     */
+    @Override
+    protected void defaultBindings() {
+        // do nothing
+    }
+    // *************************************************************************
+    // ActionListener methods
+
+    /**
+     * Process an action, of which there are none during benchmarks.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        // do nothing
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import com.jme3.input.dummy.DummyKeyInput;
+import com.jme3.input.dummy.DummyMouseInput;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to set up a headless input environment for benchmarks.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BenchInputs {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final static Logger logger = Logger.getLogger(BenchInputs.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * input manager shared by all benchmarks in this JVM (null until
+     * initialized)
+     */
+    private static InputManager inputManager = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BenchInputs() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the shared InputManager, instantiating it and initializing the
+     * hotkeys on the first invocation.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    static synchronized InputManager initialize() {
+        if (inputManager == null) {
+            inputManager = new InputManager(
+                    new DummyMouseInput(), new StubKeyInput(), null, null);
+            Hotkey.initialize(inputManager);
+        }
+
+        return inputManager;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * A dummy keyboard that Hotkey won't recognize as headless, so that the
+     * keyboard hotkeys get defined.
+     */
+    private static class StubKeyInput extends DummyKeyInput {
+        /**
+         * Return the local name of the specified key.
+         *
+         * @param keyCode the keyboard code of the key
+         * @return null, so that the US name will be used
+         */
+        @Override
+        public String getKeyName(int keyCode) {
+            return null;
+        }
+    }
+}
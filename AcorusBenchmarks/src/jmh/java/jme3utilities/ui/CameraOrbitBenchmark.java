@@ -0,0 +1,103 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.Camera;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of advancing a CameraOrbitAppState by one frame while its
+ * orbit signal is active. Run with the "gc" profiler to confirm that updates
+ * don't allocate (gc.alloc.rate.norm should be 0 B/op).
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class CameraOrbitBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * time constant for smoothing (in seconds, 0&rarr;no inertia)
+     */
+    @Param({"0", "0.25"})
+    public float inertia;
+    /**
+     * camera being orbited
+     */
+    private Camera camera;
+    /**
+     * AppState under test
+     */
+    private CameraOrbitAppState orbitState;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Position the camera and configure the AppState.
+     */
+    @Setup
+    public void setup() {
+        this.camera = new Camera(640, 480);
+        camera.setLocation(new Vector3f(0f, 2f, 10f));
+        camera.lookAt(new Vector3f(0f, 0f, 0f), new Vector3f(0f, 1f, 0f));
+
+        this.orbitState
+                = new CameraOrbitAppState(camera, "orbitCcw", "orbitCw");
+        orbitState.setInertia(inertia);
+    }
+
+    /**
+     * Advance the orbit by one 60-Hz frame in the counter-clockwise direction.
+     *
+     * @return the camera (for the Blackhole)
+     */
+    @Benchmark
+    public Camera update() {
+        orbitState.orbit(1f / 60f, 1f, 1f);
+        return camera;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import com.jme3.input.KeyInput;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of dispatching a press of a hotkey that triggers combos,
+ * through {@code ModeStack.dispatch()} as a mapped hotkey does, and the cost of
+ * testing the combos' signals directly using Combo.testAll(). Run with the
+ * "gc" profiler to confirm that dispatch doesn't allocate.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class ComboDispatchBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * universal code of the hotkey that triggers the combos
+     */
+    final private static int triggerCode = KeyInput.KEY_A;
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of combos bound to the trigger
+     */
+    @Param({"1", "8", "32"})
+    public int numCombos;
+    /**
+     * number of combo actions delivered so far
+     */
+    private int actionCount;
+    /**
+     * combos bound to the trigger
+     */
+    private Combo[] combos;
+    /**
+     * mapped mode that binds the combos
+     */
+    private ComboMode mode;
+    /**
+     * signal tracker for the combos
+     */
+    private Signals signals;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Dispatch one press of the trigger.
+     *
+     * @return the number of actions delivered so far
+     */
+    @Benchmark
+    public int dispatch() {
+        InputMode.stack.dispatch(triggerCode, true, 0.016f);
+        return actionCount;
+    }
+
+    /**
+     * Bind the combos, activate half of their signals, and map the mode.
+     */
+    @Setup
+    public void setup() {
+        InputManager inputManager = BenchInputs.initialize();
+        this.signals = new Signals();
+        this.mode = new ComboMode(inputManager);
+
+        Hotkey hotkey = Hotkey.find(triggerCode);
+        this.combos = new Combo[numCombos];
+        for (int comboIndex = 0; comboIndex < numCombos; ++comboIndex) {
+            String signalName = "signal" + comboIndex;
+            signals.add(signalName);
+            boolean isActive = (comboIndex % 2 == 0);
+            signals.setActive(signalName, 0, isActive);
+
+            Combo combo = new Combo(hotkey, signalName, true);
+            mode.bind("action" + comboIndex, combo);
+            combos[comboIndex] = combo;
+        }
+
+        mode.mapAll();
+    }
+
+    /**
+     * Unmap the mode.
+     */
+    @TearDown
+    public void tearDown() {
+        mode.unmapAll();
+    }
+
+    /**
+     * Test the signals of every combo.
+     *
+     * @return the number of combos whose tests passed
+     */
+    @Benchmark
+    public int testAll() {
+        int result = 0;
+        for (Combo combo : combos) {
+            if (combo.testAll(signals)) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * An input mode that counts the combo actions it receives and tests
+     * combos against the benchmark's signal tracker.
+     */
+    private class ComboMode extends BenchInputMode {
+        /**
+         * Instantiate a mode that maps to the specified InputManager.
+         *
+         * @param inputManager the InputManager to use (not null)
+         */
+        ComboMode(InputManager inputManager) {
+            super("combo", inputManager);
+        }
+
+        /**
+         * Access the signal tracker that the combos test.
+         *
+         * @return the pre-existing instance (not null)
+         */
+        @Override
+        public Signals getSignals() {
+            return signals;
+        }
+
+        /**
+         * Count a combo action that passed its tests.
+         *
+         * @param actionString the name of the action (not null)
+         * @param ongoing true
+         * @param tpf the time interval between frames (in seconds, &ge;0)
+         */
+        @Override
+        public void onAction(String actionString, boolean ongoing, float tpf) {
+            ++actionCount;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapFont;
+import com.jme3.font.Rectangle;
+import com.jme3.input.InputManager;
+import com.jme3.scene.Node;
+import com.jme3.texture.image.ColorSpace;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of building a detailed help node for an InputMode with many
+ * bindings, using the default font.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class HelpBuilderBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of actions bound, each to one hotkey
+     */
+    @Param({"20", "200"})
+    public int numActions;
+    /**
+     * font for the help text
+     */
+    private BitmapFont font;
+    /**
+     * builder under test
+     */
+    private HelpBuilder builder;
+    /**
+     * mode to describe
+     */
+    private InputMode mode;
+    /**
+     * bounds for the help node
+     */
+    final private Rectangle bounds = new Rectangle(0f, 720f, 1280f, 720f);
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Build a detailed help node.
+     *
+     * @return the new node
+     */
+    @Benchmark
+    public Node buildDetailedNode() {
+        Node result = builder.buildDetailedNode(
+                mode, bounds, font, ColorSpace.Linear);
+        return result;
+    }
+
+    /**
+     * Load the font and bind the actions, every fourth one to a combo as well.
+     */
+    @Setup
+    public void setup() {
+        BenchApplication application = new BenchApplication();
+        this.font = application.getAssetManager()
+                .loadFont("Interface/Fonts/Default.fnt");
+        this.builder = new HelpBuilder();
+
+        InputManager inputManager = BenchInputs.initialize();
+        this.mode = new BenchInputMode("help", inputManager);
+        List<Hotkey> hotkeys = Hotkey.listAll();
+        int numHotkeys = hotkeys.size();
+        for (int actionIndex = 0; actionIndex < numActions; ++actionIndex) {
+            String actionName = "bench action " + actionIndex;
+            Hotkey hotkey = hotkeys.get(actionIndex % numHotkeys);
+            mode.bind(actionName, hotkey);
+            if (actionIndex % 4 == 0) {
+                Combo combo = new Combo(hotkey, "shift", true);
+                mode.bind(actionName, combo);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the cost of looking up every known hotkey by universal code, by US
+ * name, and by local name, using Hotkey's lookup tables versus the TreeMaps
+ * it used previously.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class HotkeyLookupBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * universal codes of all known hotkeys
+     */
+    private int[] codes;
+    /**
+     * TreeMap from universal codes to hotkeys (the old approach)
+     */
+    final private Map<Integer, Hotkey> treeByCode = new TreeMap<>();
+    /**
+     * TreeMap from local names to hotkeys (the old approach)
+     */
+    final private Map<String, Hotkey> treeByLocalName = new TreeMap<>();
+    /**
+     * TreeMap from US names to hotkeys (the old approach)
+     */
+    final private Map<String, Hotkey> treeByUsName = new TreeMap<>();
+    /**
+     * local names of all known hotkeys
+     */
+    private String[] localNames;
+    /**
+     * US names of all known hotkeys
+     */
+    private String[] usNames;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Look up every hotkey by universal code, using Hotkey.find().
+     *
+     * @return the number of hotkeys found
+     */
+    @Benchmark
+    public int findByCode() {
+        int result = 0;
+        for (int code : codes) {
+            if (Hotkey.find(code) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Look up every hotkey by local name, using Hotkey.findLocal().
+     *
+     * @return the number of hotkeys found
+     */
+    @Benchmark
+    public int findByLocalName() {
+        int result = 0;
+        for (String name : localNames) {
+            if (Hotkey.findLocal(name) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Look up every hotkey by US name, using Hotkey.findUs().
+     *
+     * @return the number of hotkeys found
+     */
+    @Benchmark
+    public int findByUsName() {
+        int result = 0;
+        for (String name : usNames) {
+            if (Hotkey.findUs(name) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Instantiate the hotkeys and populate the TreeMaps.
+     */
+    @Setup
+    public void setup() {
+        BenchInputs.initialize();
+
+        List<Hotkey> hotkeys = Hotkey.listAll();
+        int numHotkeys = hotkeys.size();
+        this.codes = new int[numHotkeys];
+        this.localNames = new String[numHotkeys];
+        this.usNames = new String[numHotkeys];
+        for (int i = 0; i < numHotkeys; ++i) {
+            Hotkey hotkey = hotkeys.get(i);
+            codes[i] = hotkey.code();
+            localNames[i] = hotkey.localName();
+            usNames[i] = hotkey.usName();
+
+            treeByCode.put(codes[i], hotkey);
+            treeByLocalName.put(localNames[i], hotkey);
+            treeByUsName.put(usNames[i], hotkey);
+        }
+    }
+
+    /**
+     * Look up every hotkey by universal code, using a TreeMap.
+     *
+     * @return the number of hotkeys found
+     */
+    @Benchmark
+    public int treeMapByCode() {
+        int result = 0;
+        for (int code : codes) {
+            if (treeByCode.get(code) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Look up every hotkey by local name, using a TreeMap.
+     *
+     * @return the number of hotkeys found
+     */
+    @Benchmark
+    public int treeMapByLocalName() {
+        int result = 0;
+        for (String name : localNames) {
+            if (treeByLocalName.get(name) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Look up every hotkey by US name, using a TreeMap.
+     *
+     * @return the number of hotkeys found
+     */
+    @Benchmark
+    public int treeMapByUsName() {
+        int result = 0;
+        for (String name : usNames) {
+            if (treeByUsName.get(name) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of switching between 2 input modes that each bind every
+ * hotkey (unmapAll() on one followed by mapAll() on the other), and of mapping
+ * and unmapping a single mode.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class ModeSwitchBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * the mode that's currently mapped
+     */
+    private InputMode mappedMode;
+    /**
+     * the mode that's currently unmapped
+     */
+    private InputMode unmappedMode;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Unmap the mapped mode and map it again.
+     */
+    @Benchmark
+    public void mapUnmap() {
+        mappedMode.unmapAll();
+        mappedMode.mapAll();
+    }
+
+    /**
+     * Bind every hotkey in both modes, then map the first mode. (Signal
+     * bindings would require an initialized application.)
+     */
+    @Setup
+    public void setup() {
+        InputManager inputManager = BenchInputs.initialize();
+        this.mappedMode = new BenchInputMode("first", inputManager);
+        this.unmappedMode = new BenchInputMode("second", inputManager);
+
+        List<Hotkey> hotkeys = Hotkey.listAll();
+        int numHotkeys = hotkeys.size();
+        for (int hotkeyIndex = 0; hotkeyIndex < numHotkeys; ++hotkeyIndex) {
+            Hotkey hotkey = hotkeys.get(hotkeyIndex);
+            mappedMode.bind("first" + hotkeyIndex, hotkey);
+            unmappedMode.bind("second" + hotkeyIndex, hotkey);
+        }
+
+        mappedMode.mapAll();
+    }
+
+    /**
+     * Switch from the mapped mode to the unmapped one.
+     */
+    @Benchmark
+    public void switchModes() {
+        mappedMode.unmapAll();
+        unmappedMode.mapAll();
+
+        InputMode swap = mappedMode;
+        this.mappedMode = unmappedMode;
+        this.unmappedMode = swap;
+    }
+
+    /**
+     * Unmap the mapped mode.
+     */
+    @TearDown
+    public void tearDown() {
+        mappedMode.unmapAll();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the per-frame cost of updating every line of an initialized Overlay:
+ * when the text changes (so BitmapText meshes are rebuilt) and when it
+ * doesn't (so the update should be skipped).
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class OverlayBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of content lines
+     */
+    @Param({"4", "20"})
+    public int numLines;
+    /**
+     * count of frames, to alternate the text
+     */
+    private int frameCount;
+    /**
+     * overlay under test
+     */
+    private Overlay overlay;
+    /**
+     * alternative text for each line, indexed by parity and then line index
+     */
+    private String[][] texts;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Initialize the overlay by hand and precompute its text.
+     */
+    @Setup
+    public void setup() {
+        BenchApplication application = new BenchApplication();
+        this.overlay = new Overlay("bench", 400f, numLines);
+        overlay.initialize(application.getStateManager(), application);
+
+        this.texts = new String[2][numLines];
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            texts[0][lineIndex] = "line " + lineIndex + ": even frame";
+            texts[1][lineIndex] = "line " + lineIndex + ": odd frame";
+        }
+    }
+
+    /**
+     * Set every line to new text and apply the changes.
+     */
+    @Benchmark
+    public void setTextChanged() {
+        ++frameCount;
+        String[] frameTexts = texts[frameCount % 2];
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            overlay.setText(lineIndex, frameTexts[lineIndex]);
+        }
+        overlay.update(0.016f);
+    }
+
+    /**
+     * Set every line to the text it already has and apply the changes.
+     */
+    @Benchmark
+    public void setTextUnchanged() {
+        String[] frameTexts = texts[0];
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            overlay.setText(lineIndex, frameTexts[lineIndex]);
+        }
+        overlay.update(0.016f);
+    }
+}
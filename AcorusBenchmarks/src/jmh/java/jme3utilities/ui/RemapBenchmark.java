@@ -0,0 +1,145 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the cost of rebinding one hotkey in a mapped InputMode with 500+
+ * bindings: a full remap (unmapAll() followed by mapAll()) versus the
+ * incremental update performed by bind().
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class RemapBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of combos bound, in addition to one binding per hotkey
+     */
+    @Param({"500", "2000"})
+    public int numCombos;
+    /**
+     * count of rebinds, to alternate between 2 action names
+     */
+    private int rebindCount;
+    /**
+     * the hotkey to rebind
+     */
+    private Hotkey rebindHotkey;
+    /**
+     * mode under test
+     */
+    private InputMode mode;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind every hotkey plus the specified number of combos, then map them.
+     */
+    @Setup
+    public void setup() {
+        InputManager inputManager = BenchInputs.initialize();
+        this.mode = new BenchInputMode("remap", inputManager);
+
+        List<Hotkey> hotkeys = Hotkey.listAll();
+        int numHotkeys = hotkeys.size();
+        for (int hotkeyIndex = 0; hotkeyIndex < numHotkeys; ++hotkeyIndex) {
+            Hotkey hotkey = hotkeys.get(hotkeyIndex);
+            mode.bind("action" + hotkeyIndex, hotkey);
+        }
+        for (int comboIndex = 0; comboIndex < numCombos; ++comboIndex) {
+            Hotkey hotkey = hotkeys.get(comboIndex % numHotkeys);
+            String signalName = "signal" + (comboIndex / numHotkeys);
+            Combo combo = new Combo(hotkey, signalName, true);
+            mode.bind("combo" + comboIndex, combo);
+        }
+        this.rebindHotkey = hotkeys.get(numHotkeys / 2);
+
+        mode.mapAll();
+    }
+
+    /**
+     * Unmap all bindings.
+     */
+    @TearDown
+    public void tearDown() {
+        mode.unmapAll();
+    }
+
+    /**
+     * Rebind one hotkey, then remap every binding.
+     */
+    @Benchmark
+    public void fullRemap() {
+        mode.unmapAll();
+        rebind();
+        mode.mapAll();
+    }
+
+    /**
+     * Rebind one hotkey, updating only its mapping.
+     */
+    @Benchmark
+    public void incrementalRemap() {
+        rebind();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Bind the test hotkey to a different action than before.
+     */
+    private void rebind() {
+        ++rebindCount;
+        String actionName = (rebindCount % 2 == 0) ? "even" : "odd";
+        mode.bind(actionName, rebindHotkey);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of a press-and-release cycle of a signal: via
+ * Signals.onAction() (which parses each distinct action string only once)
+ * versus setActive() with a pre-registered ID, plus the cost of testing a
+ * signal by name versus by ID.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+public class SignalsBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of signals added to the tracker
+     */
+    @Param({"8", "128"})
+    public int numSignals;
+    /**
+     * index of the next signal to cycle
+     */
+    private int nextIndex;
+    /**
+     * ID of each signal
+     */
+    private int[] signalIds;
+    /**
+     * tracker under test
+     */
+    private Signals signals;
+    /**
+     * action string of each signal, as generated by the mode stack
+     */
+    private String[] actionStrings;
+    /**
+     * name of each signal
+     */
+    private String[] signalNames;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cycle the next signal using its action string.
+     *
+     * @return whether the signal was active between press and release
+     */
+    @Benchmark
+    public boolean onActionCycle() {
+        int index = advance();
+        String actionString = actionStrings[index];
+        signals.onAction(actionString, true, 0.016f);
+        boolean result = signals.test(signalIds[index]);
+        signals.onAction(actionString, false, 0.016f);
+
+        return result;
+    }
+
+    /**
+     * Cycle the next signal using its ID.
+     *
+     * @return whether the signal was active between press and release
+     */
+    @Benchmark
+    public boolean setActiveCycle() {
+        int index = advance();
+        int signalId = signalIds[index];
+        signals.setActive(signalId, 0, true);
+        boolean result = signals.test(signalId);
+        signals.setActive(signalId, 0, false);
+
+        return result;
+    }
+
+    /**
+     * Add the signals and pre-parse their action strings.
+     */
+    @Setup
+    public void setup() {
+        this.signals = new Signals();
+        this.actionStrings = new String[numSignals];
+        this.signalIds = new int[numSignals];
+        this.signalNames = new String[numSignals];
+        for (int index = 0; index < numSignals; ++index) {
+            String signalName = "bench signal " + index;
+            signals.add(signalName);
+            signalNames[index] = signalName;
+            signalIds[index] = Signals.findId(signalName);
+            actionStrings[index]
+                    = InputMode.signalActionPrefix + signalName + " " + index;
+            signals.onAction(actionStrings[index], false, 0f);
+        }
+    }
+
+    /**
+     * Test the next signal by ID.
+     *
+     * @return true if active, otherwise false
+     */
+    @Benchmark
+    public boolean testById() {
+        int index = advance();
+        boolean result = signals.test(signalIds[index]);
+        return result;
+    }
+
+    /**
+     * Test the next signal by name.
+     *
+     * @return true if active, otherwise false
+     */
+    @Benchmark
+    public boolean testByName() {
+        int index = advance();
+        boolean result = signals.test(signalNames[index]);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Select the next signal, round-robin.
+     *
+     * @return the index of the selected signal
+     */
+    private int advance() {
+        int result = nextIndex;
+        this.nextIndex = (result + 1) % numSignals;
+
+        return result;
+    }
+}
@@ -0,0 +1,580 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui.test;
+
+import com.jme3.font.Rectangle;
+import com.jme3.renderer.Camera;
+import com.jme3.scene.Node;
+import com.jme3.system.AppSettings;
+import com.jme3.system.JmeContext;
+import com.jme3.texture.image.ColorSpace;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.MyString;
+import jme3utilities.math.RectSizeLimits;
+import jme3utilities.ui.ActionApplication;
+import jme3utilities.ui.CameraOrbitAppState;
+import jme3utilities.ui.DisplaySettings;
+import jme3utilities.ui.DsEditOverlay;
+import jme3utilities.ui.HelpBuilder;
+import jme3utilities.ui.Hotkey;
+import jme3utilities.ui.InputMode;
+import jme3utilities.ui.LatencyHistogram;
+import jme3utilities.ui.Overlay;
+import jme3utilities.ui.Signals;
+import jme3utilities.ui.SyntheticInput;
+
+/**
+ * Measure the per-frame CPU cost of Acorus app states in a headless
+ * ActionApplication, to size how many input modes and overlays a scene can
+ * afford.
+ * <p>
+ * The numbers of input modes, overlays, and camera-orbit states are
+ * configurable, as are the help node and the display-settings editor. The
+ * extra modes are pushed as pass-through overlay modes, on top of the default
+ * mode. A SyntheticInput state presses the mouse buttons (the only hotkeys in
+ * a headless context) in rotation: the middle button triggers an action in
+ * the topmost mode, while the left and right buttons pass through every mode
+ * to the orbit signals of the default mode. Each overlay line tracks one of
+ * the orbit signals.
+ * <p>
+ * After the warm-up frames, the duration and heap allocation of each frame are
+ * measured, and percentiles of the duration are logged when the run ends.
+ * Command-line arguments:
+ * <ul>
+ * <li>--frames=N : number of frames to measure (default=2000)</li>
+ * <li>--help=none|minimal|detailed : which help node to display
+ * (default=minimal)</li>
+ * <li>--lines=N : number of lines per overlay (default=4)</li>
+ * <li>--modes=N : number of extra input modes (default=4)</li>
+ * <li>--noDsEdit : don't display the display-settings editor</li>
+ * <li>--orbits=N : number of camera-orbit states (default=1)</li>
+ * <li>--overlays=N : number of overlays (default=4)</li>
+ * <li>--warmup=N : number of frames to skip before measuring
+ * (default=500)</li>
+ * </ul>
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class TestFrameCost extends ActionApplication {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TestFrameCost.class.getName());
+    /**
+     * application name (for the title bar of the app's window)
+     */
+    final private static String applicationName
+            = TestFrameCost.class.getSimpleName();
+    /**
+     * name of the signal to orbit in the +Y direction
+     */
+    final private static String ccwSignalName = "orbitLeft";
+    /**
+     * name of the signal to orbit in the -Y direction
+     */
+    final private static String cwSignalName = "orbitRight";
+    // *************************************************************************
+    // fields
+
+    /**
+     * true once the extra modes and the help node are in place
+     */
+    private boolean isReady = false;
+    /**
+     * true once the measurements are complete
+     */
+    private boolean isStopping = false;
+    /**
+     * true to display the display-settings editor
+     */
+    private static boolean showDsEdit = true;
+    /**
+     * extra input modes, in the order they're pushed
+     */
+    private CostMode[] modes;
+    /**
+     * number of frames measured (&gt;0)
+     */
+    private static int numFrames = 2_000;
+    /**
+     * number of lines per overlay (&gt;0)
+     */
+    private static int numLines = 4;
+    /**
+     * number of extra input modes (&ge;0)
+     */
+    private static int numModes = 4;
+    /**
+     * number of camera-orbit states (&ge;0)
+     */
+    private static int numOrbits = 1;
+    /**
+     * number of overlays (&ge;0)
+     */
+    private static int numOverlays = 4;
+    /**
+     * number of frames to skip before measuring (&ge;0)
+     */
+    private static int numWarmup = 500;
+    /**
+     * signal ID tracked by each overlay line, indexed by line
+     */
+    private int[] lineSignalIds;
+    /**
+     * histogram of frame durations
+     */
+    final private LatencyHistogram histogram = new LatencyHistogram();
+    /**
+     * number of frames updated so far (&ge;0)
+     */
+    private long frameCount = 0L;
+    /**
+     * total heap allocation during measured frames (in bytes)
+     */
+    private long totalBytes = 0L;
+    /**
+     * total duration of measured frames (in nanoseconds)
+     */
+    private long totalNanos = 0L;
+    /**
+     * overlays whose text is updated each frame
+     */
+    private Overlay[] overlays;
+    /**
+     * text for each overlay line, indexed by line and then by signal state
+     */
+    private String[][] lineTexts;
+    /**
+     * which help node to display, or "none"
+     */
+    private static String helpVersion = "minimal";
+    /**
+     * generator of synthetic hotkey events
+     */
+    private SyntheticInput syntheticInput;
+    /**
+     * per-thread allocation counters, or null if not supported
+     */
+    final private ThreadMXBean threadBean = allocationBean();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the TestFrameCost application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String[] arguments) {
+        // Mute the chatty loggers in certain packages.
+        Heart.setLoggingLevels(Level.WARNING);
+
+        // Process any command-line arguments.
+        for (String arg : arguments) {
+            String[] parts = arg.split("=", 2);
+            String value = (parts.length > 1) ? parts[1] : "";
+            switch (parts[0]) {
+                case "--frames":
+                    numFrames = Math.max(1, parseCount(arg, value));
+                    break;
+
+                case "--help":
+                    helpVersion = value;
+                    break;
+
+                case "--lines":
+                    numLines = Math.max(1, parseCount(arg, value));
+                    break;
+
+                case "--modes":
+                    numModes = parseCount(arg, value);
+                    break;
+
+                case "--noDsEdit":
+                    showDsEdit = false;
+                    break;
+
+                case "--orbits":
+                    numOrbits = parseCount(arg, value);
+                    break;
+
+                case "--overlays":
+                    numOverlays = parseCount(arg, value);
+                    break;
+
+                case "--warmup":
+                    numWarmup = parseCount(arg, value);
+                    break;
+
+                default:
+                    logger.log(Level.WARNING,
+                            "Unknown command-line argument {0}",
+                            MyString.quote(arg));
+            }
+        }
+
+        TestFrameCost application = new TestFrameCost();
+
+        // Don't limit the frame rate.
+        AppSettings settings = new AppSettings(true);
+        settings.setFrameRate(-1);
+        application.setSettings(settings);
+
+        // Invoke the JME startup code, which in turn invokes acorusInit().
+        application.start(JmeContext.Type.Headless);
+    }
+    // *************************************************************************
+    // ActionApplication methods
+
+    /**
+     * Initialize this application.
+     */
+    @Override
+    public void acorusInit() {
+        flyCam.setEnabled(false);
+
+        for (int orbitI = 0; orbitI < numOrbits; ++orbitI) {
+            CameraOrbitAppState orbitState = new CameraOrbitAppState(
+                    cam, ccwSignalName, cwSignalName);
+            stateManager.attach(orbitState);
+        }
+
+        this.lineSignalIds = new int[numLines];
+        this.lineTexts = new String[numLines][2];
+        for (int lineI = 0; lineI < numLines; ++lineI) {
+            String name = (lineI % 2 == 0) ? ccwSignalName : cwSignalName;
+            lineSignalIds[lineI] = Signals.register(name);
+            lineTexts[lineI][0] = name + " inactive";
+            lineTexts[lineI][1] = name + " ACTIVE";
+        }
+
+        this.overlays = new Overlay[numOverlays];
+        for (int overlayI = 0; overlayI < numOverlays; ++overlayI) {
+            float width = 200f; // in pixels
+            Overlay overlay
+                    = new Overlay("cost" + overlayI, width, numLines);
+            stateManager.attach(overlay);
+            overlay.setEnabled(true);
+            overlays[overlayI] = overlay;
+        }
+
+        if (showDsEdit) {
+            RectSizeLimits sizeLimits = new RectSizeLimits(
+                    450, 380, // min width, height
+                    2_048, 1_080 // max width, height
+            );
+            DisplaySettings proposedSettings
+                    = new DisplaySettings(this, applicationName, sizeLimits);
+            DsEditOverlay dseOverlay = new DsEditOverlay(proposedSettings);
+            stateManager.attach(dseOverlay);
+            dseOverlay.setEnabled(true);
+        }
+
+        // The extra modes get pushed once they're initialized.
+        this.modes = new CostMode[numModes];
+        for (int modeI = 0; modeI < numModes; ++modeI) {
+            modes[modeI] = new CostMode(modeI);
+            stateManager.attach(modes[modeI]);
+        }
+
+        Hotkey lmb = Hotkey.findUs("LMB");
+        Hotkey mmb = Hotkey.findUs("MMB");
+        Hotkey rmb = Hotkey.findUs("RMB");
+        int holdFrames = 3;
+        this.syntheticInput = new SyntheticInput(holdFrames, lmb, mmb, rmb);
+        stateManager.attach(syntheticInput);
+    }
+
+    /**
+     * Add application-specific hotkey bindings to the default input mode.
+     */
+    @Override
+    public void moreDefaultBindings() {
+        InputMode dim = getDefaultInputMode();
+        dim.bindSignal(ccwSignalName, "LMB");
+        dim.bindSignal(cwSignalName, "RMB");
+    }
+
+    /**
+     * Callback invoked once per frame.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void simpleUpdate(float tpf) {
+        super.simpleUpdate(tpf);
+
+        if (!isReady) {
+            for (CostMode mode : modes) {
+                if (!mode.isInitialized()) {
+                    return;
+                }
+            }
+            for (CostMode mode : modes) {
+                InputMode.pushOverlay(mode, true);
+            }
+            attachHelpNode();
+            this.isReady = true;
+        }
+
+        Signals signals = getSignals();
+        for (int lineI = 0; lineI < numLines; ++lineI) {
+            int stateIndex = signals.test(lineSignalIds[lineI]) ? 1 : 0;
+            String text = lineTexts[lineI][stateIndex];
+            for (Overlay overlay : overlays) {
+                overlay.setText(lineI, text);
+            }
+        }
+    }
+
+    /**
+     * Update the application, measuring the duration and heap allocation of
+     * each frame after the warm-up.
+     */
+    @Override
+    public void update() {
+        long startBytes = allocatedBytes();
+        long startNanos = System.nanoTime();
+        super.update();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long bytes = allocatedBytes() - startBytes;
+
+        ++frameCount;
+        if (isStopping || !isReady || frameCount <= numWarmup) {
+            return;
+        }
+
+        histogram.record(elapsedNanos);
+        this.totalBytes += bytes;
+        this.totalNanos += elapsedNanos;
+        if (histogram.count() >= numFrames) {
+            report();
+            this.isStopping = true;
+            stop();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine how many bytes the current thread has allocated.
+     *
+     * @return the count, or 0 if not supported
+     */
+    private long allocatedBytes() {
+        long result = 0L;
+        if (threadBean != null) {
+            long threadId = Thread.currentThread().getId();
+            result = threadBean.getThreadAllocatedBytes(threadId);
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the JVM's per-thread allocation counters, enabling them if
+     * necessary.
+     *
+     * @return the pre-existing bean, or null if not supported
+     */
+    private static ThreadMXBean allocationBean() {
+        Object bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof ThreadMXBean) {
+            ThreadMXBean result = (ThreadMXBean) bean;
+            if (result.isThreadAllocatedMemorySupported()) {
+                result.setThreadAllocatedMemoryEnabled(true);
+                return result;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Attach the selected help node for the active input mode to the GUI
+     * scene.
+     */
+    private void attachHelpNode() {
+        if (helpVersion.equals("none")) {
+            return;
+        }
+
+        Camera guiCamera = guiViewPort.getCamera();
+        float margin = 10f; // in pixels
+        float height = guiCamera.getHeight() - (2f * margin);
+        float width = 250f; // in pixels
+        float leftX = guiCamera.getWidth() - (width + margin);
+        Rectangle bounds
+                = new Rectangle(leftX, margin + height, width, height);
+        ColorSpace space = renderer.isMainFrameBufferSrgb()
+                ? ColorSpace.sRGB : ColorSpace.Linear;
+
+        HelpBuilder helpBuilder = new HelpBuilder();
+        InputMode activeMode = InputMode.getActiveMode();
+        Node helpNode;
+        if (helpVersion.equals("detailed")) {
+            helpNode = helpBuilder.buildDetailedNode(
+                    activeMode, bounds, guiFont, space);
+        } else {
+            helpNode = helpBuilder.buildMinimalNode(
+                    activeMode, bounds, guiFont, space);
+        }
+        guiNode.attachChild(helpNode);
+    }
+
+    /**
+     * Count the actions handled by the extra input modes.
+     *
+     * @return the total count (&ge;0)
+     */
+    private long countActions() {
+        long result = 0L;
+        for (CostMode mode : modes) {
+            result += mode.countActions();
+        }
+
+        return result;
+    }
+
+    /**
+     * Parse a non-negative count from a command-line argument.
+     *
+     * @param arg the entire argument (not null)
+     * @param value the text after the equals sign (not null)
+     * @return the count (&ge;0), or 0 if the value is invalid
+     */
+    private static int parseCount(String arg, String value) {
+        int result = 0;
+        try {
+            result = Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            logger.log(Level.WARNING, "Invalid command-line argument {0}",
+                    MyString.quote(arg));
+        }
+        if (result < 0) {
+            result = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Log the configuration and the measurements.
+     */
+    private void report() {
+        logger.log(Level.WARNING, "{0} modes, {1} overlays x {2} lines, "
+                + "{3} orbits, help={4}, dsEdit={5}", new Object[]{
+                    numModes, numOverlays, numLines, numOrbits,
+                    MyString.quote(helpVersion), showDsEdit
+                });
+
+        long numMeasured = histogram.count();
+        double meanMicros = 1e-3 * totalNanos / numMeasured;
+        logger.log(Level.WARNING, "{0} frames: mean={1} p50={2} p90={3} "
+                + "p99={4} p99.9={5} max={6} microseconds", new Object[]{
+                    numMeasured, meanMicros,
+                    1e-3 * histogram.percentileNanos(0.5),
+                    1e-3 * histogram.percentileNanos(0.9),
+                    1e-3 * histogram.percentileNanos(0.99),
+                    1e-3 * histogram.percentileNanos(0.999),
+                    1e-3 * histogram.maxNanos()
+                });
+
+        if (threadBean == null) {
+            logger.warning("Allocation counters aren't supported.");
+        } else {
+            double bytesPerFrame = totalBytes / (double) numMeasured;
+            double mbPerSecond = 1e3 * totalBytes / totalNanos;
+            logger.log(Level.WARNING, "allocated {0} bytes/frame, "
+                    + "{1} MB/second of frame time",
+                    new Object[]{bytesPerFrame, mbPerSecond});
+        }
+
+        logger.log(Level.WARNING, "{0} synthetic events, {1} mode actions",
+                new Object[]{syntheticInput.countEvents(), countActions()});
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * An input mode that binds the middle mouse button to a counted action.
+     */
+    private static class CostMode extends InputMode {
+        /**
+         * number of actions handled (&ge;0)
+         */
+        private long numActions = 0L;
+
+        /**
+         * Instantiate a disabled, uninitialized mode.
+         *
+         * @param index the mode's index among the extra modes (&ge;0)
+         */
+        CostMode(int index) {
+            super("cost" + index);
+        }
+
+        /**
+         * Count the actions handled.
+         *
+         * @return the count (&ge;0)
+         */
+        long countActions() {
+            return numActions;
+        }
+
+        /**
+         * Add all hotkey bindings for this mode.
+         */
+        @Override
+        protected void defaultBindings() {
+            bind("cost action", "MMB");
+        }
+
+        /**
+         * Process an action from the synthetic input.
+         *
+         * @param actionString textual description of the action (not null)
+         * @param ongoing true if the action is ongoing, otherwise false
+         * @param tpf the time interval between frames (in seconds, &ge;0)
+         */
+        @Override
+        public void onAction(
+                String actionString, boolean ongoing, float tpf) {
+            ++numActions;
+        }
+    }
+}
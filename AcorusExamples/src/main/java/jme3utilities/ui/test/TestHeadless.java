@@ -29,17 +29,26 @@
 package jme3utilities.ui.test;
 
 import com.jme3.system.JmeContext;
+import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
+import jme3utilities.MyString;
 import jme3utilities.ui.ActionApplication;
+import jme3utilities.ui.JournalReplay;
 
 /**
  * Test a headless ActionApplication, one without graphics or sound.
+ * <p>
+ * If a command-line argument is given, it's taken as the asset path of an
+ * input journal, which is replayed at maximum speed before the application
+ * stops. The default input mode's journaled hotkeys (or those of the bottom
+ * journaled layer) are bound as they were when the journal was recorded, and
+ * the actions they trigger are counted.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class TestHeadless extends ActionApplication {
+final class TestHeadless extends ActionApplication {
     // *************************************************************************
     // constants and loggers
 
@@ -49,19 +58,51 @@ class TestHeadless extends ActionApplication {
     final private static Logger logger
             = Logger.getLogger(TestHeadless.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * number of actions received without a registered handler
+     */
+    private int numActions = 0;
+    /**
+     * time when the replay started (in nanoseconds)
+     */
+    private long replayStart;
+    /**
+     * replay in progress, or null if none
+     */
+    private JournalReplay replay;
+    /**
+     * asset path of the journal to replay, or null if none
+     */
+    final private String journalPath;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate the application.
+     *
+     * @param journalPath the asset path of the journal to replay, or null if
+     * none
+     */
+    private TestHeadless(String journalPath) {
+        this.journalPath = journalPath;
+    }
+    // *************************************************************************
     // new methods exposed
 
     /**
      * Main entry point for the TestHeadless application.
      *
-     * @param ignored array of command-line arguments (not null)
+     * @param arguments array of command-line arguments (not null)
      */
-    public static void main(String[] ignored) {
+    public static void main(String[] arguments) {
         // Mute the chatty loggers in certain packages.
         Heart.setLoggingLevels(Level.WARNING);
 
         // Instantiate the application.
-        TestHeadless application = new TestHeadless();
+        String journalPath = (arguments.length > 0) ? arguments[0] : null;
+        TestHeadless application = new TestHeadless(journalPath);
 
         // Invoke the JME startup code, which in turn invokes acorusInit().
         application.start(JmeContext.Type.Headless);
@@ -75,6 +116,67 @@ class TestHeadless extends ActionApplication {
     @Override
     public void acorusInit() {
         flyCam.setEnabled(false);
-        stop();
+        if (journalPath == null) {
+            stop();
+            return;
+        }
+
+        try {
+            this.replay = new JournalReplay(journalPath);
+        } catch (IOException exception) {
+            logger.log(Level.SEVERE, "Failed to load input journal {0}.",
+                    MyString.quote(journalPath));
+            stop();
+            return;
+        }
+        stateManager.attach(replay);
+        this.replayStart = System.nanoTime();
+    }
+
+    /**
+     * Bind the journaled hotkeys in the default input mode.
+     */
+    @Override
+    public void moreDefaultBindings() {
+        if (replay != null) {
+            replay.bindRecorded(getDefaultInputMode());
+        }
+    }
+
+    /**
+     * Count an action that lacks a registered handler, as most journaled
+     * actions will in this application.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        if (ongoing) {
+            ++numActions;
+        }
+    }
+
+    /**
+     * Callback invoked once per frame.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void simpleUpdate(float tpf) {
+        super.simpleUpdate(tpf);
+
+        if (replay != null && replay.isFinished()) {
+            double seconds = 1e-9 * (System.nanoTime() - replayStart);
+            logger.log(Level.WARNING, "Replayed {0} frames in {1} seconds, "
+                    + "triggering {2} actions; {3} hotkey records skipped.",
+                    new Object[]{
+                        replay.countReplayed(), seconds, numActions,
+                        replay.countOrphans()
+                    });
+            this.replay = null;
+            stop();
+        }
     }
 }
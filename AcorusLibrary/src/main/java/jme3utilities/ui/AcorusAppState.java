@@ -82,6 +82,17 @@ public class AcorusAppState extends SimpleAppState {
         return (ActionApplication) simpleApplication;
     }
 
+    /**
+     * Access the analog-axis values. Allowed only if the AppState has been
+     * initialized.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public Axes getAxes() {
+        Axes result = getActionApplication().getAxes();
+        return result;
+    }
+
     /**
      * Access the user-interface signals. Allowed only if the AppState has been
      * initialized.
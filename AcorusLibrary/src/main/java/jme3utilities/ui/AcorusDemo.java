@@ -102,6 +102,10 @@ abstract public class AcorusDemo extends ActionApplication {
      * generate help nodes
      */
     final private HelpBuilder helpBuilder = new HelpBuilder();
+    /**
+     * help nodes previously built, for reuse
+     */
+    final private HelpCache helpCache = new HelpCache(helpBuilder);
     /**
      * which version of the help node is displayed (or would be if there were an
      * active InputMode)
@@ -127,6 +131,7 @@ abstract public class AcorusDemo extends ActionApplication {
      * initialization.
      */
     protected AcorusDemo() {
+        addDemoHandlers();
     }
 
     /**
@@ -139,6 +144,7 @@ abstract public class AcorusDemo extends ActionApplication {
      */
     protected AcorusDemo(AppState... initialAppStates) {
         super(initialAppStates);
+        addDemoHandlers();
     }
     // *************************************************************************
     // new methods exposed
@@ -461,9 +467,12 @@ abstract public class AcorusDemo extends ActionApplication {
     }
 
     /**
-     * Update the help node to reflect changed bindings.
+     * Update the help node to reflect changed bindings. Any cached help nodes
+     * are discarded.
      */
     public void updateHelp() {
+        helpCache.clear();
+
         InputMode activeMode = InputMode.getActiveMode();
         Camera guiCamera = guiViewPort.getCamera();
         int viewPortWidth = guiCamera.getWidth();
@@ -493,35 +502,6 @@ abstract public class AcorusDemo extends ActionApplication {
         guiViewPort.addProcessor(sceneProcessor);
     }
 
-    /**
-     * Process an action that wasn't handled by the active InputMode.
-     *
-     * @param actionString textual description of the action (not null)
-     * @param ongoing true if the action is ongoing, otherwise false
-     * @param tpf the time interval between frames (in seconds, &ge;0)
-     */
-    @Override
-    public void onAction(String actionString, boolean ongoing, float tpf) {
-        if (ongoing) {
-            switch (actionString) {
-                case asCollectGarbage:
-                    System.gc();
-                    return;
-                case asToggleHelp:
-                    toggleHelp();
-                    return;
-                case asTogglePause:
-                    togglePause();
-                    return;
-                case asToggleWorldAxes:
-                    toggleWorldAxes();
-                    return;
-                default:
-            }
-        }
-        super.onAction(actionString, ongoing, tpf);
-    }
-
     /**
      * Callback invoked when the active InputMode changes.
      *
@@ -560,6 +540,17 @@ abstract public class AcorusDemo extends ActionApplication {
     // *************************************************************************
     // private methods
 
+    /**
+     * Register handlers for the actions common to all demos.
+     */
+    private void addDemoHandlers() {
+        ActionRegistry handlers = getActionHandlers();
+        handlers.addOnPress(asCollectGarbage, System::gc);
+        handlers.addOnPress(asToggleHelp, this::toggleHelp);
+        handlers.addOnPress(asTogglePause, this::togglePause);
+        handlers.addOnPress(asToggleWorldAxes, this::toggleWorldAxes);
+    }
+
     /**
      * Invoke onColorSpaceChange() if the renderer's ColorSpace has changed
      * since the last time this method was invoked.
@@ -618,21 +609,29 @@ abstract public class AcorusDemo extends ActionApplication {
             return;
         }
 
-        switch (displayVersion) {
-            case Detailed:
-                this.helpNode = helpBuilder.buildDetailedNode(
-                        inputMode, bounds, guiFont, colorSpace);
-                guiNode.attachChild(helpNode);
-                break;
+        // Reuse a cached node, if it's still valid.
+        HelpCache.Key key = new HelpCache.Key(
+                inputMode, displayVersion, bounds, guiFont, colorSpace);
+        Node node = helpCache.find(key);
+        if (node == null) {
+            switch (displayVersion) {
+                case Detailed:
+                    node = helpBuilder.buildDetailedNode(
+                            inputMode, bounds, guiFont, colorSpace);
+                    break;
+
+                case Minimal:
+                    node = helpBuilder.buildMinimalNode(
+                            inputMode, bounds, guiFont, colorSpace);
+                    break;
 
-            case Minimal:
-                this.helpNode = helpBuilder.buildMinimalNode(
-                        inputMode, bounds, guiFont, colorSpace);
-                guiNode.attachChild(helpNode);
-                break;
-
-            default:
-                break;
+                default:
+                    return;
+            }
+            helpCache.put(key, node);
         }
+
+        this.helpNode = node;
+        guiNode.attachChild(helpNode);
     }
 }
@@ -92,7 +92,7 @@ class AcorusProcessor implements SceneProcessor {
 
     @Override
     public void postFrame(FrameBuffer unused) {
-        // do nothing
+        demoApp.getLatencyMonitor().endFrame();
     }
 
     @Override
@@ -44,6 +44,8 @@ import java.awt.DisplayMode;
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
@@ -97,6 +99,13 @@ abstract public class ActionApplication
      * directory for writing assets, or null if none has been designated
      */
     private static File sandboxDirectory = null;
+    /**
+     * true if actions are passed to
+     * {@link #onAction(java.lang.String, boolean, float)}, false if they're
+     * dispatched directly to registered handlers: set in
+     * {@link #simpleInitApp()}
+     */
+    private boolean customOnAction = true;
     /**
      * initial input mode: set in {@link #simpleInitApp()}
      */
@@ -105,10 +114,47 @@ abstract public class ActionApplication
      * quality level for recorded video (&ge;0, &lt;1)
      */
     private float recordingQuality = 1f;
+    /**
+     * run slow action handlers off the render thread
+     */
+    final private AsyncActions asyncActions = new AsyncActions();
+    /**
+     * flyCam signals that are currently active
+     */
+    final private HeldSignals flycamSignals = new HeldSignals(flycamNames);
+    /**
+     * handlers for actions not handled by the active input mode
+     */
+    final private ActionRegistry actionHandlers = new ActionRegistry();
+    /**
+     * track analog axes
+     */
+    final private Axes axes = new Axes();
+    /**
+     * optional journal to record input for replay
+     */
+    final private InputJournal inputJournal = new InputJournal();
+    /**
+     * optional instrumentation to measure input latency
+     */
+    final private LatencyMonitor latencyMonitor = new LatencyMonitor();
+    /**
+     * names of actions already checked for handlers
+     */
+    final private Set<String> checkedActions = new HashSet<>(64);
+    /**
+     * names of unhandled actions already reported as warnings
+     */
+    final private Set<String> reportedActions = new HashSet<>(16);
     /**
      * track input signals
      */
     final private Signals signals = new Signals();
+    /**
+     * publish the input state to other threads once per frame
+     */
+    final private SnapshotPublisher snapshotPublisher
+            = new SnapshotPublisher();
     // *************************************************************************
     // constructors
 
@@ -121,6 +167,7 @@ abstract public class ActionApplication
      * initialization.
      */
     protected ActionApplication() {
+        addDefaultHandlers();
     }
 
     /**
@@ -133,6 +180,7 @@ abstract public class ActionApplication
      */
     protected ActionApplication(AppState... initialAppStates) {
         super(initialAppStates);
+        addDefaultHandlers();
     }
     // *************************************************************************
     // new methods exposed
@@ -158,6 +206,50 @@ abstract public class ActionApplication
         }
     }
 
+    /**
+     * Check whether the named action has a registered handler. Invoked when a
+     * hotkey binding is resolved, so that unhandled actions are reported when
+     * they're bound rather than each time they occur. Each action is checked
+     * only once.
+     * <p>
+     * If the application declares (via {@link #usesRegisteredHandlersOnly()})
+     * that it handles all actions with registered handlers, an action without
+     * one can't be handled, so a warning is logged. Otherwise, an override of
+     * {@link #onAction(java.lang.String, boolean, float)} might handle it, so
+     * the report is logged at CONFIG level.
+     *
+     * @param mode the InputMode that bound the action (not null)
+     * @param actionName the name of the action (not null)
+     */
+    void checkHandler(InputMode mode, String actionName) {
+        assert mode != null;
+
+        if (actionName.isEmpty()
+                || actionName.startsWith(InputMode.signalActionPrefix)
+                || !checkedActions.add(actionName)) {
+            return; // handled by Signals, or already checked
+        }
+        int actionId = ActionRegistry.register(actionName);
+        if (actionHandlers.handles(actionId) || mode.handlesAction(actionId)) {
+            return;
+        }
+
+        if (customOnAction) {
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.log(Level.CONFIG, "No handler registered for action "
+                        + "{0} in {1} mode; it will be passed to onAction().",
+                        new Object[]{
+                            MyString.quote(actionName), mode.shortName()
+                        });
+            }
+        } else {
+            reportedActions.add(actionName);
+            logger.log(Level.WARNING, "No handler registered for action {0} "
+                    + "in {1} mode.",
+                    new Object[]{MyString.quote(actionName), mode.shortName()});
+        }
+    }
+
     /**
      * Designate a directory for writing assets, and if it doesn't exist, create
      * it. Also causes a ScreenshotAppState to be added during initialization.
@@ -209,6 +301,9 @@ abstract public class ActionApplication
      * Callback invoked when an ongoing action isn't handled after running
      * through the {@link #onAction(java.lang.String, boolean, float)} methods
      * of both the input mode and the application. Meant to be overridden.
+     * <p>
+     * A warning is logged only the first time each action goes unhandled, and
+     * not at all if it was already reported when it was bound.
      *
      * @param actionString textual description of the action (not null)
      */
@@ -216,8 +311,12 @@ abstract public class ActionApplication
         Validate.nonNull(actionString, "action string");
         assert isInitialized;
 
-        logger.log(Level.WARNING, "Ongoing action {0} was not handled.",
-                MyString.quote(actionString));
+        Level level = reportedActions.add(actionString)
+                ? Level.WARNING : Level.FINE;
+        if (logger.isLoggable(level)) {
+            logger.log(level, "Ongoing action {0} was not handled.",
+                    MyString.quote(actionString));
+        }
     }
 
     /**
@@ -241,6 +340,36 @@ abstract public class ActionApplication
         return result;
     }
 
+    /**
+     * Access the registry of action handlers, to which actions not handled by
+     * the active InputMode are dispatched.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public ActionRegistry getActionHandlers() {
+        return actionHandlers;
+    }
+
+    /**
+     * Access the executor for asynchronous actions.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public AsyncActions getAsyncActions() {
+        assert asyncActions != null;
+        return asyncActions;
+    }
+
+    /**
+     * Access the analog-axis values.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public Axes getAxes() {
+        assert axes != null;
+        return axes;
+    }
+
     /**
      * Access the default input mode.
      *
@@ -265,6 +394,26 @@ abstract public class ActionApplication
         return settings;
     }
 
+    /**
+     * Access the input journal, which records input for replay once started.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public InputJournal getInputJournal() {
+        assert inputJournal != null;
+        return inputJournal;
+    }
+
+    /**
+     * Access the input-latency instrumentation.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public LatencyMonitor getLatencyMonitor() {
+        assert latencyMonitor != null;
+        return latencyMonitor;
+    }
+
     /**
      * Access the signal tracker.
      *
@@ -279,6 +428,17 @@ abstract public class ActionApplication
         return signals;
     }
 
+    /**
+     * Access the publisher of input-state snapshots, which worker threads can
+     * read without locking.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public SnapshotPublisher getSnapshotPublisher() {
+        assert snapshotPublisher != null;
+        return snapshotPublisher;
+    }
+
     /**
      * Test whether a sandbox has been designated.
      *
@@ -316,6 +476,35 @@ abstract public class ActionApplication
         // do nothing
     }
 
+    /**
+     * Process an action that wasn't handled by the active input mode, given
+     * the action ID that was resolved when it was bound.
+     *
+     * @param actionId the ID of the action, or -1 if it isn't registered
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    void onAction(
+            int actionId, String actionString, boolean ongoing, float tpf) {
+        assert isInitialized;
+
+        if (customOnAction) {
+            /*
+             * Give the override the first chance. Actions it doesn't handle
+             * reach the registered handlers via super.onAction().
+             */
+            onAction(actionString, ongoing, tpf);
+            return;
+        }
+
+        boolean handled
+                = actionHandlers.dispatch(actionId, actionString, ongoing, tpf);
+        if (ongoing && !handled) {
+            didntHandle(actionString);
+        }
+    }
+
     /**
      * Callback invoked when the active InputMode changes. Meant to be
      * overridden.
@@ -363,6 +552,27 @@ abstract public class ActionApplication
         this.recordingQuality = qualityLevel;
     }
     // *************************************************************************
+    // new protected methods
+
+    /**
+     * Test whether this application handles all its actions with registered
+     * handlers, in other words, whether
+     * {@link #onAction(java.lang.String, boolean, float)} can be bypassed.
+     * Meant to be overridden. Invoked once, during initialization.
+     * <p>
+     * By default, every action not handled by the input mode is passed to
+     * onAction(), so that an override can intercept it (including built-in
+     * actions such as {@link #asScreenShot}). An application that doesn't
+     * override onAction() can return true, so that actions are dispatched
+     * directly by ID and unhandled actions are reported as warnings when
+     * they're bound.
+     *
+     * @return true if onAction() can be bypassed, otherwise false
+     */
+    protected boolean usesRegisteredHandlersOnly() {
+        return false;
+    }
+    // *************************************************************************
     // ActionListener methods
 
     /**
@@ -375,64 +585,35 @@ abstract public class ActionApplication
     @Override
     public void onAction(String actionString, boolean ongoing, float tpf) {
         assert isInitialized;
-        if (ongoing) {
-            // Process combo actions.
-            if (actionString.startsWith(InputMode.comboActionPrefix)) {
-                InputMode mode = InputMode.getActiveMode();
-                if (mode != null) {
-                    String arg = MyString.remainder(
-                            actionString, InputMode.comboActionPrefix);
-                    int code = Integer.parseInt(arg);
-                    mode.processCombos(code, tpf);
-                    return;
-                }
-            }
-            /*
-             * Process actions whose mappings may have been deleted by
-             * DefaultInputMode.initialize().
-             */
-            switch (actionString) {
-                case asScreenShot:
-                    ScreenshotAppState screenshotAppState
-                            = stateManager.getState(ScreenshotAppState.class);
-                    if (screenshotAppState != null) {
-                        screenshotAppState.onAction(actionString, ongoing, tpf);
-                        logger.log(Level.WARNING, "Captured a screenshot.");
-                    }
-                    break;
-
-                case asToggleRecorder:
-                    toggleRecorder();
-                    break;
-
-                case SimpleApplication.INPUT_MAPPING_EXIT:
-                    stop();
-                    break;
-
-                case SimpleApplication.INPUT_MAPPING_CAMERA_POS:
-                    dumpCameraPosition();
-                    break;
-
-                case SimpleApplication.INPUT_MAPPING_HIDE_STATS:
-                    StatsAppState statsAppState
-                            = stateManager.getState(StatsAppState.class);
-                    if (statsAppState != null) {
-                        statsAppState.toggleStats();
-                    }
-                    break;
-
-                case SimpleApplication.INPUT_MAPPING_MEMORY:
-                    BufferUtils.printCurrentDirectMemory(null);
-                    break;
-
-                default:
-                    didntHandle(actionString);
-            }
+        /*
+         * Process actions with registered handlers, including those whose
+         * mappings may have been deleted by DefaultInputMode.initialize().
+         */
+        int actionId = ActionRegistry.findId(actionString);
+        boolean handled
+                = actionHandlers.dispatch(actionId, actionString, ongoing, tpf);
+        if (ongoing && !handled) {
+            didntHandle(actionString);
         }
     }
     // *************************************************************************
     // SimpleApplication methods
 
+    /**
+     * Callback when the application is being shut down.
+     */
+    @Override
+    public void destroy() {
+        asyncActions.shutdown();
+        try {
+            inputJournal.stop();
+        } catch (IOException exception) {
+            logger.log(Level.SEVERE, "Failed to finish the input journal.",
+                    exception);
+        }
+        super.destroy();
+    }
+
     /**
      * Return the effective speed of physics and animations.
      *
@@ -479,6 +660,13 @@ abstract public class ActionApplication
         // Initialize hotkeys.
         Hotkey.initialize(inputManager);
 
+        this.customOnAction = !usesRegisteredHandlersOnly();
+        latencyMonitor.initialize(inputManager);
+        signals.initialize(inputManager);
+        flycamSignals.attach(signals);
+        InputMode.stack.setJournal(inputJournal);
+        InputMode.stack.setLatencyMonitor(latencyMonitor);
+
         this.defaultInputMode = stateManager.getState(DefaultInputMode.class);
         if (defaultInputMode == null) {
             // Attach and enable the default input mode.
@@ -514,22 +702,69 @@ abstract public class ActionApplication
     @Override
     public void simpleUpdate(float tpf) {
         assert isInitialized;
+
+        InputMode activeMode = InputMode.getActiveMode();
+        snapshotPublisher.publish(signals, axes, activeMode);
+        asyncActions.drain(); // results of asynchronous actions
+        /*
+         * Hotkey actions receive the unscaled tpf, so that's what the input
+         * clock accumulates and what the journal records.
+         */
+        float realTpf = tpf / speed;
+        if (!InputMode.stack.isReplaying()) {
+            InputMode.stack.advanceClock(realTpf);
+        }
+        inputJournal.recordFrame(realTpf);
         /*
          * Handle flyCam signals whose mappings may have been deleted by
          * DefaultInputMode.initialize().
          */
-        if (flyCam != null && flyCam.isEnabled()) {
-            float realTpf = tpf / speed;
-            for (String signalName : flycamNames) {
-                if (signals.test(signalName)) {
-                    flyCam.onAnalog(signalName, realTpf, realTpf);
-                }
+        int numActive = flycamSignals.countActive();
+        if (numActive > 0 && flyCam != null && flyCam.isEnabled()) {
+            for (int listIndex = 0; listIndex < numActive; ++listIndex) {
+                int position = flycamSignals.activePosition(listIndex);
+                String signalName = flycamNames[position];
+                flyCam.onAnalog(signalName, realTpf, realTpf);
             }
         }
     }
     // *************************************************************************
     // private methods
 
+    /**
+     * Register handlers for the actions whose mappings may have been deleted
+     * by DefaultInputMode.initialize().
+     */
+    private void addDefaultHandlers() {
+        actionHandlers.add(asScreenShot, this::captureScreenshot);
+        actionHandlers.addOnPress(asToggleRecorder, this::toggleRecorder);
+        actionHandlers.addOnPress(
+                SimpleApplication.INPUT_MAPPING_EXIT, this::stop);
+        actionHandlers.addOnPress(SimpleApplication.INPUT_MAPPING_CAMERA_POS,
+                this::dumpCameraPosition);
+        actionHandlers.addOnPress(SimpleApplication.INPUT_MAPPING_HIDE_STATS,
+                this::toggleStats);
+        actionHandlers.addOnPress(SimpleApplication.INPUT_MAPPING_MEMORY,
+                () -> BufferUtils.printCurrentDirectMemory(null));
+    }
+
+    /**
+     * Handle a "ScreenShot" action.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    private void captureScreenshot(
+            String actionString, boolean ongoing, float tpf) {
+        ScreenshotAppState screenshotAppState
+                = stateManager.getState(ScreenshotAppState.class);
+        if (ongoing && screenshotAppState != null) {
+            screenshotAppState.onAction(actionString, ongoing, tpf);
+            logger.log(Level.WARNING, "Captured a screenshot.");
+        }
+    }
+
     /**
      * Process a "SIMPLEAPP_CameraPos" action.
      */
@@ -585,4 +820,15 @@ abstract public class ActionApplication
             logger.log(Level.WARNING, "Stopped recording to {0}", quotedPath);
         }
     }
+
+    /**
+     * Toggle the visibility of the render statistics, if any.
+     */
+    private void toggleStats() {
+        StatsAppState statsAppState
+                = stateManager.getState(StatsAppState.class);
+        if (statsAppState != null) {
+            statsAppState.toggleStats();
+        }
+    }
 }
@@ -0,0 +1,282 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.controls.ActionListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Map action names to handlers, so that actions can be dispatched without
+ * chains of string comparisons.
+ * <p>
+ * Each action name is registered once and assigned a dense integer ID, shared
+ * by all registries. Handlers are kept in an array indexed by action ID, so
+ * dispatching an action costs one array index, once its ID is known.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ActionRegistry {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ActionRegistry.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * handler for each action, indexed by action ID (elements may be null)
+     */
+    private ActionListener[] handlers = new ActionListener[16];
+    /**
+     * names of all registered actions, indexed by action ID
+     */
+    final private static List<String> registeredNames = new ArrayList<>(64);
+    /**
+     * map registered action names to IDs
+     */
+    final private static Map<String, Integer> registeredIds
+            = new HashMap<>(64);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A no-arg constructor to avoid javadoc warnings from JDK 18.
+     */
+    public ActionRegistry() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add a handler for the named action, replacing any handler previously
+     * added for that action. The handler will be invoked for both ongoing
+     * and non-ongoing events.
+     *
+     * @param actionName the name of the action (not null, not empty)
+     * @param handler the desired handler (not null, alias created)
+     * @return the ID of the action (&ge;0)
+     */
+    public int add(String actionName, ActionListener handler) {
+        Validate.nonNull(handler, "handler");
+
+        int actionId = register(actionName);
+        int length = handlers.length;
+        if (actionId >= length) {
+            int newLength = Math.max(2 * length, actionId + 1);
+            this.handlers = Arrays.copyOf(handlers, newLength);
+        }
+        handlers[actionId] = handler;
+
+        return actionId;
+    }
+
+    /**
+     * Add an asynchronous handler for the named action, replacing any handler
+     * previously added for that action. On each ongoing event, the task is
+     * submitted to the specified executor, so it runs off the render thread.
+     * The Runnable it returns (if any) runs on the render thread later.
+     *
+     * @param actionName the name of the action (not null, not empty)
+     * @param executor the executor to use (not null, alias created)
+     * @param task the task to submit (not null, alias created)
+     * @return the ID of the action (&ge;0)
+     */
+    public int addAsync(String actionName, AsyncActions executor,
+            Callable<Runnable> task) {
+        Validate.nonNull(executor, "executor");
+        Validate.nonNull(task, "task");
+
+        int result = add(actionName, (actionString, ongoing, tpf) -> {
+            if (ongoing) {
+                executor.submit(task);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Add a handler for the named action, replacing any handler previously
+     * added for that action. The handler will be invoked only for ongoing
+     * events, such as key presses.
+     *
+     * @param actionName the name of the action (not null, not empty)
+     * @param handler the desired handler (not null, alias created)
+     * @return the ID of the action (&ge;0)
+     */
+    public int addOnPress(String actionName, Runnable handler) {
+        Validate.nonNull(handler, "handler");
+
+        int result = add(actionName, new PressAdapter(handler));
+        return result;
+    }
+
+    /**
+     * Dispatch an action to its handler, if any. Doesn't allocate any objects.
+     *
+     * @param actionId the ID of the action, or -1 if it isn't registered
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     * @return true if a handler was found, otherwise false
+     */
+    public boolean dispatch(
+            int actionId, String actionString, boolean ongoing, float tpf) {
+        if (actionId < 0 || actionId >= handlers.length) {
+            return false;
+        }
+        ActionListener handler = handlers[actionId];
+        if (handler == null) {
+            return false;
+        }
+
+        handler.onAction(actionString, ongoing, tpf);
+        return true;
+    }
+
+    /**
+     * Look up the ID of the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @return the ID (&ge;0) or -1 if the name has never been registered
+     */
+    public static int findId(String actionName) {
+        Validate.nonNull(actionName, "action name");
+
+        Integer id = registeredIds.get(actionName);
+        if (id == null) {
+            return -1;
+        } else {
+            return id;
+        }
+    }
+
+    /**
+     * Test whether this registry has a handler for the identified action.
+     *
+     * @param actionId the ID of the action, or -1 if it isn't registered
+     * @return true if it has a handler, otherwise false
+     */
+    public boolean handles(int actionId) {
+        boolean result = actionId >= 0 && actionId < handlers.length
+                && handlers[actionId] != null;
+        return result;
+    }
+
+    /**
+     * Return the name of the identified action.
+     *
+     * @param actionId the ID of the action (&ge;0)
+     * @return the name (not null)
+     */
+    public static String nameOf(int actionId) {
+        Validate.inRange(
+                actionId, "action ID", 0, registeredNames.size() - 1);
+        String result = registeredNames.get(actionId);
+        return result;
+    }
+
+    /**
+     * Look up the ID of the named action, registering the name if it hasn't
+     * been registered yet.
+     *
+     * @param actionName the name of the action (not null, not empty)
+     * @return the ID (&ge;0)
+     */
+    public static int register(String actionName) {
+        Validate.nonEmpty(actionName, "action name");
+
+        Integer id = registeredIds.get(actionName);
+        if (id == null) {
+            id = registeredNames.size();
+            registeredNames.add(actionName);
+            registeredIds.put(actionName, id);
+        }
+
+        return id;
+    }
+
+    /**
+     * Remove the handler (if any) for the named action.
+     *
+     * @param actionName the name of the action (not null)
+     */
+    public void remove(String actionName) {
+        int actionId = findId(actionName);
+        if (actionId >= 0 && actionId < handlers.length) {
+            handlers[actionId] = null;
+        }
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Adapt a Runnable to handle only ongoing events.
+     */
+    final private static class PressAdapter implements ActionListener {
+        /**
+         * code to run when the action is ongoing (not null)
+         */
+        final private Runnable handler;
+
+        /**
+         * Instantiate an adapter for the specified Runnable.
+         *
+         * @param handler the code to run (not null, alias created)
+         */
+        PressAdapter(Runnable handler) {
+            this.handler = handler;
+        }
+
+        /**
+         * Run the code if the action is ongoing.
+         *
+         * @param actionString textual description of the action (unused)
+         * @param ongoing true if the action is ongoing, otherwise false
+         * @param tpf time interval between frames (unused)
+         */
+        @Override
+        public void onAction(String actionString, boolean ongoing, float tpf) {
+            if (ongoing) {
+                handler.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Run slow action handlers (such as file or preference I/O) off the render
+ * thread, and marshal their results back to it.
+ * <p>
+ * Each task runs on a managed executor: virtual threads where the JVM provides
+ * them, otherwise a cached pool of daemon threads. A task returns an optional
+ * completion (a Runnable) which is added to a lock-free queue. The render
+ * thread drains the queue once per frame, within a time budget, so a burst of
+ * completions can't cause a frame spike.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class AsyncActions {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AsyncActions.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of tasks submitted but not yet finished
+     */
+    final private AtomicInteger numRunning = new AtomicInteger(0);
+    /**
+     * executor for tasks, or null if not yet created
+     */
+    private ExecutorService executor = null;
+    /**
+     * maximum time to spend running completions each frame (in nanoseconds,
+     * &ge;0)
+     */
+    private long budgetNanos = 2_000_000L;
+    /**
+     * completions waiting to run on the render thread
+     */
+    final private Queue<Runnable> completions = new ConcurrentLinkedQueue<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an idle instance. The executor is created when the first
+     * task is submitted.
+     */
+    AsyncActions() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the completions waiting to run on the render thread.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countCompletions() {
+        int result = completions.size();
+        return result;
+    }
+
+    /**
+     * Count the tasks that have been submitted but haven't finished.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countRunning() {
+        int result = numRunning.get();
+        return result;
+    }
+
+    /**
+     * Run queued completions until the queue is empty or the frame budget is
+     * exhausted. At least one completion is run, if any is queued. Invoked
+     * once per frame on the render thread.
+     *
+     * @return the number of completions run (&ge;0)
+     */
+    int drain() {
+        long start = System.nanoTime();
+        int result = 0;
+        Runnable completion;
+        while ((completion = completions.poll()) != null) {
+            ++result;
+            try {
+                completion.run();
+            } catch (RuntimeException exception) {
+                logger.log(Level.SEVERE, "Action completion failed.",
+                        exception);
+            }
+            if (System.nanoTime() - start >= budgetNanos) {
+                break; // Leave the rest for the next frame.
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Alter the time budget for running completions.
+     *
+     * @param seconds the maximum time to spend each frame (in seconds,
+     * &ge;0, default=0.002)
+     */
+    public void setFrameBudget(float seconds) {
+        Validate.nonNegative(seconds, "seconds");
+        this.budgetNanos = (long) (1e9 * seconds);
+    }
+
+    /**
+     * Stop accepting tasks. Tasks already running are allowed to finish, but
+     * their completions won't run unless the queue is drained.
+     */
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Run the specified task off the render thread. The Runnable it returns
+     * (if any) will be run on the render thread during a later frame. Must be
+     * invoked on the render thread.
+     *
+     * @param task the task to run (not null, alias created)
+     */
+    public void submit(Callable<Runnable> task) {
+        Validate.nonNull(task, "task");
+
+        if (executor == null) {
+            this.executor = createExecutor();
+        }
+        numRunning.incrementAndGet();
+        try {
+            executor.execute(() -> runTask(task));
+        } catch (RejectedExecutionException exception) {
+            numRunning.decrementAndGet();
+            logger.log(Level.WARNING, "Task rejected after shutdown.");
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create an executor, preferring virtual threads.
+     *
+     * @return a new executor (not null)
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService result = (ExecutorService) factory.invoke(null);
+            return result;
+        } catch (ReflectiveOperationException exception) {
+            // virtual threads aren't available on this JVM
+        }
+
+        AtomicInteger numThreads = new AtomicInteger(0);
+        ExecutorService result = Executors.newCachedThreadPool(runnable -> {
+            int threadIndex = numThreads.incrementAndGet();
+            Thread thread = new Thread(runnable, "Acorus async-" + threadIndex);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        return result;
+    }
+
+    /**
+     * Run a task on a worker thread and queue its completion, if any.
+     *
+     * @param task the task to run (not null)
+     */
+    private void runTask(Callable<Runnable> task) {
+        try {
+            Runnable completion = task.call();
+            if (completion != null) {
+                completions.add(completion);
+            }
+        } catch (Exception exception) {
+            logger.log(Level.SEVERE, "Asynchronous action failed.", exception);
+        } finally {
+            numRunning.decrementAndGet();
+        }
+    }
+}
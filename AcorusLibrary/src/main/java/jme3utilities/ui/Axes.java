@@ -0,0 +1,205 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Track the values of analog axes, such as joystick sticks, triggers, and
+ * mouse motion, as bound by the active InputMode.
+ * <p>
+ * Each axis name is registered once and assigned a dense integer ID, shared by
+ * all instances. Values are kept in a primitive array indexed by axis ID, so
+ * app states can read them each frame without any string handling: look up the
+ * ID once using {@link #register(java.lang.String)}, then invoke
+ * {@link #value(int)} as often as needed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class Axes {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Axes.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * current value of each axis, indexed by axis ID
+     */
+    private float[] values = new float[16];
+    /**
+     * names of all registered axes, indexed by axis ID
+     */
+    final private static List<String> registeredNames = new ArrayList<>(16);
+    /**
+     * map registered axis names to IDs
+     */
+    final private static Map<String, Integer> registeredIds
+            = new HashMap<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A no-arg constructor to avoid javadoc warnings from JDK 18.
+     */
+    public Axes() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified amount to the identified axis. Used for relative
+     * inputs, such as mouse motion.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     * @param amount the amount to add
+     */
+    void add(int axisId, float amount) {
+        assert axisId >= 0 : axisId;
+
+        ensureCapacity(axisId);
+        values[axisId] += amount;
+    }
+
+    /**
+     * Return the number of axes that might have non-zero values.
+     *
+     * @return the count (&ge;0)
+     */
+    int capacity() {
+        int result = values.length;
+        return result;
+    }
+
+    /**
+     * Look up the ID of the named axis.
+     *
+     * @param axisName the name of the axis (not null)
+     * @return the ID (&ge;0) or -1 if the name has never been registered
+     */
+    public static int findId(String axisName) {
+        Validate.nonNull(axisName, "axis name");
+
+        Integer id = registeredIds.get(axisName);
+        if (id == null) {
+            return -1;
+        } else {
+            return id;
+        }
+    }
+
+    /**
+     * Return the name of the identified axis.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     * @return the name (not null)
+     */
+    public static String nameOf(int axisId) {
+        Validate.inRange(
+                axisId, "axis ID", 0, registeredNames.size() - 1);
+        String result = registeredNames.get(axisId);
+        return result;
+    }
+
+    /**
+     * Look up the ID of the named axis, registering the name if it hasn't been
+     * registered yet.
+     *
+     * @param axisName the name of the axis (not null, not empty)
+     * @return the ID (&ge;0)
+     */
+    public static int register(String axisName) {
+        Validate.nonEmpty(axisName, "axis name");
+
+        Integer id = registeredIds.get(axisName);
+        if (id == null) {
+            id = registeredNames.size();
+            registeredNames.add(axisName);
+            registeredIds.put(axisName, id);
+        }
+
+        return id;
+    }
+
+    /**
+     * Alter the value of the identified axis.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     * @param newValue the desired value
+     */
+    void set(int axisId, float newValue) {
+        assert axisId >= 0 : axisId;
+
+        ensureCapacity(axisId);
+        values[axisId] = newValue;
+    }
+
+    /**
+     * Return the current value of the identified axis. Doesn't allocate any
+     * objects.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     * @return the value (0 if the axis isn't bound or isn't deflected)
+     */
+    public float value(int axisId) {
+        if (axisId < 0 || axisId >= values.length) {
+            return 0f;
+        }
+
+        float result = values[axisId];
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Grow the values array, if necessary, to include the identified axis.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     */
+    private void ensureCapacity(int axisId) {
+        int length = values.length;
+        if (axisId >= length) {
+            int newLength = Math.max(2 * length, axisId + 1);
+            this.values = Arrays.copyOf(values, newLength);
+        }
+    }
+}
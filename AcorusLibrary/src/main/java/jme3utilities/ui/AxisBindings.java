@@ -0,0 +1,636 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.JoyAxisEvent;
+import com.jme3.input.event.JoyButtonEvent;
+import com.jme3.input.event.KeyInputEvent;
+import com.jme3.input.event.MouseButtonEvent;
+import com.jme3.input.event.MouseMotionEvent;
+import com.jme3.input.event.TouchEvent;
+import com.jme3.math.FastMath;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * Analog-axis bindings of an InputMode: each analog source (a mouse axis or a
+ * joystick axis) may be bound to a named axis in {@link Axes}, and each axis
+ * has its own response (deadzone, curve, and sensitivity).
+ * <p>
+ * Source names are "mouse x", "mouse y", "mouse wheel", and "jJ.aA" for axis A
+ * of joystick J. Values arrive through a RawInputListener, bypassing the
+ * string-keyed mappings of the InputManager, and are written directly to the
+ * Axes array. Joystick axes are absolute: after the deadzone is removed, the
+ * magnitude is rescaled to [0, 1], raised to the power of the curve, and
+ * multiplied by the sensitivity. Mouse axes are relative: their values are
+ * the shaped motion since the previous frame.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class AxisBindings {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * index of the mouse wheel in {@link #mouseAxisIds}
+     */
+    final private static int mouseWheel = 2;
+    /**
+     * index of mouse X in {@link #mouseAxisIds}
+     */
+    final private static int mouseX = 0;
+    /**
+     * index of mouse Y in {@link #mouseAxisIds}
+     */
+    final private static int mouseY = 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AxisBindings.class.getName());
+    /**
+     * pattern for matching the name of a joystick-axis source
+     */
+    final private static Pattern joystickAxisPattern
+            = Pattern.compile("j(\\d+)\\.a(\\d+)");
+    /**
+     * prefix for the property keys of axis bindings
+     */
+    final private static String bindingKeyPrefix = "axis ";
+    /**
+     * prefix for the property keys of axis responses
+     */
+    final private static String responseKeyPrefix = "response ";
+    /**
+     * names of the mouse sources, indexed like {@link #mouseAxisIds}
+     */
+    final private static String[] mouseSourceNames
+            = {"mouse x", "mouse y", "mouse wheel"};
+    // *************************************************************************
+    // fields
+
+    /**
+     * axis values to update while attached, or null if detached
+     */
+    private Axes target = null;
+    /**
+     * Axes of the application, or null if not yet known
+     */
+    private Axes axes = null;
+    /**
+     * deadzone of each axis, indexed by axis ID
+     */
+    private float[] deadzones = new float[0];
+    /**
+     * curve exponent of each axis, indexed by axis ID
+     */
+    private float[] curves = new float[0];
+    /**
+     * sensitivity of each axis, indexed by axis ID
+     */
+    private float[] sensitivities = new float[0];
+    /**
+     * input manager while attached, or null if detached
+     */
+    private InputManager inputManager = null;
+    /**
+     * number of bound joystick axes
+     */
+    private int numJoystickAxes = 0;
+    /**
+     * IDs of the axes bound to bound joystick axes, parallel to joystickKeys
+     */
+    private int[] joystickAxisIds = new int[4];
+    /**
+     * sorted keys of bound joystick axes: the joystick index in the upper 16
+     * bits and the axis index in the lower 16 bits
+     */
+    private int[] joystickKeys = new int[4];
+    /**
+     * IDs of the axes bound to the mouse sources (-1 if unbound)
+     */
+    final private int[] mouseAxisIds = {-1, -1, -1};
+    /**
+     * listener for raw input events
+     */
+    final private Listener listener = new Listener();
+    /**
+     * map source names to axis names
+     */
+    final private Map<String, String> sourceToAxis = new TreeMap<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty set of bindings.
+     */
+    AxisBindings() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Start writing axis values, provided the Axes are known.
+     *
+     * @param inputManager the application's input manager (not null)
+     */
+    void attach(InputManager inputManager) {
+        assert inputManager != null;
+
+        if (this.inputManager == null && axes != null) {
+            this.inputManager = inputManager;
+            this.target = axes;
+            inputManager.addRawInputListener(listener);
+        }
+    }
+
+    /**
+     * Determine which axis the named source is bound to.
+     *
+     * @param sourceName the name of the analog source (not null)
+     * @return the axis name, or null if not bound
+     */
+    public String axisName(String sourceName) {
+        Validate.nonNull(sourceName, "source name");
+        String result = sourceToAxis.get(sourceName);
+        return result;
+    }
+
+    /**
+     * Bind the named source to the named axis. Any existing binding for the
+     * source is replaced. Takes effect immediately, even while attached.
+     *
+     * @param sourceName the name of the analog source (not null)
+     * @param axisName the name of the axis (not null, not empty)
+     */
+    public void bind(String sourceName, String axisName) {
+        Validate.require(
+                isSourceName(sourceName), "the name of an analog source");
+        Validate.nonEmpty(axisName, "axis name");
+
+        sourceToAxis.put(sourceName, axisName);
+        Axes.register(axisName);
+        rebuildTables();
+    }
+
+    /**
+     * Remove all bindings and responses.
+     */
+    void clear() {
+        zeroBoundAxes();
+        sourceToAxis.clear();
+        this.deadzones = new float[0];
+        this.curves = new float[0];
+        this.sensitivities = new float[0];
+        rebuildTables();
+    }
+
+    /**
+     * Determine the curve exponent of the named axis.
+     *
+     * @param axisName the name of the axis (not null)
+     * @return the exponent (&gt;0, default=1)
+     */
+    public float curve(String axisName) {
+        int axisId = Axes.findId(axisName);
+        float result = (axisId < 0 || axisId >= curves.length)
+                ? 1f : curves[axisId];
+        return result;
+    }
+
+    /**
+     * Determine the deadzone of the named axis.
+     *
+     * @param axisName the name of the axis (not null)
+     * @return the deadzone (&ge;0, default=0)
+     */
+    public float deadzone(String axisName) {
+        int axisId = Axes.findId(axisName);
+        float result = (axisId < 0 || axisId >= deadzones.length)
+                ? 0f : deadzones[axisId];
+        return result;
+    }
+
+    /**
+     * Stop writing axis values and zero any values this set wrote.
+     */
+    void detach() {
+        if (inputManager != null) {
+            inputManager.removeRawInputListener(listener);
+            zeroBoundAxes();
+            this.inputManager = null;
+            this.target = null;
+        }
+    }
+
+    /**
+     * Test whether the specified string names an analog source.
+     *
+     * @param sourceName the string to test (may be null)
+     * @return true if it names a source, otherwise false
+     */
+    public static boolean isSourceName(String sourceName) {
+        if (sourceName == null) {
+            return false;
+        }
+        for (String mouseName : mouseSourceNames) {
+            if (mouseName.equals(sourceName)) {
+                return true;
+            }
+        }
+
+        Matcher matcher = joystickAxisPattern.matcher(sourceName);
+        boolean result = matcher.matches();
+
+        return result;
+    }
+
+    /**
+     * Enumerate the bound sources.
+     *
+     * @return a new collection of source names in lexicographic order
+     */
+    public Collection<String> listSources() {
+        Collection<String> result = new TreeSet<>(sourceToAxis.keySet());
+        return result;
+    }
+
+    /**
+     * Replace all bindings and responses with any found in the specified
+     * properties, removing the corresponding entries from them. If no axis
+     * entries are found, the existing bindings are left untouched.
+     *
+     * @param properties the loaded bindings (not null, modified)
+     */
+    void load(Properties properties) {
+        boolean isCleared = false;
+        for (String key : properties.stringPropertyNames()) {
+            boolean isBinding = key.startsWith(bindingKeyPrefix);
+            if (!isBinding && !key.startsWith(responseKeyPrefix)) {
+                continue;
+            }
+            if (!isCleared) {
+                clear();
+                isCleared = true;
+            }
+
+            String value = (String) properties.remove(key);
+            try {
+                if (isBinding) {
+                    String sourceName
+                            = MyString.remainder(key, bindingKeyPrefix);
+                    bind(sourceName, value);
+                } else {
+                    String axisName
+                            = MyString.remainder(key, responseKeyPrefix);
+                    String[] words = value.trim().split("\\s+");
+                    setResponse(axisName, Float.parseFloat(words[0]),
+                            Float.parseFloat(words[1]),
+                            Float.parseFloat(words[2]));
+                }
+            } catch (IllegalArgumentException
+                    | ArrayIndexOutOfBoundsException exception) {
+                logger.log(Level.WARNING, "Skipped invalid entry {0}={1}",
+                        new Object[]{
+                            MyString.quote(key), MyString.quote(value)
+                        });
+            }
+        }
+    }
+
+    /**
+     * Determine the sensitivity of the named axis.
+     *
+     * @param axisName the name of the axis (not null)
+     * @return the sensitivity (default=1, negative to invert)
+     */
+    public float sensitivity(String axisName) {
+        int axisId = Axes.findId(axisName);
+        float result = (axisId < 0 || axisId >= sensitivities.length)
+                ? 1f : sensitivities[axisId];
+        return result;
+    }
+
+    /**
+     * Specify which Axes to write. Invoked once, during initialization of the
+     * InputMode.
+     *
+     * @param axes the application's Axes (not null, alias created)
+     */
+    void setAxes(Axes axes) {
+        assert axes != null;
+        this.axes = axes;
+    }
+
+    /**
+     * Alter the response of the named axis.
+     *
+     * @param axisName the name of the axis (not null, not empty)
+     * @param deadzone the magnitude below which input is ignored (&ge;0,
+     * &lt;1 for joystick axes, default=0)
+     * @param curve the exponent applied to the magnitude (&gt;0, 1&rarr;linear,
+     * default=1)
+     * @param sensitivity the scale factor applied last (default=1, negative to
+     * invert)
+     */
+    public void setResponse(String axisName, float deadzone, float curve,
+            float sensitivity) {
+        Validate.nonEmpty(axisName, "axis name");
+        Validate.nonNegative(deadzone, "deadzone");
+        Validate.positive(curve, "curve");
+        Validate.finite(sensitivity, "sensitivity");
+
+        int axisId = Axes.register(axisName);
+        int length = deadzones.length;
+        if (axisId >= length) {
+            int newLength = Math.max(2 * length, axisId + 1);
+            this.deadzones = Arrays.copyOf(deadzones, newLength);
+            this.curves = Arrays.copyOf(curves, newLength);
+            this.sensitivities = Arrays.copyOf(sensitivities, newLength);
+            Arrays.fill(curves, length, newLength, 1f);
+            Arrays.fill(sensitivities, length, newLength, 1f);
+        }
+        deadzones[axisId] = deadzone;
+        curves[axisId] = curve;
+        sensitivities[axisId] = sensitivity;
+    }
+
+    /**
+     * Add all bindings and non-default responses to the specified properties.
+     *
+     * @param properties the properties to add to (not null, modified)
+     */
+    void store(Properties properties) {
+        for (Map.Entry<String, String> entry : sourceToAxis.entrySet()) {
+            String key = bindingKeyPrefix + entry.getKey();
+            properties.setProperty(key, entry.getValue());
+        }
+
+        int numAxes = deadzones.length;
+        for (int axisId = 0; axisId < numAxes; ++axisId) {
+            if (deadzones[axisId] != 0f || curves[axisId] != 1f
+                    || sensitivities[axisId] != 1f) {
+                String key = responseKeyPrefix + Axes.nameOf(axisId);
+                String value = String.format("%s %s %s", deadzones[axisId],
+                        curves[axisId], sensitivities[axisId]);
+                properties.setProperty(key, value);
+            }
+        }
+    }
+
+    /**
+     * Remove any binding for the named source.
+     *
+     * @param sourceName the name of the analog source (not null)
+     */
+    public void unbind(String sourceName) {
+        Validate.nonNull(sourceName, "source name");
+
+        if (sourceToAxis.containsKey(sourceName)) {
+            zeroBoundAxes();
+            sourceToAxis.remove(sourceName);
+            rebuildTables();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Rebuild the lookup tables used by the listener from the bindings.
+     */
+    private void rebuildTables() {
+        Arrays.fill(mouseAxisIds, -1);
+        int numBindings = sourceToAxis.size();
+        if (joystickKeys.length < numBindings) {
+            this.joystickKeys = new int[numBindings];
+            this.joystickAxisIds = new int[numBindings];
+        }
+        this.numJoystickAxes = 0;
+
+        for (Map.Entry<String, String> entry : sourceToAxis.entrySet()) {
+            String sourceName = entry.getKey();
+            int axisId = Axes.register(entry.getValue());
+            int mouseIndex = Arrays.asList(mouseSourceNames)
+                    .indexOf(sourceName);
+            if (mouseIndex >= 0) {
+                mouseAxisIds[mouseIndex] = axisId;
+                continue;
+            }
+
+            Matcher matcher = joystickAxisPattern.matcher(sourceName);
+            boolean matches = matcher.matches();
+            assert matches : sourceName;
+            int joyIndex = Integer.parseInt(matcher.group(1));
+            int axisIndex = Integer.parseInt(matcher.group(2));
+            int key = (joyIndex << 16) | axisIndex;
+
+            // insertion sort, since bindings change rarely
+            int index = numJoystickAxes;
+            while (index > 0 && joystickKeys[index - 1] > key) {
+                joystickKeys[index] = joystickKeys[index - 1];
+                joystickAxisIds[index] = joystickAxisIds[index - 1];
+                --index;
+            }
+            joystickKeys[index] = key;
+            joystickAxisIds[index] = axisId;
+            ++numJoystickAxes;
+        }
+    }
+
+    /**
+     * Shape a raw input value using the response of the identified axis.
+     * Doesn't allocate any objects.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     * @param raw the raw input value
+     * @param isAbsolute true for a joystick axis, false for a mouse axis
+     * @return the shaped value
+     */
+    private float shape(int axisId, float raw, boolean isAbsolute) {
+        float deadzone = 0f;
+        float curve = 1f;
+        float sensitivity = 1f;
+        if (axisId < deadzones.length) {
+            deadzone = deadzones[axisId];
+            curve = curves[axisId];
+            sensitivity = sensitivities[axisId];
+        }
+
+        float magnitude = FastMath.abs(raw);
+        if (magnitude <= deadzone) {
+            return 0f;
+        }
+        magnitude -= deadzone;
+        if (isAbsolute && deadzone < 1f) {
+            magnitude /= 1f - deadzone; // rescale to [0, 1]
+        }
+        if (curve != 1f) {
+            magnitude = FastMath.pow(magnitude, curve);
+        }
+
+        float result = Math.copySign(magnitude * sensitivity, raw);
+        return result;
+    }
+
+    /**
+     * Zero the values of all bound axes, if attached.
+     */
+    private void zeroBoundAxes() {
+        if (target == null) {
+            return;
+        }
+
+        for (int axisId : mouseAxisIds) {
+            if (axisId >= 0) {
+                target.set(axisId, 0f);
+            }
+        }
+        for (int index = 0; index < numJoystickAxes; ++index) {
+            target.set(joystickAxisIds[index], 0f);
+        }
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Receive raw input events and write shaped values to the Axes. Doesn't
+     * allocate any objects.
+     */
+    final private class Listener implements RawInputListener {
+        /**
+         * Callback invoked at the start of each batch of input events: reset
+         * the relative axes, so they accumulate only this frame's motion.
+         */
+        @Override
+        public void beginInput() {
+            Axes values = target;
+            if (values != null) {
+                for (int axisId : mouseAxisIds) {
+                    if (axisId >= 0) {
+                        values.set(axisId, 0f);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void endInput() {
+            // do nothing
+        }
+
+        /**
+         * Callback to process a joystick-axis event.
+         *
+         * @param event the event (not null)
+         */
+        @Override
+        public void onJoyAxisEvent(JoyAxisEvent event) {
+            Axes values = target;
+            if (values == null || numJoystickAxes == 0) {
+                return;
+            }
+
+            int joyIndex = event.getJoyIndex();
+            int axisIndex = event.getAxis().getAxisId();
+            int key = (joyIndex << 16) | axisIndex;
+            int index = Arrays.binarySearch(
+                    joystickKeys, 0, numJoystickAxes, key);
+            if (index >= 0) {
+                int axisId = joystickAxisIds[index];
+                float value = shape(axisId, event.getValue(), true);
+                values.set(axisId, value);
+            }
+        }
+
+        @Override
+        public void onJoyButtonEvent(JoyButtonEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onKeyEvent(KeyInputEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onMouseButtonEvent(MouseButtonEvent event) {
+            // do nothing
+        }
+
+        /**
+         * Callback to process a mouse-motion event.
+         *
+         * @param event the event (not null)
+         */
+        @Override
+        public void onMouseMotionEvent(MouseMotionEvent event) {
+            Axes values = target;
+            if (values == null) {
+                return;
+            }
+
+            accumulate(values, mouseX, event.getDX());
+            accumulate(values, mouseY, event.getDY());
+            accumulate(values, mouseWheel, event.getDeltaWheel());
+        }
+
+        @Override
+        public void onTouchEvent(TouchEvent event) {
+            // do nothing
+        }
+
+        /**
+         * Add shaped relative motion to the axis bound to the indexed mouse
+         * source, if any.
+         *
+         * @param values the values to update (not null)
+         * @param mouseIndex the index of the mouse source (&ge;0, &lt;3)
+         * @param delta the raw motion (in pixels or wheel units)
+         */
+        private void accumulate(Axes values, int mouseIndex, int delta) {
+            int axisId = mouseAxisIds[mouseIndex];
+            if (axisId >= 0 && delta != 0) {
+                values.add(axisId, shape(axisId, delta, false));
+            }
+        }
+    }
+}
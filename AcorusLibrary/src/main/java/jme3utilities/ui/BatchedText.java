@@ -0,0 +1,342 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapCharacter;
+import com.jme3.font.BitmapCharacterSet;
+import com.jme3.font.BitmapFont;
+import com.jme3.material.Material;
+import com.jme3.math.ColorRGBA;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.util.BufferUtils;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Lay out many single-line runs of text into one quad mesh per font page, with
+ * per-vertex colors, so that an entire block of help text costs one draw call
+ * per page instead of one (or more) per run.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BatchedText {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BatchedText.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * font used for all runs
+     */
+    final private BitmapFont font;
+    /**
+     * runs of text added so far, in order of addition
+     */
+    final private List<Run> runs = new ArrayList<>(64);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch for the specified font, rendered at its
+     * native size.
+     *
+     * @param font the font to use (not null, alias created)
+     */
+    BatchedText(BitmapFont font) {
+        assert font != null;
+        this.font = font;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add a single-line run of text.
+     *
+     * @param text the text (not null, no newlines)
+     * @param x the X coordinate of the run's left edge
+     * @param y the Y coordinate of the run's top edge
+     * @param color the color of the run (not null, unaffected)
+     */
+    void add(String text, float x, float y, ColorRGBA color) {
+        Run run = new Run(text, x, y, color);
+        runs.add(run);
+    }
+
+    /**
+     * Build one Geometry for each font page used and attach them to the
+     * specified parent.
+     *
+     * @param parent where to attach the geometries (not null, modified)
+     * @param z the Z offset of the text relative to the parent
+     */
+    void attachTo(Node parent, float z) {
+        int numPages = font.getPageSize();
+        for (int pageIndex = 0; pageIndex < numPages; ++pageIndex) {
+            int numQuads = countQuads(pageIndex);
+            if (numQuads > 0) {
+                Mesh mesh = buildMesh(pageIndex, numQuads);
+                String name = "help text page " + pageIndex;
+                Geometry geometry = new Geometry(name, mesh);
+                Material material = font.getPage(pageIndex);
+                geometry.setMaterial(material);
+                geometry.setLocalTranslation(0f, 0f, z);
+                parent.attachChild(geometry);
+            }
+        }
+    }
+
+    /**
+     * Return the height of a line of text.
+     *
+     * @return the height (in framebuffer pixels, &gt;0)
+     */
+    float lineHeight() {
+        float result = font.getCharSet().getLineHeight();
+        return result;
+    }
+
+    /**
+     * Measure the width of a single-line run of text.
+     *
+     * @param text the text to measure (not null, no newlines)
+     * @return the width (in framebuffer pixels, &ge;0)
+     */
+    float measure(String text) {
+        BitmapCharacterSet charSet = font.getCharSet();
+
+        float result = 0f;
+        BitmapCharacter previous = null;
+        int length = text.length();
+        for (int charIndex = 0; charIndex < length; ++charIndex) {
+            char c = text.charAt(charIndex);
+            BitmapCharacter bc = charSet.getCharacter(c);
+            if (bc != null) {
+                if (previous != null) {
+                    result += previous.getKerning(c);
+                }
+                result += bc.getXAdvance();
+                previous = bc;
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Build the mesh for the specified font page.
+     *
+     * @param pageIndex the index of the page (&ge;0)
+     * @param numQuads the number of visible characters on the page (&gt;0)
+     * @return a new Mesh
+     */
+    private Mesh buildMesh(int pageIndex, int numQuads) {
+        BitmapCharacterSet charSet = font.getCharSet();
+        float texWidth = charSet.getWidth();
+        float texHeight = charSet.getHeight();
+
+        int numVertices = 4 * numQuads;
+        FloatBuffer positions = BufferUtils.createFloatBuffer(3 * numVertices);
+        FloatBuffer texCoords = BufferUtils.createFloatBuffer(2 * numVertices);
+        ByteBuffer colors = BufferUtils.createByteBuffer(4 * numVertices);
+        IntBuffer indices = BufferUtils.createIntBuffer(6 * numQuads);
+
+        int vertexIndex = 0;
+        for (Run run : runs) {
+            byte[] rgba = run.rgba;
+            float penX = run.x;
+            BitmapCharacter previous = null;
+            int length = run.text.length();
+            for (int charIndex = 0; charIndex < length; ++charIndex) {
+                char c = run.text.charAt(charIndex);
+                BitmapCharacter bc = charSet.getCharacter(c);
+                if (bc == null) {
+                    continue;
+                }
+                if (previous != null) {
+                    penX += previous.getKerning(c);
+                }
+                previous = bc;
+
+                if (isVisible(bc, pageIndex)) {
+                    float x0 = penX + bc.getXOffset();
+                    float x1 = x0 + bc.getWidth();
+                    float y0 = run.y - bc.getYOffset();
+                    float y1 = y0 - bc.getHeight();
+                    positions.put(x0).put(y0).put(0f);
+                    positions.put(x0).put(y1).put(0f);
+                    positions.put(x1).put(y1).put(0f);
+                    positions.put(x1).put(y0).put(0f);
+
+                    float u0 = bc.getX() / texWidth;
+                    float u1 = (bc.getX() + bc.getWidth()) / texWidth;
+                    float v0 = 1f - bc.getY() / texHeight;
+                    float v1 = 1f - (bc.getY() + bc.getHeight()) / texHeight;
+                    texCoords.put(u0).put(v0);
+                    texCoords.put(u0).put(v1);
+                    texCoords.put(u1).put(v1);
+                    texCoords.put(u1).put(v0);
+
+                    for (int corner = 0; corner < 4; ++corner) {
+                        colors.put(rgba);
+                    }
+
+                    indices.put(vertexIndex).put(vertexIndex + 1)
+                            .put(vertexIndex + 2);
+                    indices.put(vertexIndex).put(vertexIndex + 2)
+                            .put(vertexIndex + 3);
+                    vertexIndex += 4;
+                }
+                penX += bc.getXAdvance();
+            }
+        }
+        assert vertexIndex == numVertices : vertexIndex;
+        positions.flip();
+        texCoords.flip();
+        colors.flip();
+        indices.flip();
+
+        Mesh result = new Mesh();
+        result.setBuffer(VertexBuffer.Type.Position, 3, positions);
+        result.setBuffer(VertexBuffer.Type.TexCoord, 2, texCoords);
+        result.setBuffer(VertexBuffer.Type.Color, 4, colors);
+        result.getBuffer(VertexBuffer.Type.Color).setNormalized(true);
+        result.setBuffer(VertexBuffer.Type.Index, 3, indices);
+        result.updateBound();
+
+        return result;
+    }
+
+    /**
+     * Count the visible characters on the specified font page.
+     *
+     * @param pageIndex the index of the page (&ge;0)
+     * @return the count (&ge;0)
+     */
+    private int countQuads(int pageIndex) {
+        BitmapCharacterSet charSet = font.getCharSet();
+
+        int result = 0;
+        for (Run run : runs) {
+            int length = run.text.length();
+            for (int charIndex = 0; charIndex < length; ++charIndex) {
+                char c = run.text.charAt(charIndex);
+                BitmapCharacter bc = charSet.getCharacter(c);
+                if (bc != null && isVisible(bc, pageIndex)) {
+                    ++result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Test whether the specified character produces a quad on the specified
+     * font page.
+     *
+     * @param bc the character to test (not null, unaffected)
+     * @param pageIndex the index of the page (&ge;0)
+     * @return true if it does, otherwise false
+     */
+    private static boolean isVisible(BitmapCharacter bc, int pageIndex) {
+        boolean result = bc.getPage() == pageIndex
+                && bc.getWidth() > 0 && bc.getHeight() > 0;
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * A single-line run of text with its position and color.
+     */
+    private static class Run {
+        /**
+         * color as normalized RGBA bytes
+         */
+        final byte[] rgba;
+        /**
+         * X coordinate of the left edge
+         */
+        final float x;
+        /**
+         * Y coordinate of the top edge
+         */
+        final float y;
+        /**
+         * the text
+         */
+        final String text;
+
+        /**
+         * Instantiate a run.
+         *
+         * @param text the text (not null)
+         * @param x the X coordinate of the left edge
+         * @param y the Y coordinate of the top edge
+         * @param color the color (not null, unaffected)
+         */
+        Run(String text, float x, float y, ColorRGBA color) {
+            this.text = text;
+            this.x = x;
+            this.y = y;
+            this.rgba = new byte[]{
+                toByte(color.r), toByte(color.g), toByte(color.b),
+                toByte(color.a)
+            };
+        }
+
+        /**
+         * Convert a color component to a normalized unsigned byte.
+         *
+         * @param component the component value (nominally 0 to 1)
+         * @return the byte value
+         */
+        private static byte toByte(float component) {
+            float clamped = Math.max(0f, Math.min(1f, component));
+            byte result = (byte) Math.round(255f * clamped);
+
+            return result;
+        }
+    }
+}
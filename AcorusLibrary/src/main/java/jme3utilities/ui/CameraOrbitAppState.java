@@ -28,6 +28,7 @@
  */
 package jme3utilities.ui;
 
+import com.jme3.math.FastMath;
 import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.jme3.renderer.Camera;
@@ -40,6 +41,10 @@ import jme3utilities.math.VectorXZ;
 
 /**
  * An AppState to cause a camera to orbit a vertical axis.
+ * <p>
+ * Updates don't allocate any objects. Optionally, the orbit can be smoothed
+ * by giving it inertia, so that the angular velocity approaches the commanded
+ * rate exponentially instead of changing instantly.
  *
  * @author Stephen Gold sgold@sonic.net
  */
@@ -56,6 +61,11 @@ public class CameraOrbitAppState extends AcorusAppState {
      * local copy of {@link com.jme3.math.Vector3f#UNIT_Y}
      */
     final private static Vector3f unitY = new Vector3f(0f, 1f, 0f);
+    /**
+     * angular velocity below which an inertial orbit comes to rest (in
+     * radians/second)
+     */
+    final private static float restingVelocity = 1e-4f;
     // *************************************************************************
     // fields
 
@@ -67,6 +77,16 @@ public class CameraOrbitAppState extends AcorusAppState {
      * angular rate for orbiting (in radians/second, default=1)
      */
     private float angularRate = 1f;
+    /**
+     * current angular velocity of an inertial orbit (in radians/second,
+     * counter-clockwise)
+     */
+    private float angularVelocity = 0f;
+    /**
+     * time constant for smoothing (in seconds, &ge;0, 0&rarr;no inertia,
+     * default=0)
+     */
+    private float inertia = 0f;
     /**
      * center of the orbit in the X-Z plane (in world coordinates, not null,
      * default=0,0)
@@ -80,6 +100,26 @@ public class CameraOrbitAppState extends AcorusAppState {
      * name of the signal to orbit in the clockwise (-Y) direction
      */
     final private String cwSignalName;
+    /**
+     * ID of the signal to orbit in the counter-clockwise (+Y) direction
+     */
+    final private int ccwSignalId;
+    /**
+     * ID of the signal to orbit in the clockwise (-Y) direction
+     */
+    final private int cwSignalId;
+    /**
+     * reusable rotation, to avoid allocating objects during updates
+     */
+    final private Quaternion tmpRotation = new Quaternion();
+    /**
+     * reusable camera direction, to avoid allocating objects during updates
+     */
+    final private Vector3f tmpDirection = new Vector3f();
+    /**
+     * reusable camera location, to avoid allocating objects during updates
+     */
+    final private Vector3f tmpLocation = new Vector3f();
     // *************************************************************************
     // constructors
 
@@ -102,6 +142,8 @@ public class CameraOrbitAppState extends AcorusAppState {
         this.camera = camera;
         this.ccwSignalName = ccwSignalName;
         this.cwSignalName = cwSignalName;
+        this.ccwSignalId = Signals.register(ccwSignalName);
+        this.cwSignalId = Signals.register(cwSignalName);
     }
     // *************************************************************************
     // new methods exposed
@@ -139,6 +181,47 @@ public class CameraOrbitAppState extends AcorusAppState {
         return cwSignalName;
     }
 
+    /**
+     * Determine the inertia of the orbit.
+     *
+     * @return the time constant for smoothing (in seconds, &ge;0,
+     * 0&rarr;no inertia, default=0)
+     */
+    public float inertia() {
+        assert inertia >= 0f : inertia;
+        return inertia;
+    }
+
+    /**
+     * Advance the orbit by one frame. Doesn't allocate any objects.
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     * @param direction the commanded direction (+1&rarr;counter-clockwise,
+     * -1&rarr;clockwise, 0&rarr;none)
+     * @param appSpeed the effective speed of the application (&gt;0)
+     */
+    void orbit(float tpf, float direction, float appSpeed) {
+        float commandedVelocity = direction * angularRate / appSpeed;
+        float velocity;
+        if (inertia > 0f) {
+            float blend = 1f - FastMath.exp(-tpf / inertia);
+            this.angularVelocity
+                    += blend * (commandedVelocity - angularVelocity);
+            if (commandedVelocity == 0f
+                    && FastMath.abs(angularVelocity) < restingVelocity) {
+                this.angularVelocity = 0f;
+            }
+            velocity = angularVelocity;
+        } else {
+            velocity = commandedVelocity;
+        }
+
+        float orbitAngle = velocity * tpf;
+        if (orbitAngle != 0f) {
+            orbitCamera(orbitAngle);
+        }
+    }
+
     /**
      * Determine the rate of orbiting.
      *
@@ -160,6 +243,20 @@ public class CameraOrbitAppState extends AcorusAppState {
         this.centerXZ = desiredCenter;
     }
 
+    /**
+     * Alter the inertia of the orbit.
+     *
+     * @param timeConstant the desired time constant for smoothing (in seconds,
+     * &ge;0, 0&rarr;no inertia, default=0)
+     */
+    public void setInertia(float timeConstant) {
+        Validate.nonNegative(timeConstant, "time constant");
+        this.inertia = timeConstant;
+        if (timeConstant == 0f) {
+            this.angularVelocity = 0f;
+        }
+    }
+
     /**
      * Alter the rate of orbiting.
      *
@@ -181,19 +278,16 @@ public class CameraOrbitAppState extends AcorusAppState {
     public void update(float tpf) {
         super.update(tpf);
 
-        float orbitAngle = 0f;
+        float direction = 0f;
         Signals uiSignals = getSignals();
-        if (uiSignals.test(ccwSignalName)) {
-            orbitAngle += tpf;
+        if (uiSignals.test(ccwSignalId)) {
+            ++direction;
         }
-        if (uiSignals.test(cwSignalName)) {
-            orbitAngle -= tpf;
-        }
-        if (orbitAngle != 0f) {
-            float appSpeed = getSpeed();
-            orbitAngle *= angularRate / appSpeed;
-            orbitCamera(orbitAngle);
+        if (uiSignals.test(cwSignalId)) {
+            --direction;
         }
+        float appSpeed = getSpeed();
+        orbit(tpf, direction, appSpeed);
     }
     // *************************************************************************
     // private methods
@@ -204,17 +298,20 @@ public class CameraOrbitAppState extends AcorusAppState {
      * @param angle the amount to orbit (counter-clockwise, in radians)
      */
     private void orbitCamera(float angle) {
-        Quaternion rotate = new Quaternion();
-        rotate.fromAngles(0f, angle, 0f);
-
-        Vector3f location = camera.getLocation().clone();
-        Vector3f center = centerXZ.toVector3f(location.y);
-        Vector3f xzOffset = location.subtract(center);
-        MyQuaternion.rotate(rotate, xzOffset, xzOffset);
-        center.add(xzOffset, location);
+        Quaternion rotate = tmpRotation.fromAngles(0f, angle, 0f);
+
+        // Rotate the camera's offset from the center, in place.
+        Vector3f location = tmpLocation.set(camera.getLocation());
+        float centerX = centerXZ.getX();
+        float centerZ = centerXZ.getZ();
+        location.x -= centerX;
+        location.z -= centerZ;
+        MyQuaternion.rotate(rotate, location, location);
+        location.x += centerX;
+        location.z += centerZ;
         camera.setLocation(location);
 
-        Vector3f camDirection = camera.getDirection();
+        Vector3f camDirection = camera.getDirection(tmpDirection);
         MyQuaternion.rotate(rotate, camDirection, camDirection);
         camera.lookAtDirection(camDirection, unitY);
     }
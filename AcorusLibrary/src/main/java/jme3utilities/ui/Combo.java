@@ -62,6 +62,14 @@ public class Combo {
      * hotkey that triggers this Combo
      */
     final private Hotkey hotkey;
+    /**
+     * bitset of signal IDs that are prohibited
+     */
+    final private long[] offMask;
+    /**
+     * bitset of signal IDs that are required
+     */
+    final private long[] onMask;
     /**
      * names all signals tested (in lexicographic order, no duplicates)
      */
@@ -90,6 +98,9 @@ public class Combo {
 
         this.positiveFlags = new boolean[1];
         this.positiveFlags[0] = positiveFlag;
+
+        this.onMask = compileMask(signalNames, positiveFlags, true);
+        this.offMask = compileMask(signalNames, positiveFlags, false);
     }
 
     /**
@@ -112,6 +123,9 @@ public class Combo {
 
         this.positiveFlags = new boolean[1];
         this.positiveFlags[0] = positiveFlag;
+
+        this.onMask = compileMask(signalNames, positiveFlags, true);
+        this.offMask = compileMask(signalNames, positiveFlags, false);
     }
 
     /**
@@ -149,10 +163,23 @@ public class Combo {
 
             positiveFlags[sortedI] = flags[originalI];
         }
+
+        this.onMask = compileMask(signalNames, positiveFlags, true);
+        this.offMask = compileMask(signalNames, positiveFlags, false);
     }
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Count the words in each of this Combo's signal masks.
+     *
+     * @return the count (&gt;0)
+     */
+    int countMaskWords() {
+        int result = onMask.length;
+        return result;
+    }
+
     /**
      * Count the signals.
      *
@@ -178,11 +205,21 @@ public class Combo {
     }
 
     /**
-     * Map this Combo in the InputManager.
+     * Copy this Combo's signal masks into the specified arrays, starting at
+     * the specified index. Words beyond countMaskWords() are left unaltered.
+     *
+     * @param onStore storage for the bitset of required signal IDs (not null,
+     * modified)
+     * @param offStore storage for the bitset of prohibited signal IDs (not
+     * null, modified)
+     * @param startIndex the index of the first word to write (&ge;0)
      */
-    void map() {
-        String actionString = String.format("combo %d", hotkey.code());
-        hotkey.map(actionString);
+    void packMasks(long[] onStore, long[] offStore, int startIndex) {
+        assert startIndex >= 0 : startIndex;
+
+        int numWords = onMask.length;
+        System.arraycopy(onMask, 0, onStore, startIndex, numWords);
+        System.arraycopy(offMask, 0, offStore, startIndex, numWords);
     }
 
     /**
@@ -208,19 +245,8 @@ public class Combo {
     boolean testAll(Signals signalTracker) {
         assert signalTracker != null;
 
-        boolean result = true;
-        int numSignals = signalNames.length;
-        for (int signalIndex = 0; signalIndex < numSignals; ++signalIndex) {
-            String name = signalNames[signalIndex];
-            boolean value = signalTracker.test(name);
-
-            boolean positiveFlag = positiveFlags[signalIndex];
-            if (value != positiveFlag) {
-                result = false;
-                break;
-            }
-        }
-
+        boolean result = signalTracker.testMasks(
+                onMask, offMask, 0, onMask.length);
         return result;
     }
 
@@ -260,11 +286,13 @@ public class Combo {
     }
 
     /**
-     * Unmap this Combo from the InputManager.
+     * Access the Hotkey that triggers this Combo.
+     *
+     * @return the pre-existing instance (not null)
      */
-    void unmap() {
-        String actionString = String.format("combo %d", hotkey.code());
-        hotkey.unmap(actionString);
+    Hotkey triggerHotkey() {
+        assert hotkey != null;
+        return hotkey;
     }
     // *************************************************************************
     // Object methods
@@ -335,4 +363,38 @@ public class Combo {
 
         return result.toString();
     }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Register the named signals and generate a bitset of the IDs of those
+     * with the specified flag.
+     *
+     * @param names the signal names (not null, unaffected)
+     * @param flags the flag of each signal (not null, unaffected)
+     * @param selectFlag the flag value to select
+     * @return a new bitset, long enough to contain every signal tested
+     */
+    private static long[] compileMask(
+            String[] names, boolean[] flags, boolean selectFlag) {
+        int numSignals = names.length;
+        int[] ids = new int[numSignals];
+        int maxId = 0;
+        for (int signalIndex = 0; signalIndex < numSignals; ++signalIndex) {
+            int id = Signals.register(names[signalIndex]);
+            ids[signalIndex] = id;
+            maxId = Math.max(maxId, id);
+        }
+
+        int numWords = maxId / Long.SIZE + 1;
+        long[] result = new long[numWords];
+        for (int signalIndex = 0; signalIndex < numSignals; ++signalIndex) {
+            if (flags[signalIndex] == selectFlag) {
+                int id = ids[signalIndex];
+                result[id / Long.SIZE] |= 1L << id;
+            }
+        }
+
+        return result;
+    }
 }
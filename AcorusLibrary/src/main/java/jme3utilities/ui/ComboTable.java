@@ -0,0 +1,355 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import jme3utilities.Validate;
+
+/**
+ * Combo bindings of an InputMode, precompiled for dispatch.
+ * <p>
+ * Storage is sparse: only the universal codes that trigger combos are kept,
+ * in a sorted array. For each of those codes, the action names of the bound
+ * combos are kept in flat arrays (in binding order), so that dispatching a
+ * combo action requires neither string building nor parsing. The combos'
+ * signal masks are packed into contiguous arrays, so all combos of a trigger
+ * are tested in a single pass over memory. Keyboard, mouse, and joystick codes
+ * are all supported.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ComboTable {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of universal codes that trigger combos
+     */
+    private int numTriggers = 0;
+    /**
+     * universal codes that trigger combos, in ascending order (only the first
+     * numTriggers elements are used)
+     */
+    private int[] triggerCodes = new int[8];
+    /**
+     * map combos to action names for each trigger (in binding order, parallel
+     * to triggerCodes)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Combo, String>[] bindings = new Map[8];
+    /**
+     * map action names to their bound combos (in binding order)
+     */
+    final private Map<String, Set<Combo>> actionToCombos = new HashMap<>(64);
+    /**
+     * action names of the bound combos for each trigger, in the same order as
+     * they were bound (parallel to triggerCodes)
+     */
+    private String[][] compiledActions = new String[8][];
+    /**
+     * action IDs of the bound combos for each trigger, in the same order as
+     * {@code compiledActions} (parallel to triggerCodes, -1 for an empty name)
+     */
+    private int[][] compiledIds = new int[8][];
+    /**
+     * number of words in each packed mask for each trigger (parallel to
+     * triggerCodes)
+     */
+    private int[] maskWords = new int[8];
+    /**
+     * prohibited-signal masks of the bound combos for each trigger, packed in
+     * binding order with maskWords words per combo (parallel to triggerCodes)
+     */
+    private long[][] packedOffMasks = new long[8][];
+    /**
+     * required-signal masks of the bound combos for each trigger, packed in
+     * binding order with maskWords words per combo (parallel to triggerCodes)
+     */
+    private long[][] packedOnMasks = new long[8][];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty table.
+     */
+    ComboTable() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the named action to the specified Combo. Any existing binding for
+     * the Combo is replaced.
+     *
+     * @param combo the Combo to bind (not null)
+     * @param actionName the name of the action (not null)
+     */
+    void bind(Combo combo, String actionName) {
+        assert actionName != null;
+
+        int triggerCode = combo.triggerCode();
+        int triggerIndex = findTrigger(triggerCode);
+        if (triggerIndex < 0) {
+            triggerIndex = insertTrigger(-triggerIndex - 1, triggerCode);
+        }
+        Map<Combo, String> map = bindings[triggerIndex];
+        String oldAction = map.put(combo, actionName);
+        if (oldAction != null) {
+            Set<Combo> oldSet = actionToCombos.get(oldAction);
+            oldSet.remove(combo);
+            if (oldSet.isEmpty()) {
+                actionToCombos.remove(oldAction);
+            }
+        }
+
+        Set<Combo> combos = actionToCombos.get(actionName);
+        if (combos == null) {
+            combos = new LinkedHashSet<>(8);
+            actionToCombos.put(actionName, combos);
+        }
+        combos.add(combo);
+
+        compile(triggerIndex);
+    }
+
+    /**
+     * Check whether the actions of the combos triggered by the specified
+     * universal code have registered handlers.
+     *
+     * @param universalCode the universal code of the trigger (&ge;0)
+     * @param mode the mode that bound the combos (not null, initialized)
+     */
+    void checkHandlers(int universalCode, InputMode mode) {
+        int triggerIndex = findTrigger(universalCode);
+        if (triggerIndex >= 0) {
+            ActionApplication application = mode.getActionApplication();
+            for (String actionName : compiledActions[triggerIndex]) {
+                application.checkHandler(mode, actionName);
+            }
+        }
+    }
+
+    /**
+     * Count the universal codes that trigger combos.
+     *
+     * @return the count (&ge;0)
+     */
+    int countTriggers() {
+        return numTriggers;
+    }
+
+    /**
+     * Dispatch a combo action: each Combo bound to the specified universal code
+     * is tested, and the action of each Combo that passes is delivered to the
+     * specified mode, along with its pre-resolved action ID, in binding order.
+     * Doesn't allocate any objects.
+     *
+     * @param universalCode the universal code of the trigger (&ge;0)
+     * @param signalTracker the signal tracker to test against (not null)
+     * @param mode the mode to notify (not null)
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    void dispatch(int universalCode, Signals signalTracker, InputMode mode,
+            float tpf) {
+        int triggerIndex = findTrigger(universalCode);
+        if (triggerIndex < 0) {
+            return;
+        }
+
+        String[] actionNames = compiledActions[triggerIndex];
+        int[] actionIds = compiledIds[triggerIndex];
+        long[] onMasks = packedOnMasks[triggerIndex];
+        long[] offMasks = packedOffMasks[triggerIndex];
+        int numWords = maskWords[triggerIndex];
+        int numCombos = actionNames.length;
+        int startIndex = 0;
+        for (int comboIndex = 0; comboIndex < numCombos; ++comboIndex) {
+            if (signalTracker.testMasks(
+                    onMasks, offMasks, startIndex, numWords)) {
+                String actionName = actionNames[comboIndex];
+                boolean ongoing = true;
+                int actionId = actionIds[comboIndex];
+                InputMode.stack.deliver(
+                        mode, actionId, actionName, ongoing, tpf);
+            }
+            startIndex += numWords;
+        }
+    }
+
+    /**
+     * Test whether any combos are bound to the specified universal code.
+     *
+     * @param universalCode the universal code to test (&ge;0)
+     * @return true if any are bound, otherwise false
+     */
+    boolean hasCombos(int universalCode) {
+        boolean result = (findTrigger(universalCode) >= 0);
+        return result;
+    }
+
+    /**
+     * Enumerate all combos bound to the named action.
+     *
+     * @param actionName the action name (not null)
+     * @return a new collection of combos
+     */
+    Collection<Combo> listCombos(String actionName) {
+        assert actionName != null;
+
+        Set<Combo> combos = actionToCombos.get(actionName);
+        Collection<Combo> result;
+        if (combos == null) {
+            result = new HashSet<>(4);
+        } else {
+            result = new HashSet<>(combos);
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the universal code of the indexed trigger.
+     *
+     * @param triggerIndex the index among the triggers, in ascending order of
+     * universal code (&ge;0, &lt;numTriggers)
+     * @return the universal code (&ge;0)
+     */
+    int triggerCode(int triggerIndex) {
+        Validate.inRange(triggerIndex, "trigger index", 0, numTriggers - 1);
+        int result = triggerCodes[triggerIndex];
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Rebuild the flat arrays for the indexed trigger after its bindings
+     * change.
+     *
+     * @param triggerIndex the index of the trigger (&ge;0, &lt;numTriggers)
+     */
+    private void compile(int triggerIndex) {
+        Map<Combo, String> map = bindings[triggerIndex];
+        int numCombos = map.size();
+        int numWords = 1;
+        for (Combo combo : map.keySet()) {
+            numWords = Math.max(numWords, combo.countMaskWords());
+        }
+
+        String[] actionNames = new String[numCombos];
+        int[] actionIds = new int[numCombos];
+        long[] onMasks = new long[numCombos * numWords];
+        long[] offMasks = new long[numCombos * numWords];
+        int comboIndex = 0;
+        for (Map.Entry<Combo, String> entry : map.entrySet()) {
+            Combo combo = entry.getKey();
+            combo.packMasks(onMasks, offMasks, comboIndex * numWords);
+            String actionName = entry.getValue();
+            actionNames[comboIndex] = actionName;
+            actionIds[comboIndex] = actionName.isEmpty()
+                    ? -1 : ActionRegistry.register(actionName);
+            ++comboIndex;
+        }
+        compiledActions[triggerIndex] = actionNames;
+        compiledIds[triggerIndex] = actionIds;
+        maskWords[triggerIndex] = numWords;
+        packedOffMasks[triggerIndex] = offMasks;
+        packedOnMasks[triggerIndex] = onMasks;
+    }
+
+    /**
+     * Find the index of the specified trigger. Doesn't allocate any objects.
+     *
+     * @param universalCode the universal code of the trigger
+     * @return the index (&ge;0) if found, otherwise (-insertionPoint - 1)
+     */
+    private int findTrigger(int universalCode) {
+        int result = Arrays.binarySearch(
+                triggerCodes, 0, numTriggers, universalCode);
+        return result;
+    }
+
+    /**
+     * Insert a trigger with no combos, keeping the triggers sorted.
+     *
+     * @param triggerIndex the insertion point (&ge;0, &le;numTriggers)
+     * @param universalCode the universal code of the new trigger
+     * @return the index of the new trigger
+     */
+    private int insertTrigger(int triggerIndex, int universalCode) {
+        assert triggerIndex >= 0 : triggerIndex;
+        assert triggerIndex <= numTriggers : triggerIndex;
+
+        if (numTriggers == triggerCodes.length) {
+            int newCapacity = 2 * numTriggers;
+            this.triggerCodes = Arrays.copyOf(triggerCodes, newCapacity);
+            this.bindings = Arrays.copyOf(bindings, newCapacity);
+            this.compiledActions = Arrays.copyOf(compiledActions, newCapacity);
+            this.compiledIds = Arrays.copyOf(compiledIds, newCapacity);
+            this.maskWords = Arrays.copyOf(maskWords, newCapacity);
+            this.packedOffMasks = Arrays.copyOf(packedOffMasks, newCapacity);
+            this.packedOnMasks = Arrays.copyOf(packedOnMasks, newCapacity);
+        }
+
+        int numToShift = numTriggers - triggerIndex;
+        int to = triggerIndex + 1;
+        System.arraycopy(
+                triggerCodes, triggerIndex, triggerCodes, to, numToShift);
+        System.arraycopy(bindings, triggerIndex, bindings, to, numToShift);
+        System.arraycopy(
+                compiledActions, triggerIndex, compiledActions, to, numToShift);
+        System.arraycopy(
+                compiledIds, triggerIndex, compiledIds, to, numToShift);
+        System.arraycopy(maskWords, triggerIndex, maskWords, to, numToShift);
+        System.arraycopy(
+                packedOffMasks, triggerIndex, packedOffMasks, to, numToShift);
+        System.arraycopy(
+                packedOnMasks, triggerIndex, packedOnMasks, to, numToShift);
+
+        triggerCodes[triggerIndex] = universalCode;
+        bindings[triggerIndex] = new LinkedHashMap<>(8);
+        compiledActions[triggerIndex] = null;
+        compiledIds[triggerIndex] = null;
+        maskWords[triggerIndex] = 0;
+        packedOffMasks[triggerIndex] = null;
+        packedOnMasks[triggerIndex] = null;
+        ++numTriggers;
+
+        return triggerIndex;
+    }
+}
@@ -83,21 +83,19 @@ public class DefaultInputMode extends InputMode {
         if (Hotkey.findKey(KeyInput.KEY_A) == null) {
             return;
         }
-        if (isEnabled()) {
-            unmapAll();
-        }
-
-        unbind(KeyInput.KEY_S);
-        unbind(KeyInput.KEY_W);
-        unbind(KeyInput.KEY_Z);
-        unbind(KeyInput.KEY_Q);
-        unbind(KeyInput.KEY_A);
-        unbind(KeyInput.KEY_D);
-
-        bindFlyKeys();
-
-        if (isEnabled()) {
-            mapAll();
+        /*
+         * If this mode is active, bind() and unbind() update only
+         * the mappings that actually change.
+         */
+        if (flyCam != null && flyCam.isEnabled()) {
+            bindFlyKeys();
+        } else {
+            unbind(KeyInput.KEY_S);
+            unbind(KeyInput.KEY_W);
+            unbind(KeyInput.KEY_Z);
+            unbind(KeyInput.KEY_Q);
+            unbind(KeyInput.KEY_A);
+            unbind(KeyInput.KEY_D);
         }
     }
     // *************************************************************************
@@ -168,14 +166,16 @@ public class DefaultInputMode extends InputMode {
     }
 
     /**
-     * Process an action from the keyboard or mouse.
+     * Process a bound action from the keyboard or mouse.
      *
+     * @param actionId the ID of the action, or -1 if it isn't registered
      * @param actionString textual description of the action (not null)
      * @param ongoing true if the action is ongoing, otherwise false
      * @param tpf time interval between frames (in seconds, &ge;0)
      */
     @Override
-    public void onAction(String actionString, boolean ongoing, float tpf) {
+    protected void onAction(
+            int actionId, String actionString, boolean ongoing, float tpf) {
         if (logger.isLoggable(Level.INFO)) {
             logger.log(Level.INFO, "Got action {0} ongoing={1}", new Object[]{
                 MyString.quote(actionString), ongoing
@@ -183,7 +183,21 @@ public class DefaultInputMode extends InputMode {
         }
 
         // Forward all actions to the ActionApplication subclass for processing.
-        getActionApplication().onAction(actionString, ongoing, tpf);
+        ActionApplication application = getActionApplication();
+        application.onAction(actionId, actionString, ongoing, tpf);
+    }
+
+    /**
+     * Process an action from the keyboard or mouse.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        int actionId = ActionRegistry.findId(actionString);
+        onAction(actionId, actionString, ongoing, tpf);
     }
     // *************************************************************************
     // private methods
@@ -76,6 +76,10 @@ public class DisplaySettings {
      * otherwise false
      */
     private boolean areSaved = false;
+    /**
+     * true&rarr;a background save is in progress, otherwise false
+     */
+    private boolean isSaving = false;
     /**
      * map graphics API names to AppSettings.getRenderer() values
      */
@@ -393,6 +397,15 @@ public class DisplaySettings {
         return result;
     }
 
+    /**
+     * Test whether a background save is in progress.
+     *
+     * @return true if in progress, otherwise false
+     */
+    public boolean isSaving() {
+        return isSaving;
+    }
+
     /**
      * Test whether VSync is enabled.
      *
@@ -526,6 +539,47 @@ public class DisplaySettings {
         return result;
     }
 
+    /**
+     * Write a copy of the proposed settings to persistent storage off the
+     * render thread, so that they will take effect the next time the
+     * application is launched. Once the write succeeds, the settings are
+     * marked as saved, unless they've been altered in the meantime. Ignored
+     * if a background save is already in progress.
+     *
+     * @param executor the executor to use (not null)
+     */
+    public void saveInBackground(AsyncActions executor) {
+        Validate.nonNull(executor, "executor");
+        if (isSaving) {
+            return;
+        }
+
+        AppSettings copy = new AppSettings(false);
+        copy.copyFrom(proposedSettings);
+        this.isSaving = true;
+        executor.submit(() -> {
+            try {
+                copy.save(applicationName);
+            } catch (BackingStoreException exception) {
+                return () -> {
+                    this.isSaving = false;
+                    logger.log(Level.WARNING, "Failed to write settings for "
+                            + "\"{0}\" to persistent storage.",
+                            applicationName);
+                };
+            }
+
+            return () -> {
+                this.isSaving = false;
+                if (proposedSettings.equals(copy)) {
+                    this.areSaved = true;
+                }
+                logger.log(Level.WARNING, "Wrote settings for \"{0}\" to "
+                        + "persistent storage.", applicationName);
+            };
+        });
+    }
+
     /**
      * Scale the height and width of the display by the specified factors and
      * clamp to the size limits.
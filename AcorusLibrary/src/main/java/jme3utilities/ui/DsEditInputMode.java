@@ -101,6 +101,10 @@ public class DsEditInputMode extends InputMode {
     // *************************************************************************
     // fields
 
+    /**
+     * handlers for this mode's actions
+     */
+    final private ActionRegistry actionHandlers = new ActionRegistry();
     /**
      * proposed display settings: set by constructor
      */
@@ -127,6 +131,21 @@ public class DsEditInputMode extends InputMode {
         this.proposedSettings = settings;
 
         influence(overlay);
+
+        actionHandlers.addOnPress(asApplyChanges, this::applyChanges);
+        actionHandlers.addOnPress(asCloseEditor, InputMode::resumeLifo);
+        actionHandlers.addOnPress(
+                asLoadDefaults, proposedSettings::loadDefaults);
+        actionHandlers.addOnPress(
+                asNextField, () -> statusOverlay.advanceSelectedField(+1));
+        actionHandlers.addOnPress(
+                asNextValue, () -> statusOverlay.advanceValue(+1));
+        actionHandlers.addOnPress(
+                asPreviousField, () -> statusOverlay.advanceSelectedField(-1));
+        actionHandlers.addOnPress(
+                asPreviousValue, () -> statusOverlay.advanceValue(-1));
+        actionHandlers.addOnPress(asRevertChanges, this::revert);
+        actionHandlers.addOnPress(asSaveChanges, this::save);
     }
     // *************************************************************************
     // InputMode methods
@@ -159,6 +178,19 @@ public class DsEditInputMode extends InputMode {
         bind(SimpleApplication.INPUT_MAPPING_HIDE_STATS, KeyInput.KEY_F5);
     }
 
+    /**
+     * Test whether this mode has a registered handler for the identified
+     * action.
+     *
+     * @param actionId the ID of the action (&ge;0)
+     * @return true if handled, otherwise false
+     */
+    @Override
+    protected boolean handlesAction(int actionId) {
+        boolean result = actionHandlers.handles(actionId);
+        return result;
+    }
+
     /**
      * Initialize this (disabled) mode prior to its first update.
      *
@@ -178,65 +210,48 @@ public class DsEditInputMode extends InputMode {
     }
 
     /**
-     * Process an action from the GUI or keyboard.
+     * Process a bound action from the keyboard.
      *
+     * @param actionId the ID of the action, or -1 if it isn't registered
      * @param actionString textual description of the action (not null)
      * @param ongoing true if the action is ongoing, otherwise false
      * @param tpf time per frame (in seconds)
      */
     @Override
-    public void onAction(String actionString, boolean ongoing, float tpf) {
-        if (ongoing) {
-            switch (actionString) {
-                case asApplyChanges:
-                    if (proposedSettings.canApply()
-                            && !proposedSettings.areApplied()) {
-                        proposedSettings.applyToContext();
-                    }
-                    return;
-
-                case asCloseEditor:
-                    InputMode.resumeLifo();
-                    return;
-
-                case asLoadDefaults:
-                    proposedSettings.loadDefaults();
-                    return;
-
-                case asNextField:
-                    statusOverlay.advanceSelectedField(+1);
-                    return;
-
-                case asNextValue:
-                    statusOverlay.advanceValue(+1);
-                    return;
-
-                case asPreviousField:
-                    statusOverlay.advanceSelectedField(-1);
-                    return;
-
-                case asPreviousValue:
-                    statusOverlay.advanceValue(-1);
-                    return;
-
-                case asRevertChanges:
-                    revert();
-                    return;
-
-                case asSaveChanges:
-                    save();
-                    return;
-
-                default:
-            }
+    protected void onAction(
+            int actionId, String actionString, boolean ongoing, float tpf) {
+        if (actionHandlers.dispatch(actionId, actionString, ongoing, tpf)) {
+            return;
         }
 
         // Forward the unhandled action to the application.
-        getActionApplication().onAction(actionString, ongoing, tpf);
+        getActionApplication().onAction(actionId, actionString, ongoing, tpf);
+    }
+
+    /**
+     * Process an action from the GUI or keyboard.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time per frame (in seconds)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        int actionId = ActionRegistry.findId(actionString);
+        onAction(actionId, actionString, ongoing, tpf);
     }
     // *************************************************************************
     // private methods
 
+    /**
+     * Handle an "apply changes" action.
+     */
+    private void applyChanges() {
+        if (proposedSettings.canApply() && !proposedSettings.areApplied()) {
+            proposedSettings.applyToContext();
+        }
+    }
+
     /**
      * Handle a "revert changes" action.
      */
@@ -254,14 +269,12 @@ public class DsEditInputMode extends InputMode {
      * Handle a "save changes" action.
      */
     private void save() {
+        if (proposedSettings.isSaving()) {
+            return; // The previous save hasn't completed yet.
+        }
         if (proposedSettings.areValid() && !proposedSettings.areSaved()) {
-            boolean success = proposedSettings.save();
-            if (success) {
-                String appName = proposedSettings.applicationName();
-                logger.log(Level.WARNING,
-                        "Wrote settings for \"{0}\" to persistent storage.",
-                        appName);
-            }
+            AsyncActions executor = getActionApplication().getAsyncActions();
+            proposedSettings.saveInBackground(executor);
         }
     }
 }
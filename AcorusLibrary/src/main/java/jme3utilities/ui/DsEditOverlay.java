@@ -107,6 +107,11 @@ public class DsEditOverlay extends Overlay {
      * number of status line in the overlay
      */
     final private static int numStatusLines = 13;
+    /**
+     * status key for a line whose value isn't numeric (such as a centered
+     * location or an unused refresh rate)
+     */
+    final private static long noValueKey = Long.MIN_VALUE;
     /**
      * message logger for this class
      */
@@ -127,6 +132,23 @@ public class DsEditOverlay extends Overlay {
      * index of the line being edited (&ge;1)
      */
     private int selectedLine = fullscreenStatusLine;
+    /**
+     * graphics API last displayed in the status, or null if none
+     */
+    private String displayedApi = null;
+    /**
+     * value last displayed in each status line, packed into a long
+     */
+    final private long[] statusKeys = new long[numStatusLines];
+    /**
+     * text last displayed in each status line, without any selection prefix,
+     * or null if the line hasn't been displayed yet
+     */
+    final private String[] statusTexts = new String[numStatusLines];
+    /**
+     * selection state last displayed in each status line
+     */
+    final private boolean[] statusSelected = new boolean[numStatusLines];
     // *************************************************************************
     // constructors
 
@@ -280,68 +302,107 @@ public class DsEditOverlay extends Overlay {
         }
         updateStatusLine(saveStatusLine, message);
 
+        /*
+         * For the remaining lines, regenerate the text only when the
+         * displayed value (or the selection) changes.
+         */
         boolean isFullscreen = proposedSettings.isFullscreen();
-        message = "Fullscreen?  " + (isFullscreen ? "yes" : "no");
-        updateStatusLine(fullscreenStatusLine, message);
+        if (updateKey(fullscreenStatusLine, isFullscreen ? 1L : 0L)) {
+            message = "Fullscreen?  " + (isFullscreen ? "yes" : "no");
+            updateStatusLine(fullscreenStatusLine, message);
+        }
 
         boolean isCentered = proposedSettings.isCentered();
-        if (isCentered || isFullscreen || !DsUtils.hasLwjglVersion3()) {
-            message = "Location:  centered";
-        } else {
-            int x = context.getWindowXPosition();
-            int y = context.getWindowYPosition();
+        long key = noValueKey;
+        int x = 0;
+        int y = 0;
+        if (!isCentered && !isFullscreen && DsUtils.hasLwjglVersion3()) {
+            x = context.getWindowXPosition();
+            y = context.getWindowYPosition();
             proposedSettings.setStartLocation(x, y);
-            message = "Location:  (" + x + ", " + y + ")";
+            key = pack(x, y);
+        }
+        if (updateKey(locationStatusLine, key)) {
+            if (key == noValueKey) {
+                message = "Location:  centered";
+            } else {
+                message = "Location:  (" + x + ", " + y + ")";
+            }
+            updateStatusLine(locationStatusLine, message);
         }
-        updateStatusLine(locationStatusLine, message);
 
         int width = proposedSettings.width();
         int height = proposedSettings.height();
-        message = "Dimensions:  " + DsUtils.describeDimensions(width, height);
-        updateStatusLine(dimensionsStatusLine, message);
+        if (updateKey(dimensionsStatusLine, pack(width, height))) {
+            message = "Dimensions:  "
+                    + DsUtils.describeDimensions(width, height);
+            updateStatusLine(dimensionsStatusLine, message);
+        }
 
         boolean isVsync = proposedSettings.isVSync();
-        message = "VSync?  " + (isVsync ? "yes" : "no");
-        updateStatusLine(vSyncStatusLine, message);
+        if (updateKey(vSyncStatusLine, isVsync ? 1L : 0L)) {
+            message = "VSync?  " + (isVsync ? "yes" : "no");
+            updateStatusLine(vSyncStatusLine, message);
+        }
 
         boolean isGammaCorrection = proposedSettings.isGammaCorrection();
-        message = "Gamma correction?  " + (isGammaCorrection ? "yes" : "no");
-        updateStatusLine(gammaCorrectionStatusLine, message);
+        if (updateKey(gammaCorrectionStatusLine, isGammaCorrection ? 1L : 0L)) {
+            message = "Gamma correction?  "
+                    + (isGammaCorrection ? "yes" : "no");
+            updateStatusLine(gammaCorrectionStatusLine, message);
+        }
 
         int colorDepth = proposedSettings.colorDepth();
-        if (colorDepth <= 0) {
-            message = "Color depth:  any/unknown";
-        } else {
-            message = String.format("Color depth:  %d bpp", colorDepth);
+        if (updateKey(colorDepthStatusLine, colorDepth)) {
+            if (colorDepth <= 0) {
+                message = "Color depth:  any/unknown";
+            } else {
+                message = String.format("Color depth:  %d bpp", colorDepth);
+            }
+            updateStatusLine(colorDepthStatusLine, message);
         }
-        updateStatusLine(colorDepthStatusLine, message);
 
         int msaaFactor = proposedSettings.msaaFactor();
-        message = "MSAA factor:  " + DsUtils.describeMsaaFactor(msaaFactor);
-        updateStatusLine(msaaStatusLine, message);
+        if (updateKey(msaaStatusLine, msaaFactor)) {
+            message = "MSAA factor:  " + DsUtils.describeMsaaFactor(msaaFactor);
+            updateStatusLine(msaaStatusLine, message);
+        }
 
         String api = proposedSettings.graphicsApi();
-        message = "Graphics API:  " + api;
-        updateStatusLine(apiStatusLine, message);
+        if (updateKey(apiStatusLine, 0L) || !api.equals(displayedApi)) {
+            this.displayedApi = api;
+            message = "Graphics API:  " + api;
+            updateStatusLine(apiStatusLine, message);
+        }
 
         boolean isDebug = proposedSettings.isGraphicsDebug();
-        message = "Debug graphics?  " + (isDebug ? "yes" : "no");
-        updateStatusLine(debugStatusLine, message);
+        if (updateKey(debugStatusLine, isDebug ? 1L : 0L)) {
+            message = "Debug graphics?  " + (isDebug ? "yes" : "no");
+            updateStatusLine(debugStatusLine, message);
+        }
 
         boolean isTrace = proposedSettings.isGraphicsTrace();
-        message = "Trace graphics?  " + (isTrace ? "yes" : "no");
-        updateStatusLine(traceStatusLine, message);
+        if (updateKey(traceStatusLine, isTrace ? 1L : 0L)) {
+            message = "Trace graphics?  " + (isTrace ? "yes" : "no");
+            updateStatusLine(traceStatusLine, message);
+        }
 
-        message = "";
+        key = noValueKey;
+        int refreshRate = 0;
         if (isFullscreen) {
-            int refreshRate = proposedSettings.refreshRate();
-            if (refreshRate <= 0) {
+            refreshRate = proposedSettings.refreshRate();
+            key = refreshRate;
+        }
+        if (updateKey(refreshRateStatusLine, key)) {
+            if (key == noValueKey) {
+                message = "";
+            } else if (refreshRate <= 0) {
                 message = "Refresh rate:  any/unknown";
             } else {
                 message = String.format("Refresh rate:  %d Hz", refreshRate);
             }
+            updateStatusLine(refreshRateStatusLine, message);
         }
-        updateStatusLine(refreshRateStatusLine, message);
     }
     // *************************************************************************
     // private methods
@@ -508,6 +569,18 @@ public class DsEditOverlay extends Overlay {
         proposedSettings.setRefreshRate(rate);
     }
 
+    /**
+     * Pack a pair of integers into a status key.
+     *
+     * @param high the value for the upper 32 bits
+     * @param low the value for the lower 32 bits
+     * @return the packed key
+     */
+    private static long pack(int high, int low) {
+        long result = ((long) high << 32) | (low & 0xffffffffL);
+        return result;
+    }
+
     /**
      * Toggle center-on-start between enabled and disabled.
      */
@@ -596,6 +669,25 @@ public class DsEditOverlay extends Overlay {
         proposedSettings.setVSync(!enabled);
     }
 
+    /**
+     * Record the value to be displayed in the indexed status line and determine
+     * whether the line's text needs to be regenerated.
+     *
+     * @param lineIndex which line (&ge;0)
+     * @param key the value to be displayed, packed into a long
+     * @return true if the value or selection has changed since the line was
+     * last displayed, otherwise false
+     */
+    private boolean updateKey(int lineIndex, long key) {
+        boolean isSelected = (lineIndex == selectedLine);
+        boolean result = statusTexts[lineIndex] == null
+                || key != statusKeys[lineIndex]
+                || isSelected != statusSelected[lineIndex];
+        this.statusKeys[lineIndex] = key;
+
+        return result;
+    }
+
     /**
      * Update the indexed status line.
      *
@@ -603,7 +695,15 @@ public class DsEditOverlay extends Overlay {
      * @param text the text to display (not null)
      */
     private void updateStatusLine(int lineIndex, String text) {
-        if (lineIndex == selectedLine) {
+        boolean isSelected = (lineIndex == selectedLine);
+        if (isSelected == statusSelected[lineIndex]
+                && text.equals(statusTexts[lineIndex])) {
+            return; // the line is already up to date
+        }
+        this.statusSelected[lineIndex] = isSelected;
+        this.statusTexts[lineIndex] = text;
+
+        if (isSelected) {
             setText(lineIndex, "--> " + text, ColorRGBA.Yellow);
         } else {
             setText(lineIndex, text, ColorRGBA.White);
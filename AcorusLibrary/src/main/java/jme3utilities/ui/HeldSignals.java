@@ -0,0 +1,220 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Track which signals in a fixed set are currently active, as a compact list
+ * maintained by transition notifications. Iterating over the list costs
+ * nothing while no signal in the set is active, and touches only the active
+ * signals otherwise.
+ * <p>
+ * Signals in the set are identified by their position in the array passed to
+ * the constructor. For instance, each fly camera in a multi-viewport
+ * application might own a HeldSignals for its movement signals.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class HeldSignals implements SignalListener {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HeldSignals.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * position of each signal in the active list, or -1 if inactive, indexed
+     * by position in the set
+     */
+    final private int[] listPositions;
+    /**
+     * positions in the set of the active signals, in order of activation
+     * (only the first numActive elements are meaningful)
+     */
+    final private int[] activeList;
+    /**
+     * ID of each signal, indexed by position in the set
+     */
+    final private int[] signalIds;
+    /**
+     * number of active signals in the set (&ge;0)
+     */
+    private int numActive = 0;
+    /**
+     * tracker to which this list is subscribed, or null if none
+     */
+    private Signals subscribed = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty list for the named signals, registering any names
+     * that haven't been registered yet.
+     *
+     * @param signalNames the names of the signals in the set (not null, not
+     * empty, no duplicates)
+     */
+    public HeldSignals(String... signalNames) {
+        Validate.nonEmpty(signalNames, "signal names");
+
+        int numSignals = signalNames.length;
+        this.activeList = new int[numSignals];
+        this.listPositions = new int[numSignals];
+        Arrays.fill(listPositions, -1);
+        this.signalIds = new int[numSignals];
+        for (int position = 0; position < numSignals; ++position) {
+            signalIds[position] = Signals.register(signalNames[position]);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the position in the set of the indexed active signal. Doesn't
+     * allocate any objects.
+     *
+     * @param listIndex the index in the active list (&ge;0,
+     * &lt;countActive())
+     * @return the position in the set (&ge;0)
+     */
+    public int activePosition(int listIndex) {
+        Validate.inRange(listIndex, "list index", 0, numActive - 1);
+        int result = activeList[listIndex];
+        return result;
+    }
+
+    /**
+     * Subscribe to the specified tracker and initialize the list from its
+     * current state.
+     *
+     * @param signals the tracker to subscribe to (not null)
+     */
+    public void attach(Signals signals) {
+        Validate.nonNull(signals, "signals");
+        if (subscribed != null) {
+            throw new IllegalStateException("already attached");
+        }
+
+        this.subscribed = signals;
+        this.numActive = 0;
+        Arrays.fill(listPositions, -1);
+        for (int position = 0; position < signalIds.length; ++position) {
+            if (signals.test(signalIds[position])) {
+                activate(position);
+            }
+        }
+        signals.subscribe(this, signalIds);
+    }
+
+    /**
+     * Count the active signals in the set.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countActive() {
+        return numActive;
+    }
+
+    /**
+     * Unsubscribe from the tracker and empty the list.
+     */
+    public void detach() {
+        if (subscribed != null) {
+            subscribed.unsubscribe(this, signalIds);
+            this.subscribed = null;
+        }
+        this.numActive = 0;
+        Arrays.fill(listPositions, -1);
+    }
+    // *************************************************************************
+    // SignalListener methods
+
+    /**
+     * Update the list when a signal in the set changes state.
+     *
+     * @param signalId the ID of the signal that changed (&ge;0)
+     * @param isActive true if it became active, false if it became inactive
+     */
+    @Override
+    public void onSignalChange(int signalId, boolean isActive) {
+        for (int position = 0; position < signalIds.length; ++position) {
+            if (signalIds[position] == signalId) {
+                if (isActive) {
+                    activate(position);
+                } else {
+                    deactivate(position);
+                }
+                return;
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Append the specified signal to the active list, unless it's already
+     * there.
+     *
+     * @param position the signal's position in the set (&ge;0)
+     */
+    private void activate(int position) {
+        if (listPositions[position] < 0) {
+            activeList[numActive] = position;
+            listPositions[position] = numActive;
+            ++numActive;
+        }
+    }
+
+    /**
+     * Remove the specified signal from the active list, if it's there, by
+     * moving the last element into its place.
+     *
+     * @param position the signal's position in the set (&ge;0)
+     */
+    private void deactivate(int position) {
+        int listIndex = listPositions[position];
+        if (listIndex < 0) {
+            return;
+        }
+
+        --numActive;
+        int lastPosition = activeList[numActive];
+        activeList[listIndex] = lastPosition;
+        listPositions[lastPosition] = listIndex;
+        listPositions[position] = -1;
+    }
+}
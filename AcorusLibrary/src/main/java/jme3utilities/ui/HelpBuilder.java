@@ -109,6 +109,10 @@ public class HelpBuilder {
      * Z offsets of text spatials relative to their nodes
      */
     private float zText = 0.1f;
+    /**
+     * count of changes to the settings, for validating cached help nodes
+     */
+    private int revision = 0;
     // *************************************************************************
     // new methods exposed
 
@@ -130,44 +134,41 @@ public class HelpBuilder {
         Validate.nonNull(font, "font");
         Validate.nonNull(colorSpace, "color space");
 
-        ColorRGBA fgColor = foregroundColor.clone();
-        ColorRGBA highlightColor = highlightForegroundColor.clone();
         float x = bounds.x;
         float y = bounds.y;
         float maxX = x + 1f;
         float minY = y - 1f;
-        float size = font.getCharSet().getRenderedSize();
         Map<String, String> actionToList = mapActions(inputMode);
         Node result = new Node("detailed help node");
+        /*
+         * Lay out all entries in a single batch,
+         * so the text costs one draw call per font page.
+         */
+        BatchedText batch = new BatchedText(font);
+        float lineHeight = batch.lineHeight();
 
         for (Map.Entry<String, String> entry : actionToList.entrySet()) {
             String actionName = entry.getKey();
             String hotkeyList = entry.getValue();
             String text = actionName + ": " + hotkeyList;
+            float textWidth = batch.measure(text);
 
-            BitmapText textSpatial = new BitmapText(font);
-            result.attachChild(textSpatial);
-            textSpatial.setSize(size);
-            textSpatial.setText(text);
-            float textWidth = textSpatial.getLineWidth();
-
-            // Position the textSpatial relative to the Node.
+            // Position the text relative to the Node.
             if (x > bounds.x && x + textWidth > bounds.x + bounds.width) {
                 // start a new line of text
-                y -= textSpatial.getHeight();
+                y -= lineHeight;
                 x = bounds.x;
             }
-            textSpatial.setLocalTranslation(x, y, zText);
-            maxX = Math.max(maxX, x + textWidth);
-            minY = Math.min(minY, y - textSpatial.getHeight());
-            x += textWidth + separation;
-
             if (actionName.equals(AcorusDemo.asToggleHelp)) {
-                textSpatial.setColor(highlightColor); // alias created
+                batch.add(text, x, y, highlightForegroundColor);
             } else {
-                textSpatial.setColor(fgColor); // alias created
+                batch.add(text, x, y, foregroundColor);
             }
+            maxX = Math.max(maxX, x + textWidth);
+            minY = Math.min(minY, y - lineHeight);
+            x += textWidth + separation;
         }
+        batch.attachTo(result, zText);
 
         Geometry backgroundGeometry
                 = buildBackground(bounds, maxX, minY, colorSpace);
@@ -269,8 +270,7 @@ public class HelpBuilder {
             result.append('+');
         }
 
-        int code = combo.triggerCode();
-        Hotkey hotkey = Hotkey.find(code);
+        Hotkey hotkey = combo.triggerHotkey();
         String hotkeyName = hotkey.localName();
         hotkeyName = compress(hotkeyName);
         result.append(hotkeyName);
@@ -278,6 +278,35 @@ public class HelpBuilder {
         return result.toString();
     }
 
+    /**
+     * Compactly describe the specified KeySequence using compressed local
+     * hotkey names. Compare with
+     * {@link jme3utilities.ui.KeySequence#toStringLocal()}.
+     *
+     * @param sequence the KeySequence to describe (not null)
+     * @return a textual description (not null)
+     */
+    public static String describe(KeySequence sequence) {
+        StringBuilder result = new StringBuilder(40);
+
+        int numStrokes = sequence.countStrokes();
+        for (int strokeIndex = 0; strokeIndex < numStrokes; ++strokeIndex) {
+            if (strokeIndex > 0) {
+                result.append('>');
+            }
+            if (sequence.isLongPress(strokeIndex)) {
+                result.append("hold ");
+            }
+
+            Hotkey hotkey = sequence.hotkey(strokeIndex);
+            String hotkeyName = hotkey.localName();
+            hotkeyName = compress(hotkeyName);
+            result.append(hotkeyName);
+        }
+
+        return result.toString();
+    }
+
     /**
      * Return the amount of padding between the content bounds and the edges of
      * the background.
@@ -289,6 +318,16 @@ public class HelpBuilder {
         return padding;
     }
 
+    /**
+     * Return the revision count of the settings, which increases whenever a
+     * setting changes.
+     *
+     * @return the count (&ge;0)
+     */
+    int revision() {
+        return revision;
+    }
+
     /**
      * Return the amount of horizontal space between hotkey descriptions.
      *
@@ -308,6 +347,7 @@ public class HelpBuilder {
     public void setBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
         backgroundColor.set(newColor);
+        ++revision;
     }
 
     /**
@@ -320,6 +360,7 @@ public class HelpBuilder {
     public void setPadding(float newPadding) {
         Validate.nonNegative(newPadding, "new padding");
         this.padding = newPadding;
+        ++revision;
     }
 
     /**
@@ -331,6 +372,7 @@ public class HelpBuilder {
     public void setSeparation(float newSeparation) {
         Validate.positive(newSeparation, "new separation");
         this.separation = newSeparation;
+        ++revision;
     }
     // *************************************************************************
     // private methods
@@ -449,6 +491,19 @@ public class HelpBuilder {
                     actionsToHots.put(action, description);
                 }
             }
+
+            Collection<KeySequence> sequences
+                    = inputMode.listSequences(actionName);
+            for (KeySequence sequence : sequences) {
+                String description = describe(sequence);
+                if (actionsToHots.containsKey(action)) {
+                    String oldList = actionsToHots.get(action);
+                    String newList = oldList + chnSeparator + description;
+                    actionsToHots.put(action, newList);
+                } else {
+                    actionsToHots.put(action, description);
+                }
+            }
         }
 
         return actionsToHots;
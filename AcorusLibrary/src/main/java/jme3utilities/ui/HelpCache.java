@@ -0,0 +1,274 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapFont;
+import com.jme3.font.Rectangle;
+import com.jme3.scene.Node;
+import com.jme3.texture.image.ColorSpace;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Cache the help nodes built for an AcorusDemo, so that switching back to an
+ * InputMode reuses its node without any text layout. Each node is keyed by
+ * InputMode, HelpVersion, bounds, font, and ColorSpace, and it remains valid
+ * until the mode's bindings or the HelpBuilder's settings change.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class HelpCache {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of nodes to retain
+     */
+    final private static int maxEntries = 32;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HelpCache.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * builder whose settings the cached nodes reflect
+     */
+    final private HelpBuilder builder;
+    /**
+     * cached nodes, in least-recently-used order
+     */
+    final private Map<Key, Entry> entries
+            = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            boolean result = size() > maxEntries;
+            return result;
+        }
+    };
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cache for nodes built by the specified builder.
+     *
+     * @param builder the builder (not null, alias created)
+     */
+    HelpCache(HelpBuilder builder) {
+        assert builder != null;
+        this.builder = builder;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all cached nodes.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Find a valid cached node for the specified key.
+     *
+     * @param key the key to find (not null)
+     * @return the pre-existing node, or null if none is valid
+     */
+    Node find(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.bindingsRevision != key.inputMode.bindingsRevision()
+                || entry.builderRevision != builder.revision()) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.node;
+    }
+
+    /**
+     * Add a newly built node to the cache.
+     *
+     * @param key the key of the node (not null, alias created)
+     * @param node the node to cache (not null, alias created)
+     */
+    void put(Key key, Node node) {
+        assert node != null;
+
+        int modeRevision = key.inputMode.bindingsRevision();
+        int builderRevision = builder.revision();
+        Entry entry = new Entry(node, modeRevision, builderRevision);
+        entries.put(key, entry);
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * A cached node with the revisions it was built from.
+     */
+    private static class Entry {
+        /**
+         * revision of the InputMode's bindings
+         */
+        final int bindingsRevision;
+        /**
+         * revision of the HelpBuilder's settings
+         */
+        final int builderRevision;
+        /**
+         * the cached node
+         */
+        final Node node;
+
+        /**
+         * Instantiate an entry.
+         *
+         * @param node the node (not null, alias created)
+         * @param bindingsRevision the revision of the bindings
+         * @param builderRevision the revision of the builder settings
+         */
+        Entry(Node node, int bindingsRevision, int builderRevision) {
+            this.node = node;
+            this.bindingsRevision = bindingsRevision;
+            this.builderRevision = builderRevision;
+        }
+    }
+
+    /**
+     * Immutable key to identify a help node.
+     */
+    static class Key {
+        /**
+         * the font used (compared by identity)
+         */
+        final private BitmapFont font;
+        /**
+         * the ColorSpace used
+         */
+        final private ColorSpace colorSpace;
+        /**
+         * height of the bounds (in framebuffer pixels)
+         */
+        final private float height;
+        /**
+         * width of the bounds (in framebuffer pixels)
+         */
+        final private float width;
+        /**
+         * X coordinate of the bounds (in framebuffer pixels)
+         */
+        final private float x;
+        /**
+         * Y coordinate of the bounds (in framebuffer pixels)
+         */
+        final private float y;
+        /**
+         * the version of help
+         */
+        final private HelpVersion version;
+        /**
+         * the InputMode described (compared by identity)
+         */
+        final private InputMode inputMode;
+
+        /**
+         * Instantiate a key.
+         *
+         * @param inputMode the InputMode (not null, alias created)
+         * @param version the version of help (not null)
+         * @param bounds the bounds (not null, unaffected)
+         * @param font the font (not null, alias created)
+         * @param colorSpace the ColorSpace (not null)
+         */
+        Key(InputMode inputMode, HelpVersion version, Rectangle bounds,
+                BitmapFont font, ColorSpace colorSpace) {
+            this.inputMode = inputMode;
+            this.version = version;
+            this.font = font;
+            this.x = bounds.x;
+            this.y = bounds.y;
+            this.width = bounds.width;
+            this.height = bounds.height;
+            this.colorSpace = colorSpace;
+        }
+
+        /**
+         * Test for exact equivalence with another Object.
+         *
+         * @param otherObject the object to compare (may be null, unaffected)
+         * @return true if the objects are equivalent, otherwise false
+         */
+        @Override
+        public boolean equals(Object otherObject) {
+            boolean result;
+            if (otherObject == this) {
+                result = true;
+            } else if (otherObject instanceof Key) {
+                Key other = (Key) otherObject;
+                result = other.inputMode == inputMode
+                        && other.version == version
+                        && other.font == font
+                        && other.colorSpace == colorSpace
+                        && Float.compare(other.x, x) == 0
+                        && Float.compare(other.y, y) == 0
+                        && Float.compare(other.width, width) == 0
+                        && Float.compare(other.height, height) == 0;
+            } else {
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generate the hash code for this Key.
+         *
+         * @return the value to use for hashing
+         */
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(inputMode);
+            result = 31 * result + version.hashCode();
+            result = 31 * result + System.identityHashCode(font);
+            result = 31 * result + colorSpace.hashCode();
+            result = 31 * result + Float.floatToIntBits(x);
+            result = 31 * result + Float.floatToIntBits(y);
+            result = 31 * result + Float.floatToIntBits(width);
+            result = 31 * result + Float.floatToIntBits(height);
+
+            return result;
+        }
+    }
+}
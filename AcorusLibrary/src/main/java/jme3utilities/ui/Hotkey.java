@@ -31,17 +31,23 @@ package jme3utilities.ui;
 import com.jme3.input.InputManager;
 import com.jme3.input.Joystick;
 import com.jme3.input.JoystickButton;
+import com.jme3.input.JoystickConnectionListener;
 import com.jme3.input.KeyInput;
 import com.jme3.input.MouseInput;
 import com.jme3.input.controls.JoyButtonTrigger;
 import com.jme3.input.controls.KeyTrigger;
 import com.jme3.input.controls.MouseButtonTrigger;
 import com.jme3.input.controls.Trigger;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
@@ -83,6 +89,22 @@ final public class Hotkey {
      */
     final private static Logger logger
             = Logger.getLogger(Hotkey.class.getName());
+    /**
+     * pattern for matching the name of a joystick-button hotkey
+     */
+    final private static Pattern joystickButtonPattern
+            = Pattern.compile("j\\d+\\.b\\d+");
+    /**
+     * order hotkeys by local name, for listing
+     */
+    final private static Comparator<Hotkey> byLocalNameOrder
+            = new Comparator<Hotkey>() {
+        @Override
+        public int compare(Hotkey left, Hotkey right) {
+            int result = left.localName.compareTo(right.localName);
+            return result;
+        }
+    };
     // *************************************************************************
     // fields
 
@@ -103,17 +125,29 @@ final public class Hotkey {
      */
     final private int universalCode;
     /**
-     * map universal codes to hotkeys
+     * hotkeys indexed by universal code (null elements for unassigned codes,
+     * grown as needed)
+     */
+    private static Hotkey[] byUniversalCode
+            = new Hotkey[firstJoystickButton];
+    /**
+     * every joystick-button hotkey ever registered, including retired ones,
+     * keyed by name
      */
-    final private static Map<Integer, Hotkey> byUniversalCode = new TreeMap<>();
+    final private static Map<String, Hotkey> joystickButtons
+            = new HashMap<>(64);
+    /**
+     * all hotkeys sorted by local name, or null if not yet sorted
+     */
+    private static Hotkey[] sortedByLocalName = null;
     /**
      * map local names to hotkeys
      */
-    final private static Map<String, Hotkey> byLocalName = new TreeMap<>();
+    final private static Map<String, Hotkey> byLocalName = new HashMap<>(256);
     /**
      * map US names to hotkeys
      */
-    final private static Map<String, Hotkey> byUsName = new TreeMap<>();
+    final private static Map<String, Hotkey> byUsName = new HashMap<>(256);
     /**
      * brief, descriptive name of this hotkey (not null, not empty) for use by
      * BindScreen and HelpUtils. On systems with Dvorak or non-US keyboards,
@@ -196,12 +230,16 @@ final public class Hotkey {
      * @param universalCode a universal code: either a key code (from
      * {@link com.jme3.input.KeyInput}) or firstMouseButton + a mouse-button
      * code (from {@link com.jme3.input.MouseInput}) or joystick-button code
-     * (computed from a joystick index and a joystick-button index)
+     * (assigned when the button was first registered)
      * @return the pre-existing instance (or null if none)
      */
     public static Hotkey find(int universalCode) {
         Validate.nonNegative(universalCode, "universal code");
-        Hotkey result = byUniversalCode.get(universalCode);
+
+        Hotkey result = null;
+        if (universalCode < byUniversalCode.length) {
+            result = byUniversalCode[universalCode];
+        }
         return result;
     }
 
@@ -274,14 +312,53 @@ final public class Hotkey {
         Joystick[] sticks = inputManager.getJoysticks();
         if (sticks != null) {
             for (Joystick joystick : sticks) {
-                int joyIndex = joystick.getJoyId();
-                List<JoystickButton> buttons = joystick.getButtons();
-                for (JoystickButton button : buttons) {
-                    int buttonIndex = button.getButtonId();
-                    addJoystickButton(joyIndex, buttonIndex);
-                }
+                addJoystick(joystick);
             }
         }
+
+        // Track joysticks that get connected or disconnected later.
+        inputManager.addJoystickConnectionListener(
+                new JoystickConnectionListener() {
+            @Override
+            public void onConnected(Joystick joystick) {
+                List<Hotkey> added = addJoystick(joystick);
+                InputMode.remapJoystick(added, true);
+            }
+
+            @Override
+            public void onDisconnected(Joystick joystick) {
+                List<Hotkey> retired = retireJoystick(joystick);
+                InputMode.remapJoystick(retired, false);
+            }
+        });
+    }
+
+    /**
+     * Instantiate hotkeys for all known keyboard keys if they were skipped
+     * because the keyboard is a dummy, as in a Headless context. This allows
+     * a JournalReplay to replay keyboard input. Has no effect if the keyboard
+     * hotkeys already exist.
+     */
+    static void initializeDummyKeys() {
+        if (findKey(KeyInput.KEY_A) == null) {
+            KeyInput keyInput = Heart.getKeyInput(inputManager);
+            String keyInputClassName = keyInput.getClass().getSimpleName();
+            discoverKeys(keyInputClassName);
+        }
+    }
+
+    /**
+     * Test whether the specified name follows the pattern of joystick-button
+     * hotkeys, such as "j0.b3". The joystick needn't be connected.
+     *
+     * @param usName the name to test (not null)
+     * @return true if it matches, otherwise false
+     */
+    static boolean isJoystickButtonName(String usName) {
+        Matcher matcher = joystickButtonPattern.matcher(usName);
+        boolean result = matcher.matches();
+
+        return result;
     }
 
     /**
@@ -309,10 +386,17 @@ final public class Hotkey {
      * @return a new list
      */
     public static List<Hotkey> listAll() {
-        Collection<Hotkey> all = byLocalName.values();
-        int numInstances = all.size();
-        List<Hotkey> result = new ArrayList<>(numInstances);
-        result.addAll(all);
+        if (sortedByLocalName == null) {
+            Collection<Hotkey> all = byLocalName.values();
+            int numInstances = all.size();
+            Hotkey[] array = new Hotkey[numInstances];
+            array = all.toArray(array);
+            Arrays.sort(array, byLocalNameOrder);
+            sortedByLocalName = array;
+        }
+
+        List<Hotkey> sorted = Arrays.asList(sortedByLocalName);
+        List<Hotkey> result = new ArrayList<>(sorted);
 
         return result;
     }
@@ -340,19 +424,6 @@ final public class Hotkey {
         inputManager.addMapping(actionString, trigger);
     }
 
-    /**
-     * Unmap this hotkey in the input manager.
-     *
-     * @param actionString action string (not null)
-     */
-    void unmap(String actionString) {
-        Validate.nonNull(actionString, "action string");
-
-        if (inputManager.hasMapping(actionString)) {
-            inputManager.deleteTrigger(actionString, trigger);
-        }
-    }
-
     /**
      * Determine the US name of this hotkey, which is the name InputMode uses.
      *
@@ -389,31 +460,66 @@ final public class Hotkey {
     }
 
     /**
-     * Add a new hotkey for a joystick button.
+     * Register hotkeys for all buttons of the specified joystick. Buttons that
+     * already have hotkeys are skipped.
+     *
+     * @param joystick the joystick (not null)
+     * @return a new list of the hotkeys added
+     */
+    private static List<Hotkey> addJoystick(Joystick joystick) {
+        int joyIndex = joystick.getJoyId();
+        List<JoystickButton> buttons = joystick.getButtons();
+        List<Hotkey> result = new ArrayList<>(buttons.size());
+        for (JoystickButton button : buttons) {
+            int buttonIndex = button.getButtonId();
+            Hotkey hotkey = addJoystickButton(joyIndex, buttonIndex);
+            if (hotkey != null) {
+                result.add(hotkey);
+            }
+        }
+
+        if (!result.isEmpty() && logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Added {0} hotkeys for joystick {1}.",
+                    new Object[]{result.size(), joyIndex});
+        }
+        return result;
+    }
+
+    /**
+     * Add a hotkey for a joystick button. If the button was registered
+     * previously, its former hotkey (and universal code) is reused.
      *
      * @param joystickIndex the JME joystick index (&ge;0)
      * @param buttonIndex the JME button index within the joystick (&ge;0,
      * &lt;12)
+     * @return the hotkey added, or null if the button already had one
      */
-    private static void addJoystickButton(int joystickIndex, int buttonIndex) {
+    private static Hotkey addJoystickButton(
+            int joystickIndex, int buttonIndex) {
         assert joystickIndex >= 0 : joystickIndex;
         assert buttonIndex >= 0 : buttonIndex;
         assert buttonIndex < maxButtonsPerJoystick : buttonIndex;
 
         String name = String.format("j%d.b%d", joystickIndex, buttonIndex);
-        int universalCode = firstJoystickButton
-                + maxButtonsPerJoystick * joystickIndex + buttonIndex;
-        assert find(universalCode) == null :
-                name + " is already assigned to a hotkey";
-        assert findLocal(name) == null;
-        assert findUs(name) == null;
+        if (findUs(name) != null) {
+            return null;
+        }
 
-        Trigger trigger = new JoyButtonTrigger(joystickIndex, buttonIndex);
-        Hotkey instance = new Hotkey(universalCode, name, name, trigger);
+        Hotkey instance = joystickButtons.get(name);
+        if (instance == null) {
+            int universalCode = firstJoystickButton
+                    + maxButtonsPerJoystick * joystickIndex + buttonIndex;
+            assert find(universalCode) == null :
+                    name + " is already assigned to a hotkey";
+            assert findLocal(name) == null;
+
+            Trigger trigger = new JoyButtonTrigger(joystickIndex, buttonIndex);
+            instance = new Hotkey(universalCode, name, name, trigger);
+            joystickButtons.put(name, instance);
+        }
+        index(instance);
 
-        byUniversalCode.put(universalCode, instance);
-        byLocalName.put(name, instance);
-        byUsName.put(name, instance);
+        return instance;
     }
 
     /**
@@ -443,7 +549,7 @@ final public class Hotkey {
             }
 
             if (glfwName != null) { // key is printable
-                localName = englishName(glfwName);
+                localName = KeyNames.englishName(glfwName);
 
                 if (!localName.equals(usName)) {
                     String usQ = MyString.quote(usName);
@@ -488,7 +594,7 @@ final public class Hotkey {
                 }
 
                 byLocalName.remove(localName);
-                byUniversalCode.remove(preexistingCode);
+                byUniversalCode[preexistingCode] = null;
             }
         }
 
@@ -496,9 +602,7 @@ final public class Hotkey {
         Trigger trigger = new KeyTrigger(keyCode);
         Hotkey instance = new Hotkey(universalCode, localName, usName, trigger);
 
-        byUniversalCode.put(universalCode, instance);
-        byLocalName.put(localName, instance);
-        byUsName.put(usName, instance);
+        index(instance);
     }
 
     /**
@@ -523,9 +627,7 @@ final public class Hotkey {
         Trigger trigger = new MouseButtonTrigger(buttonCode);
         Hotkey instance = new Hotkey(universalCode, name, name, trigger);
 
-        byUniversalCode.put(universalCode, instance);
-        byLocalName.put(name, instance);
-        byUsName.put(name, instance);
+        index(instance);
     }
 
     /**
@@ -554,267 +656,12 @@ final public class Hotkey {
     }
 
     /**
-     * Transform the GLFW name of a printable keyboard key into a brief,
-     * descriptive name in English. Only a few common names are handled. When a
-     * name isn't handled, the GLFW name is returned. TODO handle additional
-     * cases
+     * Discover the names of all known keyboard keys and instantiate hotkeys
+     * for them.
      *
-     * @param glfwKeyName a key name obtained from GLFW (not null, typically a
-     * single Unicode character)
-     * @return a brief, descriptive name for the key (not null)
-     */
-    private static String englishName(String glfwKeyName) {
-        assert glfwKeyName != null;
-
-        switch (glfwKeyName) {
-            case "\u0430":
-                return "a";
-            case "\u00B4":
-                return "acute";
-            case "\u05D0":
-                return "alef";
-            case "\u03B1":
-                return "alpha";
-            case "\u05E2":
-                return "ayin";
-            case "&":
-                return "ampersand";
-            case "'":
-                return "apostrophe";
-            case "\\":
-                return "backslash";
-            case "`":
-                return "backtick";
-            case "\u0431":
-                return "be";
-            case "\u05D1":
-                return "bet";
-            case "β":
-                return "beta";
-            case "\u0447":
-                return "che";
-            case "\u03C7":
-                return "chi";
-            case "^":
-                return "circumflex";
-            case ":":
-                return "colon";
-            case ",":
-                return "comma";
-            case "\u05D3":
-                return "dalet";
-            case "\u0434":
-                return "de";
-            case "δ":
-                return "delta";
-            case "\u00A8":
-                return "diaeresis";
-            case "$":
-                return "dollar";
-            case "\u044D":
-                return "e";
-            case "\u0444":
-                return "ef";
-            case "\u043B":
-                return "el";
-            case "\u043C":
-                return "em";
-            case "\u043D":
-                return "en";
-            case "ε":
-                return "epsilon";
-            case "=":
-                return "equals";
-            case "\u0440":
-                return "er";
-            case "\u0441":
-                return "es";
-            case "η":
-                return "eta";
-            case "!":
-                return "exclaim";
-            case "\u05DA":
-                return "fin kaf";
-            case "\u05DD":
-                return "fin mem";
-            case "\u05DF":
-                return "fin nun";
-            case "\u05E3":
-                return "fin pe";
-            case "\u03C2":
-                return "fin sigma";
-            case "\u03EA":
-                return "fin tav";
-            case "\u05E5":
-                return "fin tsadi";
-            case "\u03B3":
-                return "gamma";
-            case "\u0433":
-                return "ghe";
-            case "\u05D2":
-                return "gimel";
-            case "\u0445":
-                return "ha";
-            case "½":
-                return "half";
-            case "\u044A":
-                return "hard";
-            case "#":
-                return "hash";
-            case "\u05D4":
-                return "he";
-            case "\u05D7":
-                return "het";
-            case "\u0438":
-                return "i";
-            case "\u0435":
-                return "ie";
-            case "\u00A1":
-                return "inv exclaim";
-            case "\u0451":
-                return "io";
-            case "\u03B9":
-                return "iota";
-            case "\u043A":
-                return "ka";
-            case "\u05DB":
-                return "kaf";
-            case "\u03BA":
-                return "kappa";
-            case "λ":
-                return "lambda";
-            case "\u05DC":
-                return "lamed";
-            case "[":
-                return "left bracket";
-            case "(":
-                return "left paren";
-            case "<":
-                return "less than";
-            case "\u05DE":
-                return "mem";
-            case "µ":
-                return "micro";
-            case "-":
-                return "minus";
-            case "\u03BC":
-                return "mu";
-            case "\u03BD":
-                return "nu";
-            case "\u05E0":
-                return "nun";
-            case "\u043E":
-                return "o";
-            case "ω":
-                return "omega";
-            case "\u03BF":
-                return "omicron";
-            case "\u00BA":
-                return "ordinal";
-            case "\u043F":
-            case "\u05E4":
-                return "pe";
-            case ".":
-                return "period";
-            case "\u03C6":
-                return "phi";
-            case "\u03C0":
-                return "pi";
-            case "+":
-                return "plus";
-            case "ψ":
-                return "psi";
-            case "\u05E7":
-                return "qof";
-            case "\"":
-                return "quote";
-            case "\u05E8":
-                return "resh";
-            case "\u03C1":
-                return "rho";
-            case "]":
-                return "right bracket";
-            case ")":
-                return "right paren";
-            case "\u05E1":
-                return "samekh";
-            case "§":
-                return "section";
-            case ";":
-                return "semicolon";
-            case "\u0448":
-                return "sha";
-            case "\u0449":
-                return "shcha";
-            case "\u05E9":
-                return "shin";
-            case "\u0439":
-                return "short i";
-            case "σ":
-                return "sigma";
-            case "/":
-                return "slash";
-            case "\u044C":
-                return "soft";
-            case "²":
-                return "super2";
-            case "\u03C4":
-                return "tau";
-            case "\u05EA":
-                return "tav";
-            case "\u0442":
-                return "te";
-            case "\u05D8":
-                return "tet";
-            case "θ":
-                return "theta";
-            case "\u0384":
-                return "tonos";
-            case "\u05E6":
-                return "tsadi";
-            case "\u0446":
-                return "tse";
-            case "\u0443":
-                return "u";
-            case "\u03C5":
-                return "upsilon";
-            case "\u05D5":
-                return "vav";
-            case "\u0432":
-                return "ve";
-            case "ξ":
-                return "xi";
-            case "\u044F":
-                return "ya";
-            case "\u044B":
-                return "yeru";
-            case "\u05D9":
-                return "yod";
-            case "\u044E":
-                return "yu";
-            case "\u05D6":
-                return "zayin";
-            case "\u0437":
-                return "ze";
-            case "\u03B6":
-                return "zeta";
-            case "\u0436":
-                return "zhe";
-            default:
-                return glfwKeyName;
-        }
-    }
-
-    /**
-     * Instantiate hotkeys for all known keyboard keys.
+     * @param keyInputClassName the simple name of the KeyInput class (not null)
      */
-    private static void initializeKeys() {
-        KeyInput keyInput = Heart.getKeyInput(inputManager);
-        String keyInputClassName = keyInput.getClass().getSimpleName();
-        if (keyInputClassName.equals("DummyKeyInput")) {
-            return; // probably in a Headless context
-        }
-
+    private static void discoverKeys(String keyInputClassName) {
         // mode keys:
         addKey(KeyInput.KEY_LCONTROL, "left ctrl");
         addKey(KeyInput.KEY_LMENU, "left alt");
@@ -934,4 +781,119 @@ final public class Hotkey {
             addKey(KeyInput.KEY_YEN, "yen");
         }
     }
+
+    /**
+     * Add the specified hotkey to the lookup tables, replacing any hotkey with
+     * the same code or names.
+     *
+     * @param hotkey the hotkey to add (not null)
+     */
+    private static void index(Hotkey hotkey) {
+        int universalCode = hotkey.universalCode;
+        int length = byUniversalCode.length;
+        if (universalCode >= length) {
+            int newLength = Math.max(2 * length, universalCode + 1);
+            byUniversalCode = Arrays.copyOf(byUniversalCode, newLength);
+        }
+        byUniversalCode[universalCode] = hotkey;
+
+        byLocalName.put(hotkey.localName, hotkey);
+        byUsName.put(hotkey.usName, hotkey);
+        sortedByLocalName = null;
+    }
+
+    /**
+     * Instantiate hotkeys for all known keyboard keys. If a sandbox has been
+     * designated, the resolved names are cached there, and subsequent startups
+     * in the same environment load them instead of querying every key.
+     */
+    private static void initializeKeys() {
+        KeyInput keyInput = Heart.getKeyInput(inputManager);
+        String keyInputClassName = keyInput.getClass().getSimpleName();
+        if (keyInputClassName.equals("DummyKeyInput")) {
+            return; // probably in a Headless context
+        }
+
+        long startNanos = System.nanoTime();
+        String fingerprint = null;
+        if (ActionApplication.hasSandbox()) {
+            fingerprint = HotkeyNameCache.fingerprint(
+                    inputManager, keyInputClassName);
+            HotkeyNameCache cache = HotkeyNameCache.read(fingerprint);
+            if (cache != null) {
+                int numHotkeys = cache.countHotkeys();
+                for (int index = 0; index < numHotkeys; ++index) {
+                    int keyCode = cache.code(index);
+                    Trigger trigger = new KeyTrigger(keyCode);
+                    Hotkey instance = new Hotkey(keyCode,
+                            cache.localName(index), cache.usName(index),
+                            trigger);
+                    index(instance);
+                }
+
+                if (logger.isLoggable(Level.INFO)) {
+                    long elapsedNanos = System.nanoTime() - startNanos;
+                    long savedNanos = cache.discoveryNanos() - elapsedNanos;
+                    logger.log(Level.INFO, String.format(
+                            "Loaded %d hotkey names from the cache in %.1f ms,"
+                            + " saving about %.1f ms.", numHotkeys,
+                            1e-6 * elapsedNanos, 1e-6 * savedNanos));
+                }
+                return;
+            }
+        }
+
+        discoverKeys(keyInputClassName);
+
+        if (fingerprint != null) {
+            HotkeyNameCache cache = new HotkeyNameCache(fingerprint);
+            for (int keyCode = 0; keyCode <= KeyInput.KEY_LAST; ++keyCode) {
+                Hotkey hotkey = byUniversalCode[keyCode];
+                if (hotkey != null) {
+                    cache.add(keyCode, hotkey.usName, hotkey.localName);
+                }
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            cache.setDiscoveryNanos(elapsedNanos);
+            try {
+                cache.write();
+            } catch (IOException exception) {
+                logger.log(Level.WARNING,
+                        "Failed to cache hotkey names: {0}", exception);
+            }
+        }
+    }
+
+    /**
+     * Retire the hotkeys of all buttons of the specified joystick, removing
+     * them from the lookup tables. Their universal codes remain reserved in
+     * case the joystick is reconnected.
+     *
+     * @param joystick the joystick that was disconnected (not null)
+     * @return a new list of the retired hotkeys
+     */
+    private static List<Hotkey> retireJoystick(Joystick joystick) {
+        int joyIndex = joystick.getJoyId();
+        String prefix = String.format("j%d.b", joyIndex);
+
+        List<Hotkey> result = new ArrayList<>(16);
+        for (Hotkey hotkey : joystickButtons.values()) {
+            String name = hotkey.usName;
+            if (name.startsWith(prefix) && byUsName.get(name) == hotkey) {
+                result.add(hotkey);
+            }
+        }
+        for (Hotkey hotkey : result) {
+            byUniversalCode[hotkey.universalCode] = null;
+            byLocalName.remove(hotkey.localName);
+            byUsName.remove(hotkey.usName);
+        }
+        sortedByLocalName = null;
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Retired {0} hotkeys for joystick {1}.",
+                    new Object[]{result.size(), joyIndex});
+        }
+        return result;
+    }
 }
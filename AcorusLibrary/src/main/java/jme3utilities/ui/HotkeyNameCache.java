@@ -0,0 +1,351 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import com.jme3.input.KeyInput;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * The resolved names of all keyboard hotkeys, as persisted in the sandbox so
+ * that later startups can skip key-name discovery.
+ * <p>
+ * Each table is tagged with a fingerprint of the environment that produced it:
+ * the LWJGL version, the KeyInput class, the default Locale, and a hash of the
+ * names that the current keyboard layout assigns to every key code. A table is
+ * only used if its fingerprint matches the current environment.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class HotkeyNameCache {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * identifies the file format (increment when the format changes)
+     */
+    final private static int formatVersion = 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HotkeyNameCache.class.getName());
+    /**
+     * asset path of the cache file, relative to the sandbox
+     */
+    final static String assetPath = "Interface/hotkeyNames.bin";
+    // *************************************************************************
+    // fields
+
+    /**
+     * universal codes of the cached hotkeys
+     */
+    private int[] codes = new int[128];
+    /**
+     * number of cached hotkeys
+     */
+    private int numHotkeys = 0;
+    /**
+     * time spent on key-name discovery when the table was built (in
+     * nanoseconds, &ge;0)
+     */
+    private long discoveryNanos = 0L;
+    /**
+     * fingerprint of the environment that produced the table (not null)
+     */
+    final private String fingerprint;
+    /**
+     * local names of the cached hotkeys
+     */
+    private String[] localNames = new String[128];
+    /**
+     * US names of the cached hotkeys
+     */
+    private String[] usNames = new String[128];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty table.
+     *
+     * @param fingerprint the fingerprint of the current environment (not null)
+     */
+    HotkeyNameCache(String fingerprint) {
+        assert fingerprint != null;
+        this.fingerprint = fingerprint;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append a hotkey to the table.
+     *
+     * @param code the universal code of the hotkey (&ge;0)
+     * @param usName the US name of the hotkey (not null, not empty)
+     * @param localName the local name of the hotkey (not null, not empty)
+     */
+    void add(int code, String usName, String localName) {
+        assert code >= 0 : code;
+        assert usName != null;
+        assert localName != null;
+
+        if (numHotkeys == codes.length) {
+            int newLength = 2 * numHotkeys;
+            this.codes = Arrays.copyOf(codes, newLength);
+            this.localNames = Arrays.copyOf(localNames, newLength);
+            this.usNames = Arrays.copyOf(usNames, newLength);
+        }
+        codes[numHotkeys] = code;
+        localNames[numHotkeys] = localName;
+        usNames[numHotkeys] = usName;
+        ++numHotkeys;
+    }
+
+    /**
+     * Return the universal code of the indexed hotkey.
+     *
+     * @param index the index of the hotkey (&ge;0, &lt;numHotkeys)
+     * @return the universal code (&ge;0)
+     */
+    int code(int index) {
+        assert index >= 0 : index;
+        assert index < numHotkeys : index;
+        return codes[index];
+    }
+
+    /**
+     * Count the hotkeys in the table.
+     *
+     * @return the count (&ge;0)
+     */
+    int countHotkeys() {
+        assert numHotkeys >= 0 : numHotkeys;
+        return numHotkeys;
+    }
+
+    /**
+     * Determine how long key-name discovery took when the table was built.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    long discoveryNanos() {
+        assert discoveryNanos >= 0L : discoveryNanos;
+        return discoveryNanos;
+    }
+
+    /**
+     * Generate a fingerprint for the current environment. This queries the
+     * raw name of every key code, but skips the translation and bookkeeping
+     * of full discovery.
+     *
+     * @param inputManager the application's input manager (not null)
+     * @param keyInputClassName the simple name of the KeyInput class (not null)
+     * @return a new String
+     */
+    static String fingerprint(
+            InputManager inputManager, String keyInputClassName) {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append(lwjglVersion());
+        builder.append('|');
+        builder.append(keyInputClassName);
+        builder.append('|');
+        builder.append(Locale.getDefault());
+        builder.append('|');
+
+        // 64-bit FNV-1a hash of the names of all key codes:
+        long hash = 0xcbf29ce484222325L;
+        for (int keyCode = 0; keyCode <= KeyInput.KEY_LAST; ++keyCode) {
+            String glfwName;
+            try {
+                glfwName = inputManager.getKeyName(keyCode);
+            } catch (UnsupportedOperationException exception) {
+                break; // probably using LWJGL v2
+            }
+            String text = (glfwName == null) ? "" : glfwName;
+            int length = text.length();
+            for (int charIndex = 0; charIndex < length; ++charIndex) {
+                hash = (hash ^ text.charAt(charIndex)) * 0x100000001b3L;
+            }
+            hash = (hash ^ ',') * 0x100000001b3L; // separator
+        }
+        builder.append(Long.toHexString(hash));
+
+        String result = builder.toString();
+        return result;
+    }
+
+    /**
+     * Return the local name of the indexed hotkey.
+     *
+     * @param index the index of the hotkey (&ge;0, &lt;numHotkeys)
+     * @return the name (not null, not empty)
+     */
+    String localName(int index) {
+        assert index >= 0 : index;
+        assert index < numHotkeys : index;
+        return localNames[index];
+    }
+
+    /**
+     * Read a table from the sandbox, provided its fingerprint matches.
+     *
+     * @param fingerprint the fingerprint of the current environment (not null)
+     * @return a new table, or null if the cache file is missing, unreadable,
+     * or stale
+     */
+    static HotkeyNameCache read(String fingerprint) {
+        assert fingerprint != null;
+
+        String filePath = ActionApplication.filePath(assetPath);
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        HotkeyNameCache result = null;
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            DataInputStream stream
+                    = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (stream.readInt() == formatVersion
+                    && stream.readUTF().equals(fingerprint)) {
+                result = new HotkeyNameCache(fingerprint);
+                result.discoveryNanos = stream.readLong();
+                int count = stream.readInt();
+                for (int index = 0; index < count; ++index) {
+                    int code = stream.readInt();
+                    String usName = stream.readUTF();
+                    String localName = stream.readUTF();
+                    result.add(code, usName, localName);
+                }
+            }
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "Ignoring unreadable cache {0}: {1}",
+                    new Object[]{MyString.quote(filePath), exception});
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Alter how long key-name discovery took.
+     *
+     * @param nanoseconds the duration (in nanoseconds, &ge;0)
+     */
+    void setDiscoveryNanos(long nanoseconds) {
+        assert nanoseconds >= 0L : nanoseconds;
+        this.discoveryNanos = nanoseconds;
+    }
+
+    /**
+     * Return the US name of the indexed hotkey.
+     *
+     * @param index the index of the hotkey (&ge;0, &lt;numHotkeys)
+     * @return the name (not null, not empty)
+     */
+    String usName(int index) {
+        assert index >= 0 : index;
+        assert index < numHotkeys : index;
+        return usNames[index];
+    }
+
+    /**
+     * Write this table to the sandbox, replacing any previous cache file.
+     *
+     * @throws IOException if the file can't be written
+     */
+    void write() throws IOException {
+        String filePath = ActionApplication.filePath(assetPath);
+        File file = new File(filePath);
+        File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            boolean success = parentDirectory.mkdirs();
+            if (!success) {
+                throw new IOException("Unable to create folder for "
+                        + MyString.quote(filePath));
+            }
+        }
+
+        DataOutputStream stream = null;
+        try {
+            stream = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(file)));
+            stream.writeInt(formatVersion);
+            stream.writeUTF(fingerprint);
+            stream.writeLong(discoveryNanos);
+            stream.writeInt(numHotkeys);
+            for (int index = 0; index < numHotkeys; ++index) {
+                stream.writeInt(codes[index]);
+                stream.writeUTF(usNames[index]);
+                stream.writeUTF(localNames[index]);
+            }
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine the version of LWJGL in use, if any.
+     *
+     * @return a descriptive string (not null)
+     */
+    private static String lwjglVersion() {
+        String[] classNames = {"org.lwjgl.Version", "org.lwjgl.Sys"};
+        for (String className : classNames) {
+            try {
+                Class<?> clazz = Class.forName(className);
+                Method getVersion = clazz.getMethod("getVersion");
+                Object version = getVersion.invoke(null);
+                return className + " " + version;
+            } catch (ReflectiveOperationException | LinkageError exception) {
+                // try the next class
+            }
+        }
+
+        return "no LWJGL";
+    }
+}
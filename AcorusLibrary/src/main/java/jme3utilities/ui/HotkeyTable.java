@@ -0,0 +1,232 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.MyString;
+
+/**
+ * Hotkey bindings of an InputMode, indexed in both directions: from US hotkey
+ * names to action names and from action names to US hotkey names.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class HotkeyTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HotkeyTable.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * map action names to the US names of their hotkeys
+     */
+    final private Map<String, Set<String>> actionToHotkeys
+            = new HashMap<>(64);
+    /**
+     * map US hotkey names to action names: the form in which the bindings are
+     * saved
+     */
+    final private Properties hotkeyToAction = new Properties();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty table.
+     */
+    HotkeyTable() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Look up the action bound to the named hotkey.
+     *
+     * @param usHotkeyName the US name of the hotkey (not null)
+     * @return the action name, or null if the hotkey isn't bound
+     */
+    String actionName(String usHotkeyName) {
+        String result = hotkeyToAction.getProperty(usHotkeyName);
+        return result;
+    }
+
+    /**
+     * Bind the named action to the named hotkey, replacing any existing
+     * binding for the hotkey.
+     *
+     * @param usHotkeyName the US name of the hotkey (not null)
+     * @param actionName the name of the action (not null)
+     */
+    void bind(String usHotkeyName, String actionName) {
+        assert actionName != null;
+
+        Object oldAction = hotkeyToAction.put(usHotkeyName, actionName);
+        if (oldAction != null) {
+            removeFromIndex((String) oldAction, usHotkeyName);
+        }
+
+        Set<String> hotkeys = actionToHotkeys.get(actionName);
+        if (hotkeys == null) {
+            hotkeys = new TreeSet<>();
+            actionToHotkeys.put(actionName, hotkeys);
+        }
+        hotkeys.add(usHotkeyName);
+    }
+
+    /**
+     * Remove all bindings.
+     */
+    void clear() {
+        actionToHotkeys.clear();
+        hotkeyToAction.clear();
+    }
+
+    /**
+     * Count the hotkeys bound to the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @return the count (&ge;0)
+     */
+    int countHotkeys(String actionName) {
+        Set<String> hotkeys = actionToHotkeys.get(actionName);
+        int result = (hotkeys == null) ? 0 : hotkeys.size();
+
+        return result;
+    }
+
+    /**
+     * Enumerate the hotkeys bound to the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @return an unmodifiable collection of US hotkey names (not null)
+     */
+    Collection<String> hotkeysFor(String actionName) {
+        Set<String> hotkeys = actionToHotkeys.get(actionName);
+        if (hotkeys == null) {
+            return Collections.emptySet();
+        } else {
+            return Collections.unmodifiableSet(hotkeys);
+        }
+    }
+
+    /**
+     * Enumerate all bound hotkeys.
+     *
+     * @return a new set of US hotkey names
+     */
+    Set<String> listHotkeys() {
+        Set<String> result = hotkeyToAction.stringPropertyNames();
+        return result;
+    }
+
+    /**
+     * Write the bindings to the specified file as an XML document, creating
+     * its parent folder if necessary.
+     *
+     * @param filePath the filesystem path of the file (not null)
+     * @param comment a description of the bindings, or null for none
+     * @param extra additional entries to write (not null, unaffected)
+     * @throws IOException if an error occurs while writing
+     */
+    void storeToXML(String filePath, String comment, Properties extra)
+            throws IOException {
+        File file = new File(filePath);
+        File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            boolean success = parentDirectory.mkdirs();
+            if (!success) {
+                String parentPath = Heart.fixedPath(parentDirectory);
+                String msg = String.format(
+                        "Unable to create folder %s for hotkey bindings",
+                        MyString.quote(parentPath));
+                throw new IOException(msg);
+            }
+        }
+
+        FileOutputStream stream = null;
+        try {
+            stream = new FileOutputStream(file);
+            Properties all = new Properties();
+            all.putAll(hotkeyToAction);
+            all.putAll(extra);
+            all.storeToXML(stream, comment);
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * Remove any binding for the named hotkey.
+     *
+     * @param usHotkeyName the US name of the hotkey (not null)
+     */
+    void unbind(String usHotkeyName) {
+        Object oldAction = hotkeyToAction.remove(usHotkeyName);
+        if (oldAction != null) {
+            removeFromIndex((String) oldAction, usHotkeyName);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Remove a hotkey from the index entry of the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @param usHotkeyName the US name of the hotkey (not null)
+     */
+    private void removeFromIndex(String actionName, String usHotkeyName) {
+        Set<String> hotkeys = actionToHotkeys.get(actionName);
+        boolean success = hotkeys.remove(usHotkeyName);
+        assert success : usHotkeyName;
+
+        if (hotkeys.isEmpty()) {
+            actionToHotkeys.remove(actionName);
+        }
+    }
+}
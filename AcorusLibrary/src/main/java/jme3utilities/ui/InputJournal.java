@@ -0,0 +1,394 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * Record input events to a compact binary file, for deterministic replay
+ * using a JournalReplay.
+ * <p>
+ * While recording, every hotkey event dispatched to an InputMode is appended
+ * to a preallocated buffer, followed at the end of each frame by a frame
+ * record carrying its tpf. Whenever the mode stack's bindings have changed
+ * (because a layer was mapped or unmapped, or a hotkey was rebound) the next
+ * hotkey record is preceded by a checkpoint carrying a hash of the new
+ * bindings, so a replay can detect where it diverged from the recording.
+ * Signal transitions aren't recorded, since replaying the hotkey events
+ * regenerates them. The buffer is written to the file whenever it fills, and
+ * when recording stops, so recording doesn't allocate any objects.
+ * <p>
+ * The file begins with a 12-byte header (magic number, format version, and
+ * record size), followed by the layers of the mode stack when recording
+ * started: a count (int) and, for each layer from bottom to top, its short
+ * name, a pass-through flag (byte), and its hotkey bindings: a count (int)
+ * and, for each bound hotkey, its universal code (int) and its action name.
+ * Names are encoded in UTF-8, preceded by their length as a short. A
+ * JournalReplay uses them to replay against the same bindings. Combos and key
+ * sequences aren't included. Each record is 10 bytes, big-endian: the frame
+ * number (int), the kind of record (byte), a flag (byte), and a payload (int):
+ * a universal code, a hash of the bindings, or the raw bits of a tpf.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class InputJournal {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the fixed part of the file header (in bytes)
+     */
+    final static int headerBytes = 12;
+    /**
+     * kind of record that ends a frame (payload is the raw bits of its tpf)
+     */
+    final static int kindFrame = 0;
+    /**
+     * kind of record for a hotkey event (payload is the universal code, flag
+     * is 1 for a press and 0 for a release)
+     */
+    final static int kindHotkey = 1;
+    /**
+     * kind of record for a checkpoint of the mode stack's bindings (payload
+     * is the hash of its bindings, flag is unused)
+     */
+    final static int kindBindings = 2;
+    /**
+     * magic number identifying a journal file ("ACJ1" in ASCII)
+     */
+    final static int magic = 0x41434A31;
+    /**
+     * size of each record (in bytes)
+     */
+    final static int recordBytes = 10;
+    /**
+     * version of the file format
+     */
+    final static int version = 3;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(InputJournal.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * preallocated buffer for records not yet written
+     */
+    final private ByteBuffer buffer;
+    /**
+     * true if a checkpoint of the bindings was recorded since recording
+     * started
+     */
+    private boolean hasCheckpoint = false;
+    /**
+     * channel to the journal file, or null if not recording
+     */
+    private FileChannel channel = null;
+    /**
+     * number of the frame being recorded (&ge;0)
+     */
+    private int frameNumber = 0;
+    /**
+     * number of records appended since recording started (&ge;0)
+     */
+    private long numRecords = 0L;
+    /**
+     * path to the journal file, or null if not recording
+     */
+    private String filePath = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an idle journal with a buffer for 4096 records.
+     */
+    public InputJournal() {
+        this(4096);
+    }
+
+    /**
+     * Instantiate an idle journal with a buffer of the specified size.
+     *
+     * @param capacity the number of records to buffer between writes (&ge;2)
+     */
+    public InputJournal(int capacity) {
+        Validate.inRange(
+                capacity, "capacity", 2, Integer.MAX_VALUE / recordBytes);
+        this.buffer = ByteBuffer.allocate(capacity * recordBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the records appended since recording started.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countRecords() {
+        return numRecords;
+    }
+
+    /**
+     * Test whether a checkpoint of the bindings has been recorded since
+     * recording started.
+     *
+     * @return true if recorded, otherwise false
+     */
+    boolean hasCheckpoint() {
+        return hasCheckpoint;
+    }
+
+    /**
+     * Test whether the journal is recording.
+     *
+     * @return true if recording, otherwise false
+     */
+    public boolean isRecording() {
+        boolean result = (channel != null);
+        return result;
+    }
+
+    /**
+     * Append a checkpoint of the mode stack's bindings.
+     *
+     * @param hash the hash of the bindings, as calculated by
+     * {@link ModeStack#bindingsHash()}
+     */
+    void recordBindings(int hash) {
+        if (channel != null) {
+            append(kindBindings, false, hash);
+            this.hasCheckpoint = true;
+        }
+    }
+
+    /**
+     * Append a record for the end of a frame. Invoked once per frame.
+     *
+     * @param tpf the time interval of the frame (in seconds, &ge;0)
+     */
+    void recordFrame(float tpf) {
+        if (channel != null) {
+            append(kindFrame, false, Float.floatToRawIntBits(tpf));
+            ++frameNumber;
+        }
+    }
+
+    /**
+     * Append a record for a hotkey event.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param pressed true for a press, false for a release
+     */
+    void recordHotkey(int universalCode, boolean pressed) {
+        if (channel != null) {
+            append(kindHotkey, pressed, universalCode);
+        }
+    }
+
+    /**
+     * Start recording to the specified file, replacing any existing content.
+     *
+     * @param assetPath the asset path of the file, relative to the sandbox
+     * (not null, not empty)
+     * @throws IOException if the file can't be opened or written
+     */
+    public void start(String assetPath) throws IOException {
+        Validate.nonEmpty(assetPath, "asset path");
+        if (channel != null) {
+            throw new IllegalStateException("already recording");
+        }
+
+        ByteBuffer header = encodeHeader();
+        String path = ActionApplication.filePath(assetPath);
+        FileChannel newChannel = FileChannel.open(Paths.get(path),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            while (header.hasRemaining()) {
+                newChannel.write(header);
+            }
+        } catch (IOException exception) {
+            newChannel.close();
+            throw exception;
+        }
+        buffer.clear();
+
+        this.channel = newChannel;
+        this.filePath = path;
+        this.frameNumber = 0;
+        this.hasCheckpoint = false;
+        this.numRecords = 0L;
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Recording input to {0}.",
+                    MyString.quote(path));
+        }
+    }
+
+    /**
+     * Stop recording, writing any buffered records and closing the file. Has
+     * no effect if the journal isn't recording.
+     *
+     * @throws IOException if the file can't be written or closed
+     */
+    public void stop() throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        FileChannel oldChannel = channel;
+        this.channel = null;
+        try {
+            flush(oldChannel);
+        } finally {
+            oldChannel.close();
+        }
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Recorded {0} input records to {1}.",
+                    new Object[]{numRecords, MyString.quote(filePath)});
+        }
+        this.filePath = null;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Append a record to the buffer, writing the buffer first if it's full.
+     *
+     * @param kind the kind of record
+     * @param flag the flag to record
+     * @param payload the payload to record
+     */
+    private void append(int kind, boolean flag, int payload) {
+        if (buffer.remaining() < recordBytes) {
+            try {
+                flush(channel);
+            } catch (IOException exception) {
+                logger.log(Level.SEVERE, "Stopped recording input.",
+                        exception);
+                try {
+                    channel.close();
+                } catch (IOException closeException) {
+                    // already reported the write failure
+                }
+                this.channel = null;
+                return;
+            }
+        }
+
+        buffer.putInt(frameNumber);
+        buffer.put((byte) kind);
+        buffer.put((byte) (flag ? 1 : 0));
+        buffer.putInt(payload);
+        ++numRecords;
+    }
+
+    /**
+     * Encode the file header, including the current layers of the mode stack
+     * and their hotkey bindings.
+     *
+     * @return a new buffer, flipped for reading
+     * @throws IOException if the header can't be encoded
+     */
+    private static ByteBuffer encodeHeader() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(magic);
+        out.writeInt(version);
+        out.writeInt(recordBytes);
+
+        ModeStack stack = InputMode.stack;
+        List<InputMode> layers = stack.listLayers();
+        out.writeInt(layers.size());
+        for (InputMode layer : layers) {
+            writeName(out, layer.shortName());
+            out.writeByte(stack.isPassThrough(layer) ? 1 : 0);
+
+            HotkeyTable hotkeyTable = layer.hotkeyTable();
+            ByteArrayOutputStream bindingBytes = new ByteArrayOutputStream();
+            DataOutputStream bindingOut = new DataOutputStream(bindingBytes);
+            int numBindings = 0;
+            for (String usName : hotkeyTable.listHotkeys()) {
+                Hotkey hotkey = Hotkey.findUs(usName);
+                if (hotkey != null) { // skip disconnected joysticks
+                    bindingOut.writeInt(hotkey.code());
+                    writeName(bindingOut, hotkeyTable.actionName(usName));
+                    ++numBindings;
+                }
+            }
+            out.writeInt(numBindings);
+            bindingBytes.writeTo(out);
+        }
+
+        ByteBuffer result = ByteBuffer.wrap(bytes.toByteArray());
+        return result;
+    }
+
+    /**
+     * Write the buffered bytes to the specified channel and empty the buffer.
+     *
+     * @param target the channel to write to (not null)
+     * @throws IOException if the channel can't be written
+     */
+    private void flush(FileChannel target) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Write the specified name in UTF-8, preceded by its length as a short.
+     *
+     * @param out the stream to write to (not null)
+     * @param name the name to write (not null)
+     * @throws IOException if the stream can't be written
+     */
+    private static void writeName(DataOutputStream out, String name)
+            throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        assert bytes.length <= 0xffff : bytes.length;
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
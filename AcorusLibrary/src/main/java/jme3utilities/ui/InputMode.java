@@ -34,15 +34,10 @@ import com.jme3.asset.AssetNotFoundException;
 import com.jme3.cursors.plugins.JmeCursor;
 import com.jme3.input.KeyInput;
 import com.jme3.input.controls.ActionListener;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -52,7 +47,6 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import jme3utilities.Heart;
 import jme3utilities.InitialState;
 import jme3utilities.MyString;
 import jme3utilities.UncachedKey;
@@ -60,26 +54,29 @@ import jme3utilities.Validate;
 
 /**
  * An ActionAppState to implement a configurable input mode. At most one mode is
- * active at a time.
+ * active at a time, but other modes may be pushed on top of it as overlays.
+ * An overlay handles the hotkeys it binds and either passes its unbound
+ * hotkeys through to the modes beneath it or consumes them.
  * <p>
  * Modes may be temporarily suspended, in which the case the underlying app
  * state remains enabled even though the mode is considered inactive.
  * <p>
- * The active mode maps hotkeys to actions and controls the appearance of the
- * mouse pointer/cursor. Hotkeys can be mapped to signal actions, which cause
- * multiple keys (shift or control keys, for exampled) to share a common modal
- * function.
+ * The active mode (and any overlays) map hotkeys to actions, and the topmost
+ * of them controls the appearance of the mouse pointer/cursor. Hotkeys can be
+ * mapped to signal actions, which cause multiple keys (shift or control keys,
+ * for exampled) to share a common modal function.
  * <p>
- * When a hotkey binding is live in the input manager, the hotkey is said to be
- * "mapped". When an input mode is inactive, its hotkey bindings persist,
- * allowing them to be altered, loaded, and saved even though they are unmapped.
+ * When a hotkey binding is live (in the active mode or an overlay), the hotkey
+ * is said to be "mapped". When an input mode is inactive, its hotkey bindings
+ * persist, allowing them to be altered, loaded, and saved even though they are
+ * unmapped.
  * <p>
- * Hotkeys are bound to action names. The input manager, however, stores "action
- * strings". For non-signal actions, the action string is identical to the
- * action name. For an action which updates a signal, the action name consists
- * of "signal " followed by the name of the signal. In that case, a space and
- * decimal keycode are appended to the action name generate a unique action
- * string for each signal source.
+ * Hotkeys are bound to action names. For non-signal actions, the action string
+ * passed to {@link #onAction(java.lang.String, boolean, float)} is identical to
+ * the action name. For an action which updates a signal, the action name
+ * consists of "signal " followed by the name of the signal. In that case, a
+ * space and decimal keycode are appended to the action name generate a unique
+ * action string for each signal source.
  * <p>
  * Input modes are disabled at creation.
  *
@@ -91,10 +88,6 @@ abstract public class InputMode
     // *************************************************************************
     // constants and loggers
 
-    /**
-     * highest-numbered universal code + 1
-     */
-    final private static int numCodes = KeyInput.KEY_LAST + 4;
     /**
      * message logger for this class
      */
@@ -115,6 +108,16 @@ abstract public class InputMode
      * true if the mode is suspended (enabled but temporarily deactivated)
      */
     private boolean isSuspended = false;
+    /**
+     * true if the bindings are mapped in the input manager (between
+     * {@link #mapAll()} and {@link #unmapAll()})
+     */
+    private boolean isMapped = false;
+    /**
+     * count of changes to the bindings and action names, for validating
+     * cached help nodes
+     */
+    private int bindingsRevision = 0;
     /**
      * true if initialize() should activate (and enable) this mode
      */
@@ -128,21 +131,32 @@ abstract public class InputMode
      */
     private JmeCursor cursor = null;
     /**
-     * map combos to action names for each universal code
+     * analog-axis bindings, active while this mode is mapped
+     */
+    final private AxisBindings axisBindings = new AxisBindings();
+    /**
+     * combo bindings, precompiled for dispatch
+     */
+    final private ComboTable comboBindings = new ComboTable();
+    /**
+     * key-sequence bindings, compiled into a trie, and their recognizer
      */
-    @SuppressWarnings("unchecked")
-    final private Map<Combo, String>[] comboBindings = new Map[numCodes];
+    final private SequenceTable sequenceBindings = new SequenceTable();
+    /**
+     * mapped modes in priority order, with their merged dispatch table
+     */
+    final static ModeStack stack = new ModeStack();
     /**
      * map from short names to initialized input modes
      */
     final private static Map<String, InputMode> modes = new TreeMap<>();
     /**
-     * bindings from US hotkey names to action names: needed because
-     * InputManager doesn't provide access to its mappings and also so that the
-     * hotkey bindings editor can examine hotkey bindings while this mode is
-     * disabled
+     * bindings between US hotkey names and action names, indexed both ways:
+     * needed because InputManager doesn't provide access to its mappings and
+     * also so that the hotkey bindings editor can examine hotkey bindings while
+     * this mode is disabled
      */
-    private Properties hotkeyBindings = new Properties();
+    final private HotkeyTable hotkeyBindings = new HotkeyTable();
     /**
      * all known action names, bound and unbound
      */
@@ -174,10 +188,6 @@ abstract public class InputMode
 
         Validate.nonNull(name, "name");
         this.shortName = name;
-
-        for (int universalCode = 0; universalCode < numCodes; ++universalCode) {
-            comboBindings[universalCode] = new HashMap<>(8);
-        }
     }
     // *************************************************************************
     // new methods exposed
@@ -190,6 +200,7 @@ abstract public class InputMode
     public void addActionName(String name) {
         Validate.nonNull(name, "name");
         actionNames.add(name);
+        ++bindingsRevision;
     }
 
     /**
@@ -203,15 +214,18 @@ abstract public class InputMode
         Validate.nonNull(actionName, "action name");
         Validate.nonNull(combo, "combo");
 
-        int triggerCode = combo.triggerCode();
-        comboBindings[triggerCode].put(combo, actionName);
-
+        int code = combo.triggerCode();
+        comboBindings.bind(combo, actionName);
         addActionName(actionName);
+        if (isMapped) {
+            stack.refresh(code);
+        }
     }
 
     /**
-     * Bind the named action to the specified hotkey, but don't map it yet. Any
-     * existing binding for the hotkey is removed.
+     * Bind the named action to the specified hotkey. Any existing binding for
+     * the hotkey is removed. If the bindings are mapped, only this hotkey's
+     * mapping is updated.
      *
      * @param actionName name of the action (not null)
      * @param hotkey which hotkey to bind (not null)
@@ -221,13 +235,14 @@ abstract public class InputMode
         Validate.nonNull(hotkey, "hotkey");
 
         String usHotkeyName = hotkey.usName();
-        hotkeyBindings.put(usHotkeyName, actionName);
+        hotkeyBindings.bind(usHotkeyName, actionName);
         addActionName(actionName);
+        updateMapping(usHotkeyName);
     }
 
     /**
-     * Bind the named action to the specified key codes, but don't map it yet.
-     * Any existing bindings for those keys are removed.
+     * Bind the named action to the specified key codes. Any existing bindings
+     * for those keys are removed.
      *
      * @param actionName the name of the action (not null)
      * @param keyCodes key codes from {@link com.jme3.input.KeyInput}
@@ -242,8 +257,35 @@ abstract public class InputMode
     }
 
     /**
-     * Bind the named action to the named hotkey, but don't map it yet. Any
-     * existing binding for the hotkey is removed.
+     * Bind the named action to the specified key sequence, such as a double
+     * tap or a long press. Any existing binding for the sequence is removed.
+     * Strokes are held back while a sequence is in progress, then passed to
+     * the mode's other bindings if it's abandoned. A completed sequence
+     * delivers a single ongoing action, never followed by a release, so
+     * signals can't be bound to it.
+     *
+     * @param actionName the name of the action (not null, not a signal action)
+     * @param sequence which sequence to bind (not null)
+     */
+    public void bind(String actionName, KeySequence sequence) {
+        Validate.nonNull(actionName, "action name");
+        Validate.nonNull(sequence, "sequence");
+        Validate.require(!actionName.startsWith(signalActionPrefix),
+                "a non-signal action");
+
+        sequenceBindings.bind(sequence, actionName);
+        addActionName(actionName);
+        if (isMapped) {
+            int numStrokes = sequence.countStrokes();
+            for (int strokeI = 0; strokeI < numStrokes; ++strokeI) {
+                stack.refresh(sequence.hotkey(strokeI).code());
+            }
+        }
+    }
+
+    /**
+     * Bind the named action to the named hotkey. Any existing binding for the
+     * hotkey is removed.
      *
      * @param actionName the name of the action (not null)
      * @param usHotkeyName the hotkey's US name (not null)
@@ -254,13 +296,14 @@ abstract public class InputMode
         boolean hotkeyExists = (Hotkey.findUs(usHotkeyName) != null);
         Validate.require(hotkeyExists, "the US name of a hotkey");
 
-        hotkeyBindings.put(usHotkeyName, actionName);
+        hotkeyBindings.bind(usHotkeyName, actionName);
         addActionName(actionName);
+        updateMapping(usHotkeyName);
     }
 
     /**
-     * Bind the named action to the named hotkey, but don't map it yet. Any
-     * existing binding for the hotkey is removed.
+     * Bind the named action to the named hotkey. Any existing binding for the
+     * hotkey is removed.
      *
      * @param actionName the name of the action (not null)
      * @param localHotkeyName the hotkey's local name (not null)
@@ -273,8 +316,9 @@ abstract public class InputMode
 
         Hotkey hotkey = Hotkey.findLocal(localHotkeyName);
         String usHotkeyName = hotkey.usName();
-        hotkeyBindings.put(usHotkeyName, actionName);
+        hotkeyBindings.bind(usHotkeyName, actionName);
         addActionName(actionName);
+        updateMapping(usHotkeyName);
     }
 
     /**
@@ -291,8 +335,8 @@ abstract public class InputMode
     }
 
     /**
-     * Bind the named signal to the specified key codes, but don't map it yet.
-     * Any existing bindings for those keys are removed.
+     * Bind the named signal to the specified key codes. Any existing bindings
+     * for those keys are removed.
      *
      * @param signalName the name of the signal (not null)
      * @param keyCodes key codes from {@link com.jme3.input.KeyInput}
@@ -305,8 +349,8 @@ abstract public class InputMode
     }
 
     /**
-     * Bind the named signal to the named hotkey, but don't map it yet. Any
-     * existing binding for the hotkey is removed.
+     * Bind the named signal to the named hotkey. Any existing binding for the
+     * hotkey is removed.
      *
      * @param signalName the name of the signal (not null)
      * @param usHotkeyName the hotkey's US name (not null)
@@ -321,6 +365,25 @@ abstract public class InputMode
         bind(actionName, usHotkeyName);
     }
 
+    /**
+     * Return the revision count of the bindings, which increases whenever an
+     * action name is added, a binding changes, or a joystick is hot-plugged.
+     *
+     * @return the count (&ge;0)
+     */
+    int bindingsRevision() {
+        return bindingsRevision;
+    }
+
+    /**
+     * Access the combo bindings of this mode.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    ComboTable comboTable() {
+        return comboBindings;
+    }
+
     /**
      * Determine the path to the bindings asset.
      *
@@ -339,7 +402,7 @@ abstract public class InputMode
      */
     public String findActionName(Hotkey hotkey) {
         String usHotkeyName = hotkey.usName();
-        String result = hotkeyBindings.getProperty(usHotkeyName);
+        String result = hotkeyBindings.actionName(usHotkeyName);
 
         return result;
     }
@@ -365,6 +428,16 @@ abstract public class InputMode
         return activeMode;
     }
 
+    /**
+     * Access the analog-axis bindings of this mode.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public AxisBindings getAxisBindings() {
+        assert axisBindings != null;
+        return axisBindings;
+    }
+
     /**
      * Access the cursor for this mode, if any.
      *
@@ -374,6 +447,15 @@ abstract public class InputMode
         return cursor;
     }
 
+    /**
+     * Access the hotkey bindings of this mode.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    HotkeyTable hotkeyTable() {
+        return hotkeyBindings;
+    }
+
     /**
      * List all known action names.
      *
@@ -393,18 +475,7 @@ abstract public class InputMode
     public Collection<Combo> listCombos(String actionName) {
         Validate.nonNull(actionName, "action name");
 
-        Collection<Combo> result = new HashSet<>(32);
-        for (int code = 0; code < numCodes; ++code) {
-            Map<Combo, String> map = comboBindings[code];
-            for (Map.Entry<Combo, String> entry : map.entrySet()) {
-                String action = entry.getValue();
-                if (action.equals(actionName)) {
-                    Combo combo = entry.getKey();
-                    result.add(combo);
-                }
-            }
-        }
-
+        Collection<Combo> result = comboBindings.listCombos(actionName);
         return result;
     }
 
@@ -417,23 +488,35 @@ abstract public class InputMode
     public Collection<String> listHotkeysLocal(String actionName) {
         Validate.nonNull(actionName, "action name");
 
+        /*
+         * Note that action-name comparisons are sensitive to both
+         * case and whitespace.
+         */
         Collection<String> result = new TreeSet<>();
-        for (String usName : hotkeyBindings.stringPropertyNames()) {
-            String property = hotkeyBindings.getProperty(usName);
-            /*
-             * Note that action-name comparisons are sensitive to both
-             * case and whitespace.
-             */
-            if (property.equals(actionName)) {
-                Hotkey hotkey = Hotkey.findUs(usName);
-                String localName = hotkey.localName();
-                result.add(localName);
-            }
+        for (String usName : hotkeyBindings.hotkeysFor(actionName)) {
+            Hotkey hotkey = Hotkey.findUs(usName);
+            // A disconnected joystick's buttons have identical names.
+            String localName = (hotkey == null) ? usName : hotkey.localName();
+            result.add(localName);
         }
 
         return result;
     }
 
+    /**
+     * Enumerate all key sequences bound to the named action.
+     *
+     * @param actionName the action name (not null)
+     * @return a new collection of sequences
+     */
+    public Collection<KeySequence> listSequences(String actionName) {
+        Validate.nonNull(actionName, "action name");
+
+        Collection<KeySequence> result
+                = sequenceBindings.listSequences(actionName);
+        return result;
+    }
+
     /**
      * Load a set of hotkey bindings from the configuration asset.
      */
@@ -448,6 +531,21 @@ abstract public class InputMode
         loadBindings(assetPath);
     }
 
+    /**
+     * Disable the topmost overlay.
+     *
+     * @return the overlay that was disabled (not null)
+     */
+    public static InputMode popOverlay() {
+        InputMode overlay = stack.topOverlay();
+        if (overlay == null) {
+            throw new IllegalStateException("no overlay to pop");
+        }
+
+        overlay.setEnabled(false);
+        return overlay;
+    }
+
     /**
      * Process a "combo" action.
      *
@@ -455,16 +553,45 @@ abstract public class InputMode
      * @param tpf the time interval between frames (in seconds, &ge;0)
      */
     void processCombos(int code, float tpf) {
-        Map<Combo, String> map = comboBindings[code];
         Signals uiSignals = getSignals();
-        for (Map.Entry<Combo, String> entry : map.entrySet()) {
-            Combo combo = entry.getKey();
-            if (combo.testAll(uiSignals)) {
-                String actionString = entry.getValue();
-                boolean ongoing = true;
-                onAction(actionString, ongoing, tpf);
-            }
+        comboBindings.dispatch(code, uiSignals, this, tpf);
+    }
+
+    /**
+     * Enable the specified mode as an overlay, on top of the active mode and
+     * any other overlays. Unlike {@link #suspendAndActivate(InputMode)}, the
+     * modes beneath remain active, and no hotkeys get remapped.
+     *
+     * @param overlay the mode to push (not null, initialized, disabled)
+     * @param passThrough true to pass hotkeys that the overlay doesn't bind to
+     * the modes beneath it, false to consume them
+     */
+    public static void pushOverlay(InputMode overlay, boolean passThrough) {
+        Validate.nonNull(overlay, "overlay");
+        if (!overlay.isInitialized() || overlay.isEnabled()) {
+            String message = "overlay must be initialized and disabled: "
+                    + overlay;
+            throw new IllegalStateException(message);
+        }
+
+        stack.push(overlay, passThrough);
+        overlay.setEnabled(true);
+    }
+
+    /**
+     * Update the dispatch table after a joystick was connected or
+     * disconnected. Other hotkeys are untouched.
+     *
+     * @param hotkeys the affected joystick-button hotkeys (not null,
+     * unaffected)
+     * @param isConnected true if the hotkeys were just added, false if they
+     * were just retired
+     */
+    static void remapJoystick(List<Hotkey> hotkeys, boolean isConnected) {
+        for (InputMode mode : modes.values()) {
+            ++mode.bindingsRevision; // Help lists only connected buttons.
         }
+        stack.remapJoystick(hotkeys, isConnected);
     }
 
     /**
@@ -511,6 +638,15 @@ abstract public class InputMode
         return true;
     }
 
+    /**
+     * Access the key-sequence bindings of this mode.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    SequenceTable sequenceTable() {
+        return sequenceBindings;
+    }
+
     /**
      * Alter the path to the configuration asset for bindings.
      *
@@ -531,6 +667,21 @@ abstract public class InputMode
         this.cursor = newCursor;
     }
 
+    /**
+     * Alter the timing of key sequences in this mode.
+     *
+     * @param strokeSeconds the longest interval allowed between the strokes of
+     * a sequence (in seconds, &gt;0, default=0.5)
+     * @param longPressSeconds how long a hotkey must be held to count as a
+     * long press (in seconds, &gt;0, default=0.5)
+     */
+    public void setSequenceTiming(float strokeSeconds, float longPressSeconds) {
+        Validate.positive(strokeSeconds, "stroke interval");
+        Validate.positive(longPressSeconds, "long-press time");
+
+        sequenceBindings.setTiming(strokeSeconds, longPressSeconds);
+    }
+
     /**
      * Determine the short-form name for this mode.
      *
@@ -560,7 +711,8 @@ abstract public class InputMode
     }
 
     /**
-     * Unbind the specified hotkey.
+     * Unbind the specified hotkey. If the bindings are mapped, only this
+     * hotkey's mapping is updated.
      *
      * @param hotkey (not null)
      */
@@ -568,7 +720,9 @@ abstract public class InputMode
         assert isInitialized();
 
         String usHotkeyName = hotkey.usName();
-        hotkeyBindings.remove(usHotkeyName);
+        hotkeyBindings.unbind(usHotkeyName);
+        ++bindingsRevision;
+        updateMapping(usHotkeyName);
     }
 
     /**
@@ -582,6 +736,26 @@ abstract public class InputMode
         Hotkey hotkey = Hotkey.findKey(keyCode);
         unbind(hotkey);
     }
+
+    /**
+     * Unbind the specified key sequence, if it's bound.
+     *
+     * @param sequence (not null)
+     */
+    public void unbind(KeySequence sequence) {
+        Validate.nonNull(sequence, "sequence");
+
+        String actionName = sequenceBindings.unbind(sequence);
+        if (actionName != null) {
+            ++bindingsRevision;
+            if (isMapped) {
+                int numStrokes = sequence.countStrokes();
+                for (int strokeI = 0; strokeI < numStrokes; ++strokeI) {
+                    stack.refresh(sequence.hotkey(strokeI).code());
+                }
+            }
+        }
+    }
     // *************************************************************************
     // new protected methods
 
@@ -589,25 +763,22 @@ abstract public class InputMode
      * Activate this mode.
      */
     protected void activate() {
-        setActiveMode(this);
-
-        if (cursor == null) {
-            inputManager.setCursorVisible(false);
-        } else {
-            inputManager.setMouseCursor(cursor);
-            inputManager.setCursorVisible(true);
+        if (!stack.isOverlay(this)) {
+            setActiveMode(this);
         }
         mapAll();
+        stack.updateCursor(inputManager);
     }
 
     /**
      * Deactivate this mode.
      */
     protected void deactivate() {
-        setActiveMode(null);
-        inputManager.setCursorVisible(false);
+        if (!stack.isOverlay(this)) {
+            setActiveMode(null);
+        }
         unmapAll();
-        inputManager.removeListener(this);
+        stack.updateCursor(inputManager);
     }
 
     /**
@@ -617,47 +788,51 @@ abstract public class InputMode
     abstract protected void defaultBindings();
 
     /**
-     * Map all Hotkey and Combo actions.
+     * Test whether this mode has a registered handler for the identified
+     * action. Meant to be overridden.
+     *
+     * @param actionId the ID of the action (&ge;0)
+     * @return true if handled, otherwise false
+     */
+    protected boolean handlesAction(int actionId) {
+        return false;
+    }
+
+    /**
+     * Map all Hotkey and Combo actions by adding this mode to the stack of
+     * mapped modes.
      */
     protected void mapAll() {
-        // Map all bound hotkeys to their actions.
-        for (String usHotkeyName : hotkeyBindings.stringPropertyNames()) {
-            String actionName = hotkeyBindings.getProperty(usHotkeyName);
-            Hotkey hotkey = Hotkey.findUs(usHotkeyName);
-            mapActionName(actionName, hotkey);
-        }
+        stack.map(this, inputManager);
+        axisBindings.attach(inputManager);
+        this.isMapped = true;
+    }
 
-        // Map all bound combos to their actions.
-        for (int code = 0; code < numCodes; ++code) {
-            Map<Combo, String> map = comboBindings[code];
-            if (!map.isEmpty()) {
-                String actionName = comboActionPrefix + code;
-                Hotkey hotkey = Hotkey.find(code);
-                mapNonsignalHotkey(actionName, hotkey);
-            }
-        }
+    /**
+     * Process an action whose ID was resolved when it was bound. By default,
+     * the ID is ignored and the action is passed to
+     * {@link #onAction(java.lang.String, boolean, float)}. Meant to be
+     * overridden.
+     *
+     * @param actionId the ID of the action, or -1 if it isn't registered
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    protected void onAction(
+            int actionId, String actionString, boolean ongoing, float tpf) {
+        onAction(actionString, ongoing, tpf);
     }
 
     /**
-     * Unmap all Hotkey and Combo actions.
+     * Unmap all Hotkey and Combo actions by removing this mode from the stack
+     * of mapped modes.
      */
     protected void unmapAll() {
-        // Unmap all Hotkey actions.
-        for (String usHotkeyName : hotkeyBindings.stringPropertyNames()) {
-            String actionName = hotkeyBindings.getProperty(usHotkeyName);
-            Hotkey hotkey = Hotkey.findUs(usHotkeyName);
-            unmapHotkey(actionName, hotkey);
-        }
-
-        // Unmap all Combo actions.
-        for (int code = 0; code < numCodes; ++code) {
-            Map<Combo, String> map = comboBindings[code];
-            if (!map.isEmpty()) {
-                String actionString = comboActionPrefix + code;
-                Hotkey hotkey = Hotkey.find(code);
-                hotkey.unmap(actionString);
-            }
-        }
+        stack.unmap(this);
+        axisBindings.detach();
+        sequenceBindings.reset();
+        this.isMapped = false;
     }
     // *************************************************************************
     // AcorusAppState methods
@@ -676,10 +851,12 @@ abstract public class InputMode
         InputMode prior = modes.put(shortName, this);
         assert prior == null : shortName;
 
+        ActionApplication actionApplication = (ActionApplication) application;
+        axisBindings.setAxes(actionApplication.getAxes());
+
         // Load the initial hotkey bindings.
         initializeHotkeyBindings();
 
-        ActionApplication actionApplication = (ActionApplication) application;
         if (this == actionApplication.getDefaultInputMode()) {
             /*
              * Give the application an opportunity to override the
@@ -712,12 +889,24 @@ abstract public class InputMode
         if (!isEnabled() && newState) {
             activate();
         } else if (isEnabled() && !newState) {
-            assert activeMode == this : activeMode;
+            assert activeMode == this || stack.isOverlay(this) : activeMode;
             deactivate();
         }
 
         super.setEnabled(newState);
     }
+
+    /**
+     * Callback to update this mode prior to rendering. (Invoked once per frame
+     * while the mode is enabled.)
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        sequenceBindings.update(tpf, this); // expire sequence timeouts
+    }
     // *************************************************************************
     // Object methods
 
@@ -746,30 +935,6 @@ abstract public class InputMode
     // *************************************************************************
     // private methods
 
-    /**
-     * Count how many hotkeys are bound to a named action.
-     *
-     * @param actionName (not null)
-     * @return count (&ge;0)
-     */
-    private int countBindings(String actionName) {
-        assert actionName != null;
-
-        int count = 0;
-        for (String keyString : hotkeyBindings.stringPropertyNames()) {
-            String name = hotkeyBindings.getProperty(keyString);
-            /*
-             * Note: action name comparisons are sensitive to both
-             * case and whitespace.
-             */
-            if (name.equals(actionName)) {
-                ++count;
-            }
-        }
-
-        return count;
-    }
-
     /**
      * Initialize the hotkey bindings.
      */
@@ -793,6 +958,7 @@ abstract public class InputMode
             }
 
             hotkeyBindings.clear();
+            ++bindingsRevision;
             defaultBindings();
         }
     }
@@ -811,84 +977,39 @@ abstract public class InputMode
         }
 
         UncachedKey key = new UncachedKey(assetPath);
-        this.hotkeyBindings = (Properties) assetManager.loadAsset(key);
-
-        for (String usHotkeyName : hotkeyBindings.stringPropertyNames()) {
-            String actionName = hotkeyBindings.getProperty(usHotkeyName);
+        Properties loaded = (Properties) assetManager.loadAsset(key);
+        axisBindings.load(loaded); // consumes the analog-axis entries
+        List<Integer> oldSequenceCodes = sequenceBindings.listCodes();
+        sequenceBindings.load(loaded, this); // consumes the sequence entries
+        Set<String> oldHotkeys = hotkeyBindings.listHotkeys();
+        hotkeyBindings.clear();
+        ++bindingsRevision;
+
+        for (String usHotkeyName : loaded.stringPropertyNames()) {
+            String actionName = loaded.getProperty(usHotkeyName);
             Hotkey hotkey = Hotkey.findUs(usHotkeyName);
-            if (hotkey == null) {
+            if (hotkey != null) {
+                bind(actionName, hotkey);
+            } else if (Hotkey.isJoystickButtonName(usHotkeyName)) {
+                // Retain the binding in case the joystick gets connected.
+                hotkeyBindings.bind(usHotkeyName, actionName);
+                addActionName(actionName);
+            } else {
                 logger.log(Level.WARNING, "Skipped unknown hotkey {0} in {1}",
                         new Object[]{
                             MyString.quote(usHotkeyName),
                             MyString.quote(assetPath)
                         });
-                hotkeyBindings.remove(usHotkeyName);
-            } else {
-                bind(actionName, hotkey);
             }
         }
-    }
-
-    /**
-     * Map a hotkey to an action name. Overrides any previous mappings for the
-     * hotkey.
-     *
-     * @param actionName the action name (not null)
-     * @param hotkey (not null)
-     */
-    private void mapActionName(String actionName, Hotkey hotkey) {
-        assert hotkey != null;
-
-        if (actionName.startsWith(signalActionPrefix)) {
-            mapSignalHotkey(actionName, hotkey);
-        } else {
-            mapNonsignalHotkey(actionName, hotkey);
+        for (String usHotkeyName : oldHotkeys) {
+            updateMapping(usHotkeyName); // to unmap any dropped bindings
+        }
+        if (isMapped) {
+            for (int code : oldSequenceCodes) {
+                stack.refresh(code);
+            }
         }
-    }
-
-    /**
-     * Map a hotkey to a non-signal action.
-     *
-     * @param actionName name of the non-signal action (not null)
-     * @param hotkey (not null)
-     */
-    private void mapNonsignalHotkey(String actionName, Hotkey hotkey) {
-        assert actionName != null;
-        assert hotkey != null;
-
-        inputManager.addListener(this, actionName);
-        /*
-         * For a non-signal action, the action string is simply the name.
-         * Add the mapping to the input manager.
-         */
-        hotkey.map(actionName);
-    }
-
-    /**
-     * Map a hotkey to a signal action.
-     *
-     * @param actionName name of the signal action (not null)
-     * @param hotkey (not null)
-     */
-    private void mapSignalHotkey(String actionName, Hotkey hotkey) {
-        assert actionName != null;
-        assert hotkey != null;
-
-        String signalName
-                = MyString.remainder(actionName, signalActionPrefix);
-        Signals uiSignals = getSignals();
-        uiSignals.add(signalName);
-
-        // Append the decimal keyCode to ensure a unique action string.
-        String actionString = signalActionString(actionName, hotkey);
-
-        int count = countBindings(actionString);
-        boolean isUnique = (count == 0);
-        assert isUnique : count;
-        inputManager.addListener(uiSignals, actionString);
-
-        // Add the mapping to the input manager.
-        hotkey.map(actionString);
     }
 
     /**
@@ -902,19 +1023,6 @@ abstract public class InputMode
         this.isSuspended = false;
     }
 
-    /**
-     * Save hotkey bindings to an output stream.
-     *
-     * @param stream output stream to save to (not null)
-     */
-    private void saveBindings(OutputStream stream) throws IOException {
-        assert stream != null;
-
-        String comment = String
-                .format("custom hotkey bindings for %s mode", shortName);
-        hotkeyBindings.storeToXML(stream, comment);
-    }
-
     /**
      * Save hotkey bindings to a configuration asset.
      *
@@ -928,30 +1036,13 @@ abstract public class InputMode
                     MyString.quote(assetPath));
         }
 
-        FileOutputStream stream = null;
         String filePath = ActionApplication.filePath(assetPath);
-        try {
-            File file = new File(filePath);
-            File parentDirectory = file.getParentFile();
-            if (parentDirectory != null && !parentDirectory.exists()) {
-                boolean success = parentDirectory.mkdirs();
-                if (!success) {
-                    String parentPath = Heart.fixedPath(parentDirectory);
-                    String msg = String.format(
-                            "Unable to create folder %s for hotkey bindings",
-                            MyString.quote(parentPath));
-                    throw new IOException(msg);
-                }
-            }
-            stream = new FileOutputStream(filePath);
-            saveBindings(stream);
-        } catch (IOException exception) {
-            throw exception;
-        } finally {
-            if (stream != null) {
-                stream.close();
-            }
-        }
+        String comment = String
+                .format("custom hotkey bindings for %s mode", shortName);
+        Properties extraProperties = new Properties();
+        axisBindings.store(extraProperties);
+        sequenceBindings.store(extraProperties);
+        hotkeyBindings.storeToXML(filePath, comment, extraProperties);
     }
 
     /**
@@ -982,22 +1073,6 @@ abstract public class InputMode
         activeMode = mode;
     }
 
-    /**
-     * Generate an action string for a signal action.
-     *
-     * @param actionName name of the action (not null)
-     * @param hotkey triggering hotkey (not null)
-     * @return the action string
-     */
-    private static String signalActionString(String actionName, Hotkey hotkey) {
-        assert actionName != null;
-
-        int keyCode = hotkey.keyCode();
-        String result = String.format("%s %d", actionName, keyCode);
-
-        return result;
-    }
-
     /**
      * Temporarily deactivate this enabled mode without disabling its app state.
      */
@@ -1010,23 +1085,15 @@ abstract public class InputMode
     }
 
     /**
-     * Delete a hotkey mapping from the input manager (if it exists).
+     * If the bindings are mapped, bring the specified hotkey's entry in the
+     * dispatch table into agreement with its bindings.
      *
-     * @param actionName name of the mapped action (not null)
-     * @param hotkey (not null)
+     * @param usHotkeyName the US name of the hotkey (not null)
      */
-    private static void unmapHotkey(String actionName, Hotkey hotkey) {
-        assert hotkey != null;
-
-        // Reconstruct the action string.
-        String actionString;
-        if (actionName.startsWith(signalActionPrefix)) {
-            actionString = signalActionString(actionName, hotkey);
-        } else {
-            actionString = actionName;
+    private void updateMapping(String usHotkeyName) {
+        Hotkey hotkey = Hotkey.findUs(usHotkeyName);
+        if (isMapped && hotkey != null) { // skip disconnected joysticks
+            stack.refresh(hotkey.code());
         }
-
-        // Delete the mapping, if it exists.
-        hotkey.unmap(actionString);
     }
 }
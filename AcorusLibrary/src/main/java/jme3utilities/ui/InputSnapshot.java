@@ -0,0 +1,216 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+/**
+ * A copy of the input state published by a SnapshotPublisher: which signals
+ * were active, the value of each analog axis, and the name of the active
+ * InputMode, all as of a single frame.
+ * <p>
+ * Each reader thread owns its own instance and refreshes it using
+ * {@link SnapshotPublisher#read(jme3utilities.ui.InputSnapshot)}. Between
+ * refreshes, its contents don't change, so it may be queried freely without
+ * any locking. Queries don't allocate any objects.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class InputSnapshot {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of bits in a bitset word
+     */
+    final private static int bitsPerWord = Long.SIZE;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(InputSnapshot.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * value of each analog axis, indexed by axis ID
+     */
+    private float[] axisValues = new float[16];
+    /**
+     * number of axes copied (&ge;0)
+     */
+    private int numAxes = 0;
+    /**
+     * number of bitset words copied (&ge;0)
+     */
+    private int numWords = 0;
+    /**
+     * serial number of the published frame, or 0 if none copied yet
+     */
+    private long frameNumber = 0L;
+    /**
+     * time when the frame was published (in nanoseconds)
+     */
+    private long publishNanos = 0L;
+    /**
+     * bitset of signals that were active, indexed by word
+     */
+    private long[] signalWords = new long[2];
+    /**
+     * short name of the active InputMode, or null if none
+     */
+    private String activeModeName = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty snapshot, to be filled by a SnapshotPublisher.
+     */
+    public InputSnapshot() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the short name of the InputMode that was active.
+     *
+     * @return the name, or null if no mode was active
+     */
+    public String activeModeName() {
+        return activeModeName;
+    }
+
+    /**
+     * Return the value of the identified analog axis.
+     *
+     * @param axisId the ID of the axis (&ge;0)
+     * @return the value (0 if the axis wasn't bound or wasn't deflected)
+     */
+    public float axisValue(int axisId) {
+        if (axisId < 0 || axisId >= numAxes) {
+            return 0f;
+        }
+
+        float result = axisValues[axisId];
+        return result;
+    }
+
+    /**
+     * Copy published state into this snapshot. Allocates only if the number
+     * of signals or axes has grown.
+     *
+     * @param words the published signal bitset (not null, unaffected)
+     * @param axisBits the raw bits of the published axis values (not null,
+     * unaffected)
+     * @param modeName the name of the active mode (may be null)
+     * @param frame the serial number of the published frame (&gt;0)
+     * @param nanos the time of publication (in nanoseconds)
+     */
+    void copy(AtomicLongArray words, AtomicIntegerArray axisBits,
+            String modeName, long frame, long nanos) {
+        this.numWords = words.length();
+        if (numWords > signalWords.length) {
+            this.signalWords = Arrays.copyOf(signalWords, numWords);
+        }
+        for (int wordIndex = 0; wordIndex < numWords; ++wordIndex) {
+            signalWords[wordIndex] = words.get(wordIndex);
+        }
+
+        this.numAxes = axisBits.length();
+        if (numAxes > axisValues.length) {
+            this.axisValues = Arrays.copyOf(axisValues, numAxes);
+        }
+        for (int axisId = 0; axisId < numAxes; ++axisId) {
+            axisValues[axisId] = Float.intBitsToFloat(axisBits.get(axisId));
+        }
+
+        this.activeModeName = modeName;
+        this.frameNumber = frame;
+        this.publishNanos = nanos;
+    }
+
+    /**
+     * Return the serial number of the frame from which this snapshot was
+     * copied. Readers can compare serial numbers to detect new frames.
+     *
+     * @return the serial number (&gt;0) or 0 if nothing has been copied yet
+     */
+    public long frameNumber() {
+        return frameNumber;
+    }
+
+    /**
+     * Test whether the identified signal was active from any source.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return true if active, otherwise false
+     */
+    public boolean isActive(int signalId) {
+        int wordIndex = signalId / bitsPerWord;
+        if (signalId < 0 || wordIndex >= numWords) {
+            return false;
+        }
+
+        boolean result = (signalWords[wordIndex] & (1L << signalId)) != 0L;
+        return result;
+    }
+
+    /**
+     * Return the time when the frame was published.
+     *
+     * @return the {@code System.nanoTime()} value
+     */
+    public long publishNanos() {
+        return publishNanos;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Represent this snapshot as a text string.
+     *
+     * @return descriptive string of text (not null)
+     */
+    @Override
+    public String toString() {
+        int numActive = 0;
+        for (int wordIndex = 0; wordIndex < numWords; ++wordIndex) {
+            numActive += Long.bitCount(signalWords[wordIndex]);
+        }
+        String result = String.format("frame %d: mode=%s, %d active signal%s",
+                frameNumber, activeModeName, numActive,
+                (numActive == 1) ? "" : "s");
+
+        return result;
+    }
+}
@@ -0,0 +1,493 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.InitialState;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * An AppState to replay a journal recorded by an InputJournal, one journaled
+ * frame per application frame, for deterministic benchmark runs (typically in
+ * a headless ActionApplication running at maximum speed).
+ * <p>
+ * Hotkey events are dispatched to the mapped input modes exactly as they were
+ * when recorded, using the journaled tpf, which also drives the input clock
+ * that times key sequences. Signals aren't journaled, since the hotkey events
+ * regenerate them. The journal is loaded in full before replay starts, so
+ * replay doesn't perform any I/O or allocate any objects.
+ * <p>
+ * The replay is meaningful only if the mode stack is layered and bound as it
+ * was when the journal was recorded. An application that lacks those bindings
+ * (such as a headless one) can install them using
+ * {@link #bindRecorded(InputMode)}. Differences are logged when replay starts.
+ * Whenever the recorded bindings changed, the journal holds a checkpoint that
+ * is compared with the current bindings before the next hotkey record is
+ * replayed. Mismatched checkpoints, and hotkey records that no mapped mode
+ * handles, are counted and logged when replay finishes.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class JournalReplay extends AcorusAppState {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(JournalReplay.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if a checkpoint was replayed but not yet compared
+     */
+    private boolean isCheckPending = false;
+    /**
+     * true if each hotkey record is a press, indexed by record
+     */
+    final private boolean[] flags;
+    /**
+     * pass-through flag of each journaled layer, indexed by layer
+     */
+    final private boolean[] passThroughs;
+    /**
+     * kind of each record, indexed by record
+     */
+    final private byte[] kinds;
+    /**
+     * hash of the bindings in the most recent checkpoint
+     */
+    private int expectedHash;
+    /**
+     * index of the frame with the first mismatched checkpoint, or -1 if none
+     */
+    private int firstMismatch = -1;
+    /**
+     * universal code of each journaled binding, indexed by layer and binding
+     */
+    final private int[][] boundCodes;
+    /**
+     * number of checkpoints that didn't match the bindings (&ge;0)
+     */
+    private int numMismatches = 0;
+    /**
+     * number of hotkey records that no mapped mode handled (&ge;0)
+     */
+    private int numOrphans = 0;
+    /**
+     * number of journaled frames (&ge;0)
+     */
+    final private int numFrames;
+    /**
+     * number of frames replayed so far (&ge;0)
+     */
+    private int numReplayed = 0;
+    /**
+     * index of the next record to replay (&ge;0)
+     */
+    private int nextRecord = 0;
+    /**
+     * payload of each record, indexed by record
+     */
+    final private int[] payloads;
+    /**
+     * action name of each journaled binding, indexed by layer and binding
+     */
+    final private String[][] boundActions;
+    /**
+     * short name of each journaled layer, from bottom to top
+     */
+    final private String[] layerNames;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an enabled replay of the specified journal.
+     *
+     * @param assetPath the asset path of the journal, relative to the sandbox
+     * (not null, not empty)
+     * @throws IOException if the journal can't be read or isn't valid
+     */
+    public JournalReplay(String assetPath) throws IOException {
+        super(InitialState.Enabled);
+        Validate.nonEmpty(assetPath, "asset path");
+
+        String path = ActionApplication.filePath(assetPath);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(Paths.get(path)));
+        if (bytes.remaining() < InputJournal.headerBytes
+                || bytes.getInt() != InputJournal.magic) {
+            throw new IOException("not an input journal: " + path);
+        }
+        int fileVersion = bytes.getInt();
+        int recordSize = bytes.getInt();
+        if (fileVersion != InputJournal.version
+                || recordSize != InputJournal.recordBytes) {
+            throw new IOException("unsupported journal version "
+                    + fileVersion + ": " + path);
+        }
+
+        try {
+            int numLayers = bytes.getInt();
+            this.boundActions = new String[numLayers][];
+            this.boundCodes = new int[numLayers][];
+            this.layerNames = new String[numLayers];
+            this.passThroughs = new boolean[numLayers];
+            for (int layerI = 0; layerI < numLayers; ++layerI) {
+                layerNames[layerI] = readName(bytes);
+                passThroughs[layerI] = (bytes.get() != 0);
+                int numBindings = bytes.getInt();
+                boundActions[layerI] = new String[numBindings];
+                boundCodes[layerI] = new int[numBindings];
+                for (int bindingI = 0; bindingI < numBindings; ++bindingI) {
+                    boundCodes[layerI][bindingI] = bytes.getInt();
+                    boundActions[layerI][bindingI] = readName(bytes);
+                }
+            }
+        } catch (BufferUnderflowException
+                | NegativeArraySizeException exception) {
+            throw new IOException("truncated journal header: " + path);
+        }
+
+        int numRecords = bytes.remaining() / recordSize;
+        this.flags = new boolean[numRecords];
+        this.kinds = new byte[numRecords];
+        this.payloads = new int[numRecords];
+        int frameCount = 0;
+        for (int recordI = 0; recordI < numRecords; ++recordI) {
+            bytes.getInt(); // the frame number is implied by frame records
+            kinds[recordI] = bytes.get();
+            flags[recordI] = (bytes.get() != 0);
+            payloads[recordI] = bytes.getInt();
+            if (kinds[recordI] == InputJournal.kindFrame) {
+                ++frameCount;
+            }
+        }
+        this.numFrames = frameCount;
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Loaded {0} frames of input from {1}.",
+                    new Object[]{numFrames, MyString.quote(path)});
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the journaled hotkeys of one layer in the specified mode, as they
+     * were bound when the journal was recorded. The layer is the one with the
+     * mode's short name, or else the bottom layer. Keyboard hotkeys are
+     * instantiated if they're missing, as in a Headless context. Hotkeys that
+     * don't exist (such as the buttons of a disconnected joystick) are
+     * skipped. To reproduce several layers, invoke once per mode and push the
+     * overlays as they were recorded.
+     *
+     * @param mode the mode in which to bind them (not null)
+     * @return the number of hotkeys bound (&ge;0)
+     */
+    public int bindRecorded(InputMode mode) {
+        Validate.nonNull(mode, "mode");
+
+        int numLayers = layerNames.length;
+        if (numLayers == 0) {
+            return 0;
+        }
+        String modeName = mode.shortName();
+        int layerIndex = 0;
+        while (layerIndex < numLayers
+                && !layerNames[layerIndex].equals(modeName)) {
+            ++layerIndex;
+        }
+        if (layerIndex == numLayers) {
+            logger.log(Level.INFO, "No journaled layer named {0}; binding "
+                    + "the bottom layer {1} instead.", new Object[]{
+                        MyString.quote(modeName), MyString.quote(layerNames[0])
+                    });
+            layerIndex = 0;
+        }
+
+        Hotkey.initializeDummyKeys();
+        int result = 0;
+        int numBindings = boundCodes[layerIndex].length;
+        for (int bindingI = 0; bindingI < numBindings; ++bindingI) {
+            Hotkey hotkey = Hotkey.find(boundCodes[layerIndex][bindingI]);
+            if (hotkey != null) {
+                mode.bind(boundActions[layerIndex][bindingI], hotkey);
+                ++result;
+            }
+        }
+        if (result < numBindings) {
+            logger.log(Level.WARNING,
+                    "{0} of {1} journaled hotkeys don't exist; skipped.",
+                    new Object[]{numBindings - result, numBindings});
+        }
+
+        return result;
+    }
+
+    /**
+     * Count the journaled frames.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countFrames() {
+        return numFrames;
+    }
+
+    /**
+     * Count the checkpoints replayed so far that didn't match the bindings of
+     * the mode stack.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countMismatches() {
+        return numMismatches;
+    }
+
+    /**
+     * Count the hotkey records replayed so far that no mapped mode handled.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countOrphans() {
+        return numOrphans;
+    }
+
+    /**
+     * Count the frames replayed so far.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countReplayed() {
+        return numReplayed;
+    }
+
+    /**
+     * Test whether every journaled frame has been replayed.
+     *
+     * @return true if finished, otherwise false
+     */
+    public boolean isFinished() {
+        boolean result = (nextRecord >= kinds.length);
+        return result;
+    }
+
+    /**
+     * Replay the next journaled frame, unless every frame has been replayed.
+     * Invoked by {@link #update(float)}.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0, used
+     * only if the journal lacks the frame's record)
+     */
+    void replayFrame(float tpf) {
+        if (isFinished()) {
+            return;
+        }
+        if (numReplayed == 0) {
+            compareBindings();
+        }
+        InputMode.stack.setReplaying(true);
+
+        // Find the end of the frame, which holds the journaled tpf.
+        int endRecord = nextRecord;
+        while (endRecord < kinds.length
+                && kinds[endRecord] != InputJournal.kindFrame) {
+            ++endRecord;
+        }
+        float frameTpf = (endRecord < kinds.length)
+                ? Float.intBitsToFloat(payloads[endRecord]) : tpf;
+
+        for (int recordI = nextRecord; recordI < endRecord; ++recordI) {
+            if (kinds[recordI] == InputJournal.kindBindings) {
+                this.expectedHash = payloads[recordI];
+                this.isCheckPending = true;
+            } else if (kinds[recordI] == InputJournal.kindHotkey) {
+                checkBindings();
+                boolean handled = InputMode.stack.dispatch(
+                        payloads[recordI], flags[recordI], frameTpf);
+                if (!handled) {
+                    ++numOrphans;
+                }
+            }
+        }
+        InputMode.stack.advanceClock(frameTpf);
+
+        this.nextRecord = endRecord + 1;
+        ++numReplayed;
+        if (isFinished()) {
+            InputMode.stack.setReplaying(false);
+            checkBindings();
+            if (numMismatches > 0) {
+                logger.log(Level.WARNING, "{0} replayed checkpoints didn''t "
+                        + "match the bindings, starting in frame {1}.",
+                        new Object[]{numMismatches, firstMismatch});
+            }
+            if (numOrphans > 0) {
+                logger.log(Level.WARNING, "{0} replayed hotkey records had "
+                        + "no mapped input mode to handle them.", numOrphans);
+            }
+        }
+    }
+    // *************************************************************************
+    // AcorusAppState methods
+
+    /**
+     * Enable or disable this replay. While disabled, the application drives
+     * the input clock.
+     *
+     * @param newSetting true to enable, false to disable
+     */
+    @Override
+    public void setEnabled(boolean newSetting) {
+        if (!newSetting) {
+            InputMode.stack.setReplaying(false);
+        }
+        super.setEnabled(newSetting);
+    }
+
+    /**
+     * Replay the next journaled frame. Invoked once per frame while this
+     * state is attached and enabled.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0,
+     * ignored in favor of the journaled value)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        replayFrame(tpf);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Compare the most recent checkpoint (if not yet compared) with the
+     * current bindings of the mode stack, counting any mismatch.
+     */
+    private void checkBindings() {
+        if (isCheckPending) {
+            this.isCheckPending = false;
+            if (InputMode.stack.bindingsHash() != expectedHash) {
+                if (numMismatches == 0) {
+                    this.firstMismatch = numReplayed;
+                }
+                ++numMismatches;
+            }
+        }
+    }
+
+    /**
+     * Log any differences between the journaled layers and bindings and those
+     * of the mode stack.
+     */
+    private void compareBindings() {
+        List<InputMode> layers = InputMode.stack.listLayers();
+        int numLayers = layerNames.length;
+        boolean sameLayers = (layers.size() == numLayers);
+        int numDiffs = 0;
+        int numBindings = 0;
+        for (int layerI = 0; layerI < numLayers; ++layerI) {
+            String layerName = layerNames[layerI];
+            InputMode mode = null;
+            for (InputMode layer : layers) {
+                if (layer.shortName().equals(layerName)) {
+                    mode = layer;
+                }
+            }
+            if (mode == null) {
+                mode = InputMode.findMode(layerName);
+            }
+            if (mode == null) {
+                logger.log(Level.WARNING, "The journaled layer {0} doesn''t "
+                        + "exist.", MyString.quote(layerName));
+                sameLayers = false;
+                continue;
+            }
+            if (sameLayers && (layers.get(layerI) != mode
+                    || InputMode.stack.isPassThrough(mode)
+                    != passThroughs[layerI])) {
+                sameLayers = false;
+            }
+
+            int[] codes = boundCodes[layerI];
+            numBindings += codes.length;
+            for (int bindingI = 0; bindingI < codes.length; ++bindingI) {
+                Hotkey hotkey = Hotkey.find(codes[bindingI]);
+                String actionName
+                        = (hotkey == null) ? null : mode.findActionName(hotkey);
+                String recorded = boundActions[layerI][bindingI];
+                if (!recorded.equals(actionName)) {
+                    ++numDiffs;
+                    if (logger.isLoggable(Level.FINE)) {
+                        logger.log(Level.FINE, "hotkey {0} was bound to {1} "
+                                + "in {2}, is now bound to {3}", new Object[]{
+                                    codes[bindingI], MyString.quote(recorded),
+                                    MyString.quote(layerName),
+                                    MyString.quote(actionName)
+                                });
+                    }
+                }
+            }
+        }
+
+        if (!sameLayers) {
+            logger.log(Level.WARNING, "The mode stack isn't layered as it "
+                    + "was when recorded.");
+        }
+        if (numDiffs > 0) {
+            logger.log(Level.WARNING, "{0} of {1} journaled hotkeys are bound "
+                    + "differently than when recorded.",
+                    new Object[]{numDiffs, numBindings});
+        }
+    }
+
+    /**
+     * Read a name encoded in UTF-8, preceded by its length as a short.
+     *
+     * @param bytes the buffer to read from (not null)
+     * @return a new String
+     */
+    private static String readName(ByteBuffer bytes) {
+        byte[] name = new byte[bytes.getShort() & 0xffff];
+        bytes.get(name);
+        String result = new String(name, StandardCharsets.UTF_8);
+
+        return result;
+    }
+}
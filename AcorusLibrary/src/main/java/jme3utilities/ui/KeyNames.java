@@ -0,0 +1,309 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods for naming keyboard keys. All methods should be static.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class KeyNames {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(KeyNames.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private KeyNames() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Transform the GLFW name of a printable keyboard key into a brief,
+     * descriptive name in English. Only a few common names are handled. When a
+     * name isn't handled, the GLFW name is returned. TODO handle additional
+     * cases
+     *
+     * @param glfwKeyName a key name obtained from GLFW (not null, typically a
+     * single Unicode character)
+     * @return a brief, descriptive name for the key (not null)
+     */
+    static String englishName(String glfwKeyName) {
+        assert glfwKeyName != null;
+
+        switch (glfwKeyName) {
+            case "\u0430":
+                return "a";
+            case "\u00B4":
+                return "acute";
+            case "\u05D0":
+                return "alef";
+            case "\u03B1":
+                return "alpha";
+            case "\u05E2":
+                return "ayin";
+            case "&":
+                return "ampersand";
+            case "'":
+                return "apostrophe";
+            case "\\":
+                return "backslash";
+            case "`":
+                return "backtick";
+            case "\u0431":
+                return "be";
+            case "\u05D1":
+                return "bet";
+            case "β":
+                return "beta";
+            case "\u0447":
+                return "che";
+            case "\u03C7":
+                return "chi";
+            case "^":
+                return "circumflex";
+            case ":":
+                return "colon";
+            case ",":
+                return "comma";
+            case "\u05D3":
+                return "dalet";
+            case "\u0434":
+                return "de";
+            case "δ":
+                return "delta";
+            case "\u00A8":
+                return "diaeresis";
+            case "$":
+                return "dollar";
+            case "\u044D":
+                return "e";
+            case "\u0444":
+                return "ef";
+            case "\u043B":
+                return "el";
+            case "\u043C":
+                return "em";
+            case "\u043D":
+                return "en";
+            case "ε":
+                return "epsilon";
+            case "=":
+                return "equals";
+            case "\u0440":
+                return "er";
+            case "\u0441":
+                return "es";
+            case "η":
+                return "eta";
+            case "!":
+                return "exclaim";
+            case "\u05DA":
+                return "fin kaf";
+            case "\u05DD":
+                return "fin mem";
+            case "\u05DF":
+                return "fin nun";
+            case "\u05E3":
+                return "fin pe";
+            case "\u03C2":
+                return "fin sigma";
+            case "\u03EA":
+                return "fin tav";
+            case "\u05E5":
+                return "fin tsadi";
+            case "\u03B3":
+                return "gamma";
+            case "\u0433":
+                return "ghe";
+            case "\u05D2":
+                return "gimel";
+            case "\u0445":
+                return "ha";
+            case "½":
+                return "half";
+            case "\u044A":
+                return "hard";
+            case "#":
+                return "hash";
+            case "\u05D4":
+                return "he";
+            case "\u05D7":
+                return "het";
+            case "\u0438":
+                return "i";
+            case "\u0435":
+                return "ie";
+            case "\u00A1":
+                return "inv exclaim";
+            case "\u0451":
+                return "io";
+            case "\u03B9":
+                return "iota";
+            case "\u043A":
+                return "ka";
+            case "\u05DB":
+                return "kaf";
+            case "\u03BA":
+                return "kappa";
+            case "λ":
+                return "lambda";
+            case "\u05DC":
+                return "lamed";
+            case "[":
+                return "left bracket";
+            case "(":
+                return "left paren";
+            case "<":
+                return "less than";
+            case "\u05DE":
+                return "mem";
+            case "µ":
+                return "micro";
+            case "-":
+                return "minus";
+            case "\u03BC":
+                return "mu";
+            case "\u03BD":
+                return "nu";
+            case "\u05E0":
+                return "nun";
+            case "\u043E":
+                return "o";
+            case "ω":
+                return "omega";
+            case "\u03BF":
+                return "omicron";
+            case "\u00BA":
+                return "ordinal";
+            case "\u043F":
+            case "\u05E4":
+                return "pe";
+            case ".":
+                return "period";
+            case "\u03C6":
+                return "phi";
+            case "\u03C0":
+                return "pi";
+            case "+":
+                return "plus";
+            case "ψ":
+                return "psi";
+            case "\u05E7":
+                return "qof";
+            case "\"":
+                return "quote";
+            case "\u05E8":
+                return "resh";
+            case "\u03C1":
+                return "rho";
+            case "]":
+                return "right bracket";
+            case ")":
+                return "right paren";
+            case "\u05E1":
+                return "samekh";
+            case "§":
+                return "section";
+            case ";":
+                return "semicolon";
+            case "\u0448":
+                return "sha";
+            case "\u0449":
+                return "shcha";
+            case "\u05E9":
+                return "shin";
+            case "\u0439":
+                return "short i";
+            case "σ":
+                return "sigma";
+            case "/":
+                return "slash";
+            case "\u044C":
+                return "soft";
+            case "²":
+                return "super2";
+            case "\u03C4":
+                return "tau";
+            case "\u05EA":
+                return "tav";
+            case "\u0442":
+                return "te";
+            case "\u05D8":
+                return "tet";
+            case "θ":
+                return "theta";
+            case "\u0384":
+                return "tonos";
+            case "\u05E6":
+                return "tsadi";
+            case "\u0446":
+                return "tse";
+            case "\u0443":
+                return "u";
+            case "\u03C5":
+                return "upsilon";
+            case "\u05D5":
+                return "vav";
+            case "\u0432":
+                return "ve";
+            case "ξ":
+                return "xi";
+            case "\u044F":
+                return "ya";
+            case "\u044B":
+                return "yeru";
+            case "\u05D9":
+                return "yod";
+            case "\u044E":
+                return "yu";
+            case "\u05D6":
+                return "zayin";
+            case "\u0437":
+                return "ze";
+            case "\u03B6":
+                return "zeta";
+            case "\u0436":
+                return "zhe";
+            default:
+                return glfwKeyName;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * Represent a sequence of hotkey strokes, such as "G then X" (Emacs-style), a
+ * double tap ("X then X"), or a long press ("hold X"). Immutable.
+ * <p>
+ * Each stroke is either a tap (press and release, or just a press if no
+ * longer sequence could follow) or a long press (held for at least the
+ * InputMode's long-press time).
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class KeySequence {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(KeySequence.class.getName());
+    /**
+     * textual prefix for a long-press stroke
+     */
+    final private static String holdPrefix = "hold ";
+    /**
+     * textual separator between strokes
+     */
+    final private static String separator = " then ";
+    // *************************************************************************
+    // fields
+
+    /**
+     * for each stroke: true&rarr;long press, false&rarr;tap
+     */
+    final private boolean[] longFlags;
+    /**
+     * hotkey for each stroke
+     */
+    final private Hotkey[] hotkeys;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a sequence of taps.
+     *
+     * @param hotkeys the hotkey for each stroke, in order (not null, not
+     * empty, unaffected)
+     */
+    public KeySequence(Hotkey... hotkeys) {
+        this(hotkeys, new boolean[hotkeys.length]);
+    }
+
+    /**
+     * Instantiate a sequence of taps and/or long presses.
+     *
+     * @param hotkeys the hotkey for each stroke, in order (not null, not
+     * empty, unaffected)
+     * @param longFlags for each stroke: true&rarr;long press, false&rarr;tap
+     * (not null, same length as hotkeys, unaffected)
+     */
+    public KeySequence(Hotkey[] hotkeys, boolean[] longFlags) {
+        Validate.nonEmpty(hotkeys, "hotkeys");
+        Validate.nonNull(longFlags, "long flags");
+        Validate.require(hotkeys.length == longFlags.length,
+                "equal-length arrays");
+        for (Hotkey hotkey : hotkeys) {
+            Validate.nonNull(hotkey, "hotkey");
+        }
+
+        this.hotkeys = hotkeys.clone();
+        this.longFlags = longFlags.clone();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the strokes in this sequence.
+     *
+     * @return the count (&gt;0)
+     */
+    public int countStrokes() {
+        return hotkeys.length;
+    }
+
+    /**
+     * Instantiate a double tap of the specified hotkey.
+     *
+     * @param hotkey the hotkey to be tapped (not null)
+     * @return a new sequence
+     */
+    public static KeySequence doubleTap(Hotkey hotkey) {
+        KeySequence result = new KeySequence(hotkey, hotkey);
+        return result;
+    }
+
+    /**
+     * Access the hotkey of the indexed stroke.
+     *
+     * @param strokeIndex which stroke (&ge;0, &lt;numStrokes)
+     * @return the pre-existing instance (not null)
+     */
+    public Hotkey hotkey(int strokeIndex) {
+        Validate.inRange(strokeIndex, "stroke index", 0, hotkeys.length - 1);
+        return hotkeys[strokeIndex];
+    }
+
+    /**
+     * Test whether the indexed stroke is a long press.
+     *
+     * @param strokeIndex which stroke (&ge;0, &lt;numStrokes)
+     * @return true for a long press, false for a tap
+     */
+    public boolean isLongPress(int strokeIndex) {
+        Validate.inRange(strokeIndex, "stroke index", 0, hotkeys.length - 1);
+        return longFlags[strokeIndex];
+    }
+
+    /**
+     * Instantiate a long press of the specified hotkey.
+     *
+     * @param hotkey the hotkey to be held (not null)
+     * @return a new sequence
+     */
+    public static KeySequence longPress(Hotkey hotkey) {
+        Hotkey[] hotkeys = {hotkey};
+        boolean[] longFlags = {true};
+        KeySequence result = new KeySequence(hotkeys, longFlags);
+
+        return result;
+    }
+
+    /**
+     * Parse a sequence from the format generated by {@link #toString()}, such
+     * as "G then X" or "hold F1".
+     *
+     * @param usText the text to parse (not null)
+     * @return a new sequence, or null if the text names an unknown hotkey
+     */
+    public static KeySequence parse(String usText) {
+        Validate.nonNull(usText, "text");
+
+        String[] strokes = usText.trim().split(separator);
+        int numStrokes = strokes.length;
+        Hotkey[] hotkeys = new Hotkey[numStrokes];
+        boolean[] longFlags = new boolean[numStrokes];
+        for (int strokeIndex = 0; strokeIndex < numStrokes; ++strokeIndex) {
+            String stroke = strokes[strokeIndex].trim();
+            if (stroke.startsWith(holdPrefix)) {
+                longFlags[strokeIndex] = true;
+                stroke = MyString.remainder(stroke, holdPrefix);
+            }
+
+            Hotkey hotkey = Hotkey.findUs(stroke);
+            if (hotkey == null) {
+                return null;
+            }
+            hotkeys[strokeIndex] = hotkey;
+        }
+
+        KeySequence result = new KeySequence(hotkeys, longFlags);
+        return result;
+    }
+
+    /**
+     * Represent this instance as a String, using local hotkey names.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    public String toStringLocal() {
+        String result = describe(true);
+        return result;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Test for exact equivalence with another Object.
+     *
+     * @param otherObject the object to compare to (may be null, unaffected)
+     * @return true if the objects are equivalent, otherwise false
+     */
+    @Override
+    public boolean equals(Object otherObject) {
+        boolean result;
+        if (otherObject == this) {
+            result = true;
+
+        } else if (otherObject != null
+                && otherObject.getClass() == getClass()) {
+            KeySequence other = (KeySequence) otherObject;
+            result = Arrays.equals(hotkeys, other.hotkeys)
+                    && Arrays.equals(longFlags, other.longFlags);
+
+        } else {
+            result = false;
+        }
+
+        return result;
+    }
+
+    /**
+     * Generate the hash code for this instance.
+     *
+     * @return the value to use for hashing
+     */
+    @Override
+    public int hashCode() {
+        int hash = 37;
+        hash = 79 * hash + Arrays.hashCode(hotkeys);
+        hash = 79 * hash + Arrays.hashCode(longFlags);
+
+        return hash;
+    }
+
+    /**
+     * Represent this instance as a String, using US hotkey names.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    @Override
+    public String toString() {
+        String result = describe(false);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Describe this sequence using either local or US hotkey names.
+     *
+     * @param local true for local names, false for US names
+     * @return a new String
+     */
+    private String describe(boolean local) {
+        StringBuilder result = new StringBuilder(40);
+
+        int numStrokes = hotkeys.length;
+        for (int strokeIndex = 0; strokeIndex < numStrokes; ++strokeIndex) {
+            if (strokeIndex > 0) {
+                result.append(separator);
+            }
+            if (longFlags[strokeIndex]) {
+                result.append(holdPrefix);
+            }
+            Hotkey hotkey = hotkeys[strokeIndex];
+            String name = local ? hotkey.localName() : hotkey.usName();
+            result.append(name);
+        }
+
+        return result.toString();
+    }
+}
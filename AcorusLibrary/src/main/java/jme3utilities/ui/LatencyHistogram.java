@@ -0,0 +1,210 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A compact histogram of latencies with log-linear buckets: exact below 32
+ * microseconds and within 1/16 (about 6%) above that. Recording a sample
+ * doesn't allocate any objects.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class LatencyHistogram {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of sub-buckets per power of 2 (above the linear range)
+     */
+    final private static int subBuckets = 16;
+    /**
+     * log2 of subBuckets
+     */
+    final private static int subBucketBits = 4;
+    /**
+     * number of linear (1-microsecond) buckets
+     */
+    final private static int linearBuckets = 2 * subBuckets;
+    /**
+     * total number of buckets: enough for latencies of about 19 hours
+     */
+    final private static int numBuckets = linearBuckets + 32 * subBuckets;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(LatencyHistogram.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of samples in each bucket
+     */
+    final private long[] counts = new long[numBuckets];
+    /**
+     * total number of samples recorded
+     */
+    private long numSamples = 0L;
+    /**
+     * largest sample recorded (in nanoseconds)
+     */
+    private long maxNanos = 0L;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty histogram.
+     */
+    public LatencyHistogram() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the samples recorded.
+     *
+     * @return the count (&ge;0)
+     */
+    public long count() {
+        assert numSamples >= 0L : numSamples;
+        return numSamples;
+    }
+
+    /**
+     * Return the largest sample recorded.
+     *
+     * @return the latency (in nanoseconds, &ge;0)
+     */
+    public long maxNanos() {
+        assert maxNanos >= 0L : maxNanos;
+        return maxNanos;
+    }
+
+    /**
+     * Estimate the specified percentile of the recorded samples.
+     *
+     * @param fraction the fraction of samples at or below the result (&ge;0,
+     * &le;1, for example 0.99 for p99)
+     * @return the upper bound of the bucket containing the percentile, capped
+     * at the maximum (in nanoseconds, &ge;0) or 0 if no samples
+     */
+    public long percentileNanos(double fraction) {
+        Validate.fraction((float) fraction, "fraction");
+        if (numSamples == 0L) {
+            return 0L;
+        }
+
+        long threshold = (long) Math.ceil(fraction * numSamples);
+        threshold = Math.max(threshold, 1L);
+        long cumulative = 0L;
+        for (int bucket = 0; bucket < numBuckets; ++bucket) {
+            cumulative += counts[bucket];
+            if (cumulative >= threshold) {
+                long upperMicros = lowerBoundMicros(bucket + 1);
+                long result = Math.min(1000L * upperMicros, maxNanos);
+                return result;
+            }
+        }
+
+        return maxNanos;
+    }
+
+    /**
+     * Record a sample. Doesn't allocate any objects.
+     *
+     * @param nanos the latency (in nanoseconds, negative values are treated as
+     * zero)
+     */
+    public void record(long nanos) {
+        long clamped = Math.max(nanos, 0L);
+        int bucket = bucketIndex(clamped / 1000L);
+        ++counts[bucket];
+        ++numSamples;
+        if (clamped > maxNanos) {
+            this.maxNanos = clamped;
+        }
+    }
+
+    /**
+     * Discard all samples.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        this.numSamples = 0L;
+        this.maxNanos = 0L;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine which bucket holds the specified latency.
+     *
+     * @param micros the latency (in microseconds, &ge;0)
+     * @return the bucket index (&ge;0, &lt;numBuckets)
+     */
+    private static int bucketIndex(long micros) {
+        if (micros < linearBuckets) {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - subBucketBits;
+        int subBucket = (int) (micros >> shift) - subBuckets;
+        int result = linearBuckets
+                + (exponent - subBucketBits - 1) * subBuckets + subBucket;
+        result = Math.min(result, numBuckets - 1);
+
+        return result;
+    }
+
+    /**
+     * Determine the smallest latency held by the specified bucket.
+     *
+     * @param bucket the bucket index (&ge;0, &le;numBuckets)
+     * @return the latency (in microseconds, &ge;0)
+     */
+    private static long lowerBoundMicros(int bucket) {
+        if (bucket < linearBuckets) {
+            return bucket;
+        }
+
+        int offset = bucket - linearBuckets;
+        int exponent = offset / subBuckets + subBucketBits + 1;
+        int subBucket = offset % subBuckets;
+        long result = (long) (subBuckets + subBucket)
+                << (exponent - subBucketBits);
+
+        return result;
+    }
+}
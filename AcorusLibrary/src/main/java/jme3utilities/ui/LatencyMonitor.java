@@ -0,0 +1,438 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import com.jme3.input.KeyInput;
+import com.jme3.input.MouseInput;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.JoyAxisEvent;
+import com.jme3.input.event.JoyButtonEvent;
+import com.jme3.input.event.KeyInputEvent;
+import com.jme3.input.event.MouseButtonEvent;
+import com.jme3.input.event.MouseMotionEvent;
+import com.jme3.input.event.TouchEvent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.Validate;
+
+/**
+ * Optional instrumentation to measure input latency, per action.
+ * <p>
+ * While enabled, each key-press, mouse-button-press, or joystick-button-press
+ * event is timestamped using the time the input device assigned to it,
+ * converted to the {@code System.nanoTime()} clock. When the mode stack
+ * dispatches the hotkey, the latencies of the following stages, relative to
+ * that timestamp, are recorded in a histogram per action and stage:
+ * <ul>
+ * <li>{@link #stageDispatch}: the mode stack began dispatching the hotkey,</li>
+ * <li>{@link #stageCombos}: combos were processed for it,</li>
+ * <li>{@link #stageHandler}: the action was delivered to its input mode or
+ * signal tracker, and</li>
+ * <li>{@link #stageFrame}: the next frame was rendered (reported by the
+ * AcorusProcessor of an AcorusDemo).</li>
+ * </ul>
+ * This covers actions bound in any input mode, including combo actions and
+ * key-sequence actions. A sequence action fired by a timeout, rather than by a
+ * hotkey, is measured from the most recently dispatched hotkey press.
+ * Joystick buttons share a single timestamp.
+ * <p>
+ * Disabled by default. While disabled, the instrumentation costs a field test
+ * per dispatched hotkey.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class LatencyMonitor {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * stage index for the delivery of an action to an Acorus listener
+     */
+    final public static int stageDispatch = 0;
+    /**
+     * stage index for combo processing
+     */
+    final public static int stageCombos = 1;
+    /**
+     * stage index for the delivery of an action to its handler
+     */
+    final public static int stageHandler = 2;
+    /**
+     * stage index for the end of the next rendered frame
+     */
+    final public static int stageFrame = 3;
+    /**
+     * number of stages
+     */
+    final public static int numStages = 4;
+    /**
+     * timestamp slot shared by all joystick buttons
+     */
+    final private static int joystickSlot = KeyInput.KEY_LAST + 4;
+    /**
+     * maximum number of handled actions awaiting the end of a frame
+     */
+    final private static int maxPending = 64;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(LatencyMonitor.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if measurements are enabled, otherwise false
+     */
+    private boolean isEnabled = false;
+    /**
+     * input manager, or null if not yet initialized
+     */
+    private InputManager inputManager = null;
+    /**
+     * keyboard input, whose clock timestamps input events, or null if unknown
+     */
+    private KeyInput keyInput = null;
+    /**
+     * number of handled actions awaiting the end of a frame
+     */
+    private int numPending = 0;
+    /**
+     * frame-stage histograms of the handled actions awaiting the end of a
+     * frame
+     */
+    final private LatencyHistogram[] pendingHistograms
+            = new LatencyHistogram[maxPending];
+    /**
+     * offset from the input clock to the {@code System.nanoTime()} clock,
+     * measured at the start of each batch of raw events (in nanoseconds)
+     */
+    private long clockOffset = 0L;
+    /**
+     * time when combos were processed for the current event (in nanoseconds)
+     * or -1 if not yet
+     */
+    private long combosNanos = -1L;
+    /**
+     * time when the current event was dispatched (in nanoseconds)
+     */
+    private long dispatchNanos = -1L;
+    /**
+     * raw timestamps of the handled actions awaiting the end of a frame (in
+     * nanoseconds)
+     */
+    final private long[] pendingRawNanos = new long[maxPending];
+    /**
+     * timestamp of the current event (in nanoseconds) or -1 if unknown
+     */
+    private long rawNanos = -1L;
+    /**
+     * timestamps of hotkey presses not yet dispatched (in nanoseconds, -1 if
+     * none) indexed by universal code, except that all joystick buttons share
+     * {@link #joystickSlot}
+     */
+    final private long[] stampedNanos = new long[joystickSlot + 1];
+    /**
+     * histograms for each action name, indexed by stage
+     */
+    final private Map<String, LatencyHistogram[]> histograms
+            = new HashMap<>(64);
+    /**
+     * listener to timestamp raw events
+     */
+    final private RawListener listener = new RawListener();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a disabled monitor.
+     */
+    LatencyMonitor() {
+        Arrays.fill(stampedNanos, -1L);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Note the end of a rendered frame, completing the measurements of all
+     * actions handled since the previous frame. Doesn't allocate any objects.
+     */
+    void endFrame() {
+        if (numPending > 0) {
+            long now = System.nanoTime();
+            for (int index = 0; index < numPending; ++index) {
+                pendingHistograms[index].record(now - pendingRawNanos[index]);
+                pendingHistograms[index] = null;
+            }
+            this.numPending = 0;
+        }
+    }
+
+    /**
+     * Access the histogram of the specified action and stage.
+     *
+     * @param actionName the name of the action (not null)
+     * @param stage which stage ({@link #stageDispatch}, {@link #stageCombos},
+     * {@link #stageHandler}, or {@link #stageFrame})
+     * @return the pre-existing instance, or null if no samples yet
+     */
+    public LatencyHistogram histogram(String actionName, int stage) {
+        Validate.nonNull(actionName, "action name");
+        Validate.inRange(stage, "stage", 0, numStages - 1);
+
+        LatencyHistogram[] stages = histograms.get(actionName);
+        if (stages == null) {
+            return null;
+        } else {
+            return stages[stage];
+        }
+    }
+
+    /**
+     * Specify the input manager. Invoked once, during initialization of the
+     * application.
+     *
+     * @param inputManager the application's input manager (not null)
+     */
+    void initialize(InputManager inputManager) {
+        assert inputManager != null;
+        assert this.inputManager == null;
+
+        this.inputManager = inputManager;
+        this.keyInput = Heart.getKeyInput(inputManager);
+        if (isEnabled) {
+            inputManager.addRawInputListener(listener);
+        }
+    }
+
+    /**
+     * Test whether measurements are enabled.
+     *
+     * @return true if enabled, otherwise false
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enumerate the actions measured so far.
+     *
+     * @return a new collection of action names in lexicographic order
+     */
+    public Collection<String> listActions() {
+        Collection<String> result = new TreeSet<>(histograms.keySet());
+        return result;
+    }
+
+    /**
+     * Note that combos are being processed for the current event.
+     */
+    void markCombos() {
+        if (isEnabled && rawNanos >= 0L && combosNanos < 0L) {
+            this.combosNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Note that the mode stack began dispatching a hotkey event. A press
+     * becomes the current event, consuming its timestamp. A release doesn't
+     * affect the current event.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param ongoing true for a press, false for a release
+     */
+    void markDispatch(int universalCode, boolean ongoing) {
+        if (!isEnabled || !ongoing) {
+            return;
+        }
+
+        int slot = Math.min(universalCode, joystickSlot);
+        this.rawNanos = stampedNanos[slot];
+        if (rawNanos >= 0L) {
+            stampedNanos[slot] = -1L;
+            this.dispatchNanos = System.nanoTime();
+            this.combosNanos = -1L;
+        }
+    }
+
+    /**
+     * Note that an ongoing action is being delivered to its input mode or
+     * signal tracker, recording its latencies.
+     *
+     * @param actionString the action string (not null)
+     */
+    void noteHandled(String actionString) {
+        if (!isEnabled || rawNanos < 0L) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        LatencyHistogram[] stages = histograms.get(actionString);
+        if (stages == null) {
+            stages = new LatencyHistogram[numStages];
+            for (int stage = 0; stage < numStages; ++stage) {
+                stages[stage] = new LatencyHistogram();
+            }
+            histograms.put(actionString, stages);
+        }
+
+        stages[stageDispatch].record(dispatchNanos - rawNanos);
+        if (combosNanos >= 0L) {
+            stages[stageCombos].record(combosNanos - rawNanos);
+        }
+        stages[stageHandler].record(now - rawNanos);
+        if (numPending < maxPending) {
+            pendingHistograms[numPending] = stages[stageFrame];
+            pendingRawNanos[numPending] = rawNanos;
+            ++numPending;
+        }
+    }
+
+    /**
+     * Discard all measurements.
+     */
+    public void reset() {
+        histograms.clear();
+        for (int index = 0; index < numPending; ++index) {
+            pendingHistograms[index] = null;
+        }
+        this.numPending = 0;
+    }
+
+    /**
+     * Enable or disable measurements.
+     *
+     * @param newSetting true to enable, false to disable (default=false)
+     */
+    public void setEnabled(boolean newSetting) {
+        if (newSetting != isEnabled) {
+            this.isEnabled = newSetting;
+            this.rawNanos = -1L;
+            Arrays.fill(stampedNanos, -1L);
+            if (inputManager != null) {
+                if (newSetting) {
+                    inputManager.addRawInputListener(listener);
+                } else {
+                    inputManager.removeRawInputListener(listener);
+                }
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Timestamp a hotkey press that might trigger actions.
+     *
+     * @param slot the index of the timestamp slot (&ge;0, &le;joystickSlot)
+     * @param eventTime the time assigned by the input device (in the input
+     * clock's nanoseconds) or 0 if none
+     */
+    private void stamp(int slot, long eventTime) {
+        long now = System.nanoTime();
+        long nanos = now;
+        if (eventTime > 0L) {
+            nanos = Math.min(eventTime + clockOffset, now);
+        }
+        stampedNanos[slot] = nanos;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Timestamp raw events that might trigger actions. Doesn't allocate any
+     * objects.
+     */
+    final private class RawListener implements RawInputListener {
+        @Override
+        public void beginInput() {
+            if (keyInput != null) {
+                long inputNanos = keyInput.getInputTimeNanos();
+                clockOffset = System.nanoTime() - inputNanos;
+            }
+        }
+
+        @Override
+        public void endInput() {
+            // do nothing
+        }
+
+        @Override
+        public void onJoyAxisEvent(JoyAxisEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onJoyButtonEvent(JoyButtonEvent event) {
+            if (event.isPressed()) {
+                stamp(joystickSlot, event.getTime());
+            }
+        }
+
+        @Override
+        public void onKeyEvent(KeyInputEvent event) {
+            // InputManager ignores repeats.
+            if (event.isPressed() && !event.isRepeating()) {
+                int slot = event.getKeyCode();
+                if (slot >= 0 && slot <= KeyInput.KEY_LAST) {
+                    stamp(slot, event.getTime());
+                }
+            }
+        }
+
+        @Override
+        public void onMouseButtonEvent(MouseButtonEvent event) {
+            // Acorus assigns hotkeys to the first 3 mouse buttons only.
+            int buttonIndex = event.getButtonIndex();
+            if (event.isPressed() && buttonIndex >= 0
+                    && buttonIndex <= MouseInput.BUTTON_MIDDLE) {
+                Hotkey hotkey = Hotkey.findButton(buttonIndex);
+                if (hotkey != null) {
+                    stamp(hotkey.code(), event.getTime());
+                }
+            }
+        }
+
+        @Override
+        public void onMouseMotionEvent(MouseMotionEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onTouchEvent(TouchEvent event) {
+            // do nothing
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * An Overlay to display input-latency statistics (p50, p99, and max) from a
+ * LatencyMonitor, one action per line, worst p99 first.
+ * <p>
+ * The text is refreshed a few times per second, and unchanged lines cost
+ * nothing to re-apply.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class LatencyOverlay extends Overlay {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * interval between refreshes (in seconds)
+     */
+    final private static float refreshInterval = 0.25f;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(LatencyOverlay.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * time since the most recent refresh (in seconds)
+     */
+    private float elapsed = refreshInterval;
+    /**
+     * which stage to display (default=frame)
+     */
+    private int stage = LatencyMonitor.stageFrame;
+    /**
+     * source of the statistics (not null)
+     */
+    final private LatencyMonitor monitor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a disabled overlay.
+     *
+     * @param monitor the source of the statistics (not null, alias created)
+     * @param numLines the number of lines to display, including the heading
+     * (&ge;2)
+     */
+    public LatencyOverlay(LatencyMonitor monitor, int numLines) {
+        super("latency", 400f, numLines);
+        Validate.nonNull(monitor, "monitor");
+        Validate.inRange(numLines, "number of lines", 2, Integer.MAX_VALUE);
+
+        this.monitor = monitor;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Alter which stage to display.
+     *
+     * @param newStage the desired stage (such as
+     * {@link LatencyMonitor#stageHandler}, default=frame)
+     */
+    public void setStage(int newStage) {
+        Validate.inRange(
+                newStage, "stage", 0, LatencyMonitor.numStages - 1);
+        this.stage = newStage;
+        this.elapsed = refreshInterval; // refresh on the next update
+    }
+    // *************************************************************************
+    // Overlay methods
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        this.elapsed += tpf;
+        if (elapsed >= refreshInterval) {
+            this.elapsed = 0f;
+            refresh();
+        }
+
+        super.update(tpf); // Apply any text changes.
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Format the specified latency.
+     *
+     * @param nanos the latency (in nanoseconds)
+     * @return a new String (in milliseconds)
+     */
+    private static String format(long nanos) {
+        String result = String.format("%.2f", 1e-6 * nanos);
+        return result;
+    }
+
+    /**
+     * Re-generate the text of every line.
+     */
+    private void refresh() {
+        final List<String> actions = new ArrayList<>(monitor.listActions());
+        Collections.sort(actions, new Comparator<String>() {
+            @Override
+            public int compare(String left, String right) {
+                long leftP99 = p99(left);
+                long rightP99 = p99(right);
+                return Long.compare(rightP99, leftP99);
+            }
+        });
+
+        setText(0, String.format(
+                "input latency (ms): p50 / p99 / max    stage %d", stage));
+        int numLines = countLines();
+        for (int lineIndex = 1; lineIndex < numLines; ++lineIndex) {
+            int actionIndex = lineIndex - 1;
+            String text = "";
+            if (actionIndex < actions.size()) {
+                String actionName = actions.get(actionIndex);
+                LatencyHistogram histogram
+                        = monitor.histogram(actionName, stage);
+                if (histogram.count() > 0L) {
+                    text = String.format("%s:  %s / %s / %s  (%d)",
+                            actionName,
+                            format(histogram.percentileNanos(0.5)),
+                            format(histogram.percentileNanos(0.99)),
+                            format(histogram.maxNanos()),
+                            histogram.count());
+                }
+            }
+            setText(lineIndex, text);
+        }
+    }
+
+    /**
+     * Determine the p99 latency of the named action in the displayed stage.
+     *
+     * @param actionName the name of the action (not null)
+     * @return the latency (in nanoseconds, &ge;0)
+     */
+    private long p99(String actionName) {
+        LatencyHistogram histogram = monitor.histogram(actionName, stage);
+        long result = histogram.percentileNanos(0.99);
+        return result;
+    }
+}
@@ -0,0 +1,799 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.cursors.plugins.JmeCursor;
+import com.jme3.input.InputManager;
+import com.jme3.input.controls.ActionListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * The mapped input modes, in priority order, along with a merged dispatch
+ * table that resolves each hotkey to the mode that handles it.
+ * <p>
+ * The bottom layer is the active InputMode (if any). Overlay modes are layered
+ * on top of it. An overlay can either pass the hotkeys it doesn't bind through
+ * to the layers beneath it or consume them.
+ * <p>
+ * Each hotkey gets a single mapping in the InputManager, created the first
+ * time the hotkey is needed and retained thereafter, so changing the layers
+ * never remaps hotkeys: it only rebuilds the table, which is indexed by
+ * universal code.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ModeStack {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ModeStack.class.getName());
+    /**
+     * prefix for the names of InputManager mappings
+     */
+    final private static String mappingPrefix = "acorus hotkey ";
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the table changed since the journal last recorded a checkpoint
+     * of the bindings
+     */
+    private boolean isChanged = true;
+    /**
+     * true while a JournalReplay drives the input clock
+     */
+    private boolean isReplaying = false;
+    /**
+     * true if the indexed hotkey triggers combos in its owning layer, indexed
+     * by universal code
+     */
+    private boolean[] hasCombos = new boolean[0];
+    /**
+     * true if the indexed hotkey is bound to a signal action in its owning
+     * layer, indexed by universal code
+     */
+    private boolean[] isSignal = new boolean[0];
+    /**
+     * ID of the action bound to each hotkey in its owning layer, resolved
+     * when the table is built, indexed by universal code (-1 if none)
+     */
+    private int[] actionIds = new int[0];
+    /**
+     * listener for each hotkey mapped in the InputManager, indexed by
+     * universal code (elements may be null)
+     */
+    private HotkeyListener[] listeners = new HotkeyListener[0];
+    /**
+     * layer that handles each hotkey, indexed by universal code (elements may
+     * be null)
+     */
+    private InputMode[] owners = new InputMode[0];
+    /**
+     * layer that received the most recent press of each hotkey, if the hotkey
+     * is still held, indexed by universal code (elements may be null)
+     */
+    private InputMode[] pressOwners = new InputMode[0];
+    /**
+     * input clock: the accumulated time per frame (in nanoseconds)
+     */
+    private long clockNanos = 0L;
+    /**
+     * journal to record dispatched hotkey events, or null if none
+     */
+    private InputJournal journal = null;
+    /**
+     * input-latency instrumentation to notify, or null if none
+     */
+    private LatencyMonitor latencyMonitor = null;
+    /**
+     * InputManager in which hotkeys are mapped (null until the first layer is
+     * mapped)
+     */
+    private InputManager inputManager = null;
+    /**
+     * mapped modes, from bottom to top
+     */
+    final private List<InputMode> layers = new ArrayList<>(4);
+    /**
+     * pass-through flags of the pushed overlays
+     */
+    final private Map<InputMode, Boolean> overlays = new HashMap<>(4);
+    /**
+     * action string for each hotkey bound to an action in its owning layer,
+     * indexed by universal code (elements may be null)
+     */
+    private String[] actionStrings = new String[0];
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Advance the input clock by one frame.
+     *
+     * @param tpf the time interval of the frame (in seconds, &ge;0)
+     */
+    void advanceClock(float tpf) {
+        assert tpf >= 0f : tpf;
+        this.clockNanos += (long) (1e9 * tpf);
+    }
+
+    /**
+     * Hash the effective bindings of the table: the owning layer and action
+     * string of each bound hotkey, and whether it triggers combos. Doesn't
+     * allocate any objects.
+     *
+     * @return the hash code
+     */
+    int bindingsHash() {
+        int result = 1;
+        for (int code = 0; code < owners.length; ++code) {
+            InputMode owner = owners[code];
+            if (owner != null) {
+                String actionString = actionStrings[code];
+                result = 31 * result + code;
+                result = 31 * result + owner.shortName().hashCode();
+                result = 31 * result
+                        + (actionString == null ? 0 : actionString.hashCode());
+                result = 31 * result + (hasCombos[code] ? 1 : 0);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Determine the name of the action bound to the specified hotkey in its
+     * owning layer.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @return the action name as bound (may be empty) or null if none
+     */
+    String boundAction(int universalCode) {
+        InputMode owner = (universalCode < owners.length)
+                ? owners[universalCode] : null;
+        Hotkey hotkey = Hotkey.find(universalCode);
+        if (owner == null || hotkey == null) {
+            return null;
+        }
+
+        String result = owner.hotkeyTable().actionName(hotkey.usName());
+        return result;
+    }
+
+    /**
+     * Read the input clock, which times key sequences. It accumulates the
+     * time per frame, so that a JournalReplay can reproduce the timing of the
+     * recorded frames.
+     *
+     * @return the accumulated time (in nanoseconds, &ge;0)
+     */
+    long clockNanos() {
+        return clockNanos;
+    }
+
+    /**
+     * Return one more than the highest universal code in the table.
+     *
+     * @return the limit (&ge;0)
+     */
+    int codeLimit() {
+        return owners.length;
+    }
+
+    /**
+     * Deliver a bound action to the specified mode, noting its latency.
+     * Invoked for hotkey actions, combo actions, and key-sequence actions.
+     *
+     * @param owner the mode that bound the action (not null)
+     * @param actionId the ID of the action, or -1 if it isn't registered
+     * @param actionString the action string (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    void deliver(InputMode owner, int actionId, String actionString,
+            boolean ongoing, float tpf) {
+        if (ongoing && latencyMonitor != null) {
+            latencyMonitor.noteHandled(actionString);
+        }
+        owner.onAction(actionId, actionString, ongoing, tpf);
+    }
+
+    /**
+     * Dispatch an event from the specified hotkey to the layer that handles
+     * it. A release is routed to the layer that received the corresponding
+     * press, even if the table has been rebuilt in the meantime. Doesn't
+     * allocate any objects, except when routing such a release.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param ongoing true if the hotkey was pressed, false if released
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @return true if a layer handled the event, false if no reachable layer
+     * binds the hotkey
+     */
+    boolean dispatch(int universalCode, boolean ongoing, float tpf) {
+        if (universalCode >= owners.length) {
+            return false; // not bound by any layer
+        }
+        InputMode owner = owners[universalCode];
+        InputMode pressOwner = pressOwners[universalCode];
+        if (ongoing) {
+            pressOwners[universalCode] = owner;
+        } else if (pressOwner != owner) {
+            pressOwners[universalCode] = null;
+            if (pressOwner == null) {
+                return false; // The press wasn't dispatched.
+            }
+            recordHotkey(universalCode, ongoing);
+            releaseStale(pressOwner, universalCode, tpf);
+            return true;
+        } else {
+            pressOwners[universalCode] = null;
+        }
+        if (owner == null) {
+            return false; // not bound by any reachable layer
+        }
+        recordHotkey(universalCode, ongoing);
+        if (latencyMonitor != null) {
+            latencyMonitor.markDispatch(universalCode, ongoing);
+        }
+        if (!owner.sequenceTable().onHotkey(universalCode, ongoing, tpf,
+                owner)) { // not consumed by a key sequence
+            dispatchBound(owner, universalCode, ongoing, tpf);
+        }
+
+        return true;
+    }
+
+    /**
+     * Test whether the specified mode was pushed as an overlay.
+     *
+     * @param mode the mode to test (not null, unaffected)
+     * @return true if it's an overlay, otherwise false
+     */
+    boolean isOverlay(InputMode mode) {
+        boolean result = overlays.containsKey(mode);
+        return result;
+    }
+
+    /**
+     * Test whether the specified layer passes unbound hotkeys to the layers
+     * beneath it.
+     *
+     * @param layer the layer to test (not null, unaffected)
+     * @return true if it passes them through, false if it consumes them
+     */
+    boolean isPassThrough(InputMode layer) {
+        Boolean result = overlays.get(layer);
+        if (result == null) { // the bottom layer
+            return false;
+        } else {
+            return result;
+        }
+    }
+
+    /**
+     * Test whether a JournalReplay is driving the input clock.
+     *
+     * @return true if replaying, otherwise false
+     */
+    boolean isReplaying() {
+        return isReplaying;
+    }
+
+    /**
+     * Enumerate the layers.
+     *
+     * @return a new list of pre-existing modes, from bottom to top
+     */
+    List<InputMode> listLayers() {
+        List<InputMode> result = new ArrayList<>(layers);
+        return result;
+    }
+
+    /**
+     * Add the specified mode as a layer, then rebuild the table. A mode that
+     * wasn't pushed as an overlay becomes the bottom layer.
+     *
+     * @param mode the mode to add (not null)
+     * @param inputManager the InputManager to use (not null)
+     */
+    void map(InputMode mode, InputManager inputManager) {
+        assert inputManager != null;
+        assert this.inputManager == null || this.inputManager == inputManager;
+        this.inputManager = inputManager;
+
+        if (!layers.contains(mode)) {
+            if (isOverlay(mode)) {
+                layers.add(mode);
+            } else {
+                layers.add(0, mode);
+            }
+        }
+        rebuild();
+    }
+
+    /**
+     * Designate the specified mode as an overlay, prior to mapping it.
+     *
+     * @param overlay the mode to designate (not null, not mapped)
+     * @param passThrough true to pass unbound hotkeys to the layers beneath,
+     * false to consume them
+     */
+    void push(InputMode overlay, boolean passThrough) {
+        assert !layers.contains(overlay);
+        overlays.put(overlay, passThrough);
+    }
+
+    /**
+     * Dispatch a hotkey event that a key sequence consumed, after the
+     * sequence was abandoned, bypassing the sequence table. Ignored if the
+     * specified mode no longer owns the hotkey.
+     *
+     * @param owner the mode whose sequence consumed the event (not null)
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param ongoing true for a press, false for a release
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    void redispatch(InputMode owner, int universalCode, boolean ongoing,
+            float tpf) {
+        if (universalCode < owners.length && owners[universalCode] == owner) {
+            dispatchBound(owner, universalCode, ongoing, tpf);
+        }
+    }
+
+    /**
+     * Resolve the specified hotkey after its bindings changed, without
+     * rebuilding the rest of the table. If no reachable layer binds the hotkey
+     * any more, its mapping is deleted.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     */
+    void refresh(int universalCode) {
+        assert universalCode >= 0 : universalCode;
+
+        ensureCapacity(universalCode);
+        resolve(universalCode);
+        if (owners[universalCode] == null && listeners[universalCode] != null) {
+            deleteMapping(universalCode);
+        }
+    }
+
+    /**
+     * Update the table after a joystick was connected or disconnected. The
+     * mappings of retired hotkeys are deleted, along with their listeners, so
+     * that a reconnected joystick (which reuses the same universal codes) gets
+     * exactly one listener per button. Retired buttons that are held get
+     * released.
+     *
+     * @param hotkeys the joystick-button hotkeys that were added or retired
+     * (not null, unaffected)
+     * @param isConnected true if the hotkeys were added, false if they were
+     * retired
+     */
+    void remapJoystick(List<Hotkey> hotkeys, boolean isConnected) {
+        if (!isConnected) {
+            for (Hotkey hotkey : hotkeys) {
+                int code = hotkey.code();
+                if (code < listeners.length && listeners[code] != null) {
+                    deleteMapping(code);
+                }
+            }
+        }
+        rebuild();
+    }
+
+    /**
+     * Specify the journal in which to record dispatched hotkey events.
+     *
+     * @param journal the journal (alias created) or null for none
+     */
+    void setJournal(InputJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Specify the input-latency instrumentation to notify when hotkeys are
+     * dispatched and actions are delivered.
+     *
+     * @param monitor the instrumentation (alias created) or null for none
+     */
+    void setLatencyMonitor(LatencyMonitor monitor) {
+        this.latencyMonitor = monitor;
+    }
+
+    /**
+     * Specify whether a JournalReplay is driving the input clock, in which
+     * case the application doesn't advance it.
+     *
+     * @param newSetting true if replaying, otherwise false
+     */
+    void setReplaying(boolean newSetting) {
+        this.isReplaying = newSetting;
+    }
+
+    /**
+     * Find the topmost overlay.
+     *
+     * @return the pre-existing mode, or null if no overlay is mapped
+     */
+    InputMode topOverlay() {
+        InputMode result = null;
+        int numLayers = layers.size();
+        if (numLayers > 0) {
+            InputMode top = layers.get(numLayers - 1);
+            if (isOverlay(top)) {
+                result = top;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove the specified mode (if it's a layer), then rebuild the table.
+     *
+     * @param mode the mode to remove (not null)
+     */
+    void unmap(InputMode mode) {
+        layers.remove(mode);
+        overlays.remove(mode);
+        rebuild();
+    }
+
+    /**
+     * Show the mouse cursor of the topmost layer, or hide it if that layer has
+     * no cursor.
+     *
+     * @param inputManager the InputManager to use (not null)
+     */
+    void updateCursor(InputManager inputManager) {
+        int numLayers = layers.size();
+        JmeCursor cursor = null;
+        if (numLayers > 0) {
+            cursor = layers.get(numLayers - 1).getCursor();
+        }
+
+        if (cursor == null) {
+            inputManager.setCursorVisible(false);
+        } else {
+            inputManager.setMouseCursor(cursor);
+            inputManager.setCursorVisible(true);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Delete the InputManager mapping of the specified hotkey, along with its
+     * listener. If the hotkey is held, its release is dispatched first, so
+     * that no action or signal gets stuck.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0, mapped)
+     */
+    private void deleteMapping(int universalCode) {
+        if (pressOwners[universalCode] != null) {
+            dispatch(universalCode, false, 0f);
+        }
+        inputManager.removeListener(listeners[universalCode]);
+        inputManager.deleteMapping(mappingPrefix + universalCode);
+        listeners[universalCode] = null;
+    }
+
+    /**
+     * Dispatch a hotkey event to the signal, action, and combos that the
+     * owning layer binds to the hotkey. Doesn't allocate any objects.
+     *
+     * @param owner the layer that owns the hotkey (not null)
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param ongoing true if the hotkey was pressed, false if released
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    private void dispatchBound(InputMode owner, int universalCode,
+            boolean ongoing, float tpf) {
+        String actionString = actionStrings[universalCode];
+        if (actionString == null) {
+            // only combos
+        } else if (isSignal[universalCode]) {
+            if (ongoing && latencyMonitor != null) {
+                latencyMonitor.noteHandled(actionString);
+            }
+            owner.getSignals().onAction(actionString, ongoing, tpf);
+        } else {
+            int actionId = actionIds[universalCode];
+            deliver(owner, actionId, actionString, ongoing, tpf);
+        }
+
+        if (ongoing && hasCombos[universalCode]) {
+            if (latencyMonitor != null) {
+                latencyMonitor.markCombos();
+            }
+            owner.processCombos(universalCode, tpf);
+        }
+    }
+
+    /**
+     * Grow the table (if necessary) to include the specified code.
+     *
+     * @param universalCode the universal code to include (&ge;0)
+     */
+    private void ensureCapacity(int universalCode) {
+        int length = owners.length;
+        if (universalCode >= length) {
+            int newLength = Math.max(2 * length, universalCode + 1);
+            this.actionIds = Arrays.copyOf(actionIds, newLength);
+            this.actionStrings = Arrays.copyOf(actionStrings, newLength);
+            this.hasCombos = Arrays.copyOf(hasCombos, newLength);
+            this.isSignal = Arrays.copyOf(isSignal, newLength);
+            this.listeners = Arrays.copyOf(listeners, newLength);
+            this.owners = Arrays.copyOf(owners, newLength);
+            this.pressOwners = Arrays.copyOf(pressOwners, newLength);
+        }
+    }
+
+    /**
+     * Test whether the specified layer binds the specified hotkey, either to
+     * an action or as a combo trigger.
+     *
+     * @param layer the layer to test (not null, unaffected)
+     * @param hotkey the hotkey to test (not null, unaffected)
+     * @return true if bound, otherwise false
+     */
+    private static boolean isBound(InputMode layer, Hotkey hotkey) {
+        String usName = hotkey.usName();
+        boolean result = layer.hotkeyTable().actionName(usName) != null
+                || layer.comboTable().hasCombos(hotkey.code())
+                || layer.sequenceTable().binds(hotkey.code());
+
+        return result;
+    }
+
+    /**
+     * Rebuild the entire table. Hotkeys that are already mapped in the
+     * InputManager aren't remapped, and the mappings of hotkeys that no
+     * reachable layer binds are deleted.
+     */
+    private void rebuild() {
+        Arrays.fill(actionIds, -1);
+        Arrays.fill(actionStrings, null);
+        Arrays.fill(hasCombos, false);
+        Arrays.fill(isSignal, false);
+        Arrays.fill(owners, null);
+        this.isChanged = true;
+
+        for (int index = layers.size() - 1; index >= 0; --index) {
+            InputMode layer = layers.get(index);
+            for (String usName : layer.hotkeyTable().listHotkeys()) {
+                Hotkey hotkey = Hotkey.findUs(usName);
+                if (hotkey != null) { // skip disconnected joysticks
+                    refreshIfUnowned(hotkey.code());
+                }
+            }
+            ComboTable comboTable = layer.comboTable();
+            int numTriggers = comboTable.countTriggers();
+            for (int triggerI = 0; triggerI < numTriggers; ++triggerI) {
+                refreshIfUnowned(comboTable.triggerCode(triggerI));
+            }
+            for (int code : layer.sequenceTable().listCodes()) {
+                refreshIfUnowned(code);
+            }
+
+            if (!isPassThrough(layer)) {
+                break; // The layers beneath are unreachable.
+            }
+        }
+
+        for (int code = 0; code < listeners.length; ++code) {
+            if (owners[code] == null && listeners[code] != null) {
+                deleteMapping(code);
+            }
+        }
+    }
+
+    /**
+     * Record a dispatched hotkey event in the journal, if it's recording.
+     * If the table changed since the last checkpoint of the bindings (or none
+     * has been recorded yet), a new checkpoint precedes the event.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param ongoing true for a press, false for a release
+     */
+    private void recordHotkey(int universalCode, boolean ongoing) {
+        if (journal == null || !journal.isRecording()) {
+            return;
+        }
+
+        if (isChanged || !journal.hasCheckpoint()) {
+            journal.recordBindings(bindingsHash());
+            this.isChanged = false;
+        }
+        journal.recordHotkey(universalCode, ongoing);
+    }
+
+    /**
+     * Resolve the specified hotkey, unless the table already assigns it.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     */
+    private void refreshIfUnowned(int universalCode) {
+        if (universalCode >= owners.length || owners[universalCode] == null) {
+            refresh(universalCode);
+        }
+    }
+
+    /**
+     * Deliver a hotkey release to the layer that received the press, after
+     * the table assigned the hotkey to a different layer (or to none).
+     * Allocates objects, so it should be rare.
+     *
+     * @param layer the layer that received the press (not null)
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    private void releaseStale(InputMode layer, int universalCode, float tpf) {
+        if (layer.sequenceTable().onHotkey(
+                universalCode, false, tpf, layer)) {
+            return; // consumed by a key sequence
+        }
+        Hotkey hotkey = Hotkey.find(universalCode);
+        String actionName = (hotkey == null)
+                ? null : layer.hotkeyTable().actionName(hotkey.usName());
+        if (actionName == null || actionName.isEmpty()) {
+            return;
+        }
+
+        if (actionName.startsWith(InputMode.signalActionPrefix)) {
+            String actionString = actionName + " " + universalCode;
+            layer.getSignals().onAction(actionString, false, tpf);
+        } else if (layers.contains(layer)) {
+            int actionId = ActionRegistry.findId(actionName);
+            deliver(layer, actionId, actionName, false, tpf);
+        }
+    }
+
+    /**
+     * Find the topmost reachable layer that binds the specified hotkey and
+     * update the hotkey's table entry to match, resolving the bound action's
+     * name to an ID. Maps the hotkey in the InputManager if it's bound and not
+     * yet mapped.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0, within
+     * capacity)
+     */
+    private void resolve(int universalCode) {
+        this.isChanged = true;
+        actionIds[universalCode] = -1;
+        actionStrings[universalCode] = null;
+        hasCombos[universalCode] = false;
+        isSignal[universalCode] = false;
+        owners[universalCode] = null;
+
+        Hotkey hotkey = Hotkey.find(universalCode);
+        if (hotkey == null) {
+            return; // the hotkey's joystick is disconnected
+        }
+
+        InputMode owner = null;
+        for (int index = layers.size() - 1; index >= 0; --index) {
+            InputMode layer = layers.get(index);
+            if (isBound(layer, hotkey)) {
+                owner = layer;
+                break;
+            } else if (!isPassThrough(layer)) {
+                return; // consumed without being bound
+            }
+        }
+        if (owner == null) {
+            return;
+        }
+
+        owners[universalCode] = owner;
+        hasCombos[universalCode] = owner.comboTable().hasCombos(universalCode);
+        String actionName = owner.hotkeyTable().actionName(hotkey.usName());
+        if (actionName != null
+                && actionName.startsWith(InputMode.signalActionPrefix)) {
+            String signalName = MyString.remainder(
+                    actionName, InputMode.signalActionPrefix);
+            owner.getSignals().add(signalName);
+            // Append the universal code to ensure a unique action string.
+            actionStrings[universalCode] = actionName + " " + universalCode;
+            isSignal[universalCode] = true;
+        } else if (actionName != null && !actionName.isEmpty()) {
+            actionStrings[universalCode] = actionName;
+            actionIds[universalCode] = ActionRegistry.register(actionName);
+        } else {
+            actionStrings[universalCode] = actionName;
+        }
+
+        if (owner.isInitialized()) { // Report unhandled actions when bound.
+            if (actionIds[universalCode] >= 0) {
+                owner.getActionApplication().checkHandler(owner, actionName);
+            }
+            owner.comboTable().checkHandlers(universalCode, owner);
+            SequenceTable sequenceTable = owner.sequenceTable();
+            if (sequenceTable.binds(universalCode)) {
+                sequenceTable.checkHandlers(owner);
+            }
+        }
+
+        if (listeners[universalCode] == null) {
+            HotkeyListener listener = new HotkeyListener(universalCode);
+            String mappingName = mappingPrefix + universalCode;
+            /*
+             * A stale mapping would still hold the listener of a retired
+             * hotkey, causing each event to be dispatched twice.
+             */
+            assert !inputManager.hasMapping(mappingName) : mappingName;
+            inputManager.addListener(listener, mappingName);
+            hotkey.map(mappingName);
+            listeners[universalCode] = listener;
+        }
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Receive events from a single hotkey.
+     */
+    final private class HotkeyListener implements ActionListener {
+        /**
+         * universal code of the hotkey
+         */
+        final private int universalCode;
+
+        /**
+         * Instantiate a listener for the specified hotkey.
+         *
+         * @param universalCode the universal code of the hotkey (&ge;0)
+         */
+        HotkeyListener(int universalCode) {
+            this.universalCode = universalCode;
+        }
+
+        /**
+         * Dispatch an event from the hotkey.
+         *
+         * @param mappingName the name of the mapping (unused)
+         * @param ongoing true if the hotkey was pressed, false if released
+         * @param tpf the time interval between frames (in seconds, &ge;0)
+         */
+        @Override
+        public void onAction(String mappingName, boolean ongoing, float tpf) {
+            dispatch(universalCode, ongoing, tpf);
+        }
+    }
+}
@@ -56,6 +56,10 @@ import jme3utilities.mesh.RoundedRectangle;
  * <p>
  * By default, an Overlay is located in the upper-left corner of the display and
  * the text is white and left-aligned on a black background.
+ * <p>
+ * Changes to text, colors, and layout are coalesced: each setter merely records
+ * the change (ignoring changes that wouldn't alter anything) and all pending
+ * changes are applied at most once per frame, during {@link #update(float)}.
  *
  * @author Stephen Gold sgold@sonic.net
  */
@@ -67,6 +71,18 @@ public class Overlay extends BaseAppState {
      * message logger for this class
      */
     final static Logger loggerO = Logger.getLogger(Overlay.class.getName());
+    /**
+     * dirty flag: the line's color needs to be applied
+     */
+    final private static int colorDirty = 0x1;
+    /**
+     * dirty flag: the line's offset needs to be recalculated
+     */
+    final private static int offsetDirty = 0x2;
+    /**
+     * dirty flag: the line's text needs to be applied
+     */
+    final private static int textDirty = 0x4;
     // *************************************************************************
     // fields
 
@@ -78,6 +94,18 @@ public class Overlay extends BaseAppState {
      * lines of text content displayed in the overlay ([0] is the top line)
      */
     final private BitmapText[] contentLines;
+    /**
+     * true if the background color needs to be applied
+     */
+    private boolean isBackgroundColorDirty = false;
+    /**
+     * true if the background mesh needs to be rebuilt
+     */
+    private boolean isBackgroundMeshDirty = false;
+    /**
+     * true if any change is pending
+     */
+    private boolean isDirty = false;
     /**
      * gamma-encoded color of the background
      */
@@ -118,6 +146,10 @@ public class Overlay extends BaseAppState {
      * framebuffer pixels, &ge;0) Ignored if locationPolicy=Center.
      */
     private float yMargin = 5f;
+    /**
+     * pending changes for each content line (bitwise OR of dirty flags)
+     */
+    final private int[] lineFlags;
     /**
      * rounded-rectangle geometry to ensure content visibility
      */
@@ -160,6 +192,7 @@ public class Overlay extends BaseAppState {
         this.contentLines = new BitmapText[numLines];
         this.contentColors = new ColorRGBA[numLines];
         this.contentStrings = new String[numLines];
+        this.lineFlags = new int[numLines];
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
             this.contentAlignments[lineIndex] = BitmapFont.Align.Left;
             // contentLines are created by initialize()
@@ -328,9 +361,7 @@ public class Overlay extends BaseAppState {
 
         if (alignment != contentAlignments[lineIndex]) {
             this.contentAlignments[lineIndex] = alignment;
-            if (isInitialized()) {
-                updateContentOffset(lineIndex);
-            }
+            markLine(lineIndex, offsetDirty);
         }
     }
 
@@ -344,11 +375,10 @@ public class Overlay extends BaseAppState {
 
         int numLines = countLines();
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
-            this.contentAlignments[lineIndex] = alignment;
-        }
-
-        if (isInitialized()) {
-            updateContentOffsets();
+            if (alignment != contentAlignments[lineIndex]) {
+                this.contentAlignments[lineIndex] = alignment;
+                markLine(lineIndex, offsetDirty);
+            }
         }
     }
 
@@ -361,13 +391,10 @@ public class Overlay extends BaseAppState {
     public void setBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
-        backgroundColor.set(newColor);
-        if (isInitialized()) {
-            Application application = getApplication();
-            Renderer renderer = application.getRenderer();
-            ColorSpace colorSpace = renderer.isMainFrameBufferSrgb()
-                    ? ColorSpace.sRGB : ColorSpace.Linear;
-            updateBackgroundMaterialColor(colorSpace);
+        if (!newColor.equals(backgroundColor)) {
+            backgroundColor.set(newColor);
+            this.isBackgroundColorDirty = true;
+            this.isDirty = true;
         }
     }
 
@@ -395,10 +422,9 @@ public class Overlay extends BaseAppState {
         Validate.inRange(lineIndex, "line index", 0, numLines - 1);
         Validate.nonNull(color, "color");
 
-        contentColors[lineIndex].set(color);
-        if (isInitialized()) {
-            BitmapText line = contentLines[lineIndex];
-            line.setColor(color.clone());
+        if (!color.equals(contentColors[lineIndex])) {
+            contentColors[lineIndex].set(color);
+            markLine(lineIndex, colorDirty);
         }
     }
 
@@ -412,9 +438,7 @@ public class Overlay extends BaseAppState {
 
         if (newOffset != contentZOffset) {
             this.contentZOffset = newOffset;
-            if (isInitialized()) {
-                updateContentOffsets();
-            }
+            markAllLines(offsetDirty);
         }
     }
 
@@ -429,12 +453,8 @@ public class Overlay extends BaseAppState {
 
         if (newSpacing != lineSpacing) {
             this.lineSpacing = newSpacing;
-            if (isInitialized()) {
-                updateContentOffsets();
-            }
-
-            Mesh backgroundMesh = createBackgroundMesh();
-            background.setMesh(backgroundMesh);
+            markAllLines(offsetDirty);
+            this.isBackgroundMeshDirty = true;
         }
     }
 
@@ -475,12 +495,8 @@ public class Overlay extends BaseAppState {
 
         if (newPadding != padding) {
             this.padding = newPadding;
-            if (isInitialized()) {
-                updateContentOffsets();
-            }
-
-            Mesh backgroundMesh = createBackgroundMesh();
-            background.setMesh(backgroundMesh);
+            markAllLines(offsetDirty);
+            this.isBackgroundMeshDirty = true;
         }
     }
 
@@ -495,14 +511,7 @@ public class Overlay extends BaseAppState {
         Validate.inRange(lineIndex, "line index", 0, numLines - 1);
         Validate.nonNull(text, "text");
 
-        this.contentStrings[lineIndex] = text;
-        if (isInitialized()) {
-            BitmapText line = contentLines[lineIndex];
-            line.setText(text);
-            if (contentAlignments[lineIndex] != BitmapFont.Align.Left) {
-                updateContentOffset(lineIndex);
-            }
-        }
+        setTextOnly(lineIndex, text);
     }
 
     /**
@@ -519,16 +528,11 @@ public class Overlay extends BaseAppState {
         Validate.nonNull(text, "text");
         Validate.nonNull(color, "color");
 
-        this.contentColors[lineIndex].set(color);
-        this.contentStrings[lineIndex] = text;
-        if (isInitialized()) {
-            BitmapText line = contentLines[lineIndex];
-            line.setColor(color.clone());
-            line.setText(text);
-            if (contentAlignments[lineIndex] != BitmapFont.Align.Left) {
-                updateContentOffset(lineIndex);
-            }
+        if (!color.equals(contentColors[lineIndex])) {
+            contentColors[lineIndex].set(color);
+            markLine(lineIndex, colorDirty);
         }
+        setTextOnly(lineIndex, text);
     }
 
     /**
@@ -541,8 +545,8 @@ public class Overlay extends BaseAppState {
 
         if (newWidth != width) {
             this.width = newWidth;
-            Mesh backgroundMesh = createBackgroundMesh();
-            background.setMesh(backgroundMesh);
+            markAllLines(offsetDirty); // for lines that aren't left-aligned
+            this.isBackgroundMeshDirty = true;
         }
     }
 
@@ -658,6 +662,13 @@ public class Overlay extends BaseAppState {
         }
         updateBitmapColors(colorSpace);
         updateContentOffsets();
+
+        // Everything is up to date, except possibly the background mesh.
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            this.lineFlags[lineIndex] = 0;
+        }
+        this.isBackgroundColorDirty = false;
+        this.isDirty = isBackgroundMeshDirty;
     }
 
     /**
@@ -673,15 +684,73 @@ public class Overlay extends BaseAppState {
      */
     @Override
     protected void onEnable() {
+        applyPendingChanges();
         updateLocation();
 
         SimpleApplication simpleApp = (SimpleApplication) getApplication();
         Node guiNode = simpleApp.getGuiNode();
         guiNode.attachChild(node);
     }
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        applyPendingChanges();
+    }
     // *************************************************************************
     // private methods
 
+    /**
+     * Apply all pending changes to the scene graph. Text is applied before
+     * offsets, since offsets may depend on line widths.
+     */
+    private void applyPendingChanges() {
+        if (!isDirty || !isInitialized()) {
+            return;
+        }
+
+        if (isBackgroundMeshDirty) {
+            Mesh backgroundMesh = createBackgroundMesh();
+            background.setMesh(backgroundMesh);
+            this.isBackgroundMeshDirty = false;
+        }
+
+        Application application = getApplication();
+        Renderer renderer = application.getRenderer();
+        ColorSpace colorSpace = renderer.isMainFrameBufferSrgb()
+                ? ColorSpace.sRGB : ColorSpace.Linear;
+        if (isBackgroundColorDirty) {
+            updateBackgroundMaterialColor(colorSpace);
+            this.isBackgroundColorDirty = false;
+        }
+
+        int numLines = countLines();
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            int flags = lineFlags[lineIndex];
+            if (flags != 0) {
+                if ((flags & textDirty) != 0) {
+                    BitmapText line = contentLines[lineIndex];
+                    line.setText(contentStrings[lineIndex]);
+                }
+                if ((flags & colorDirty) != 0) {
+                    updateBitmapColor(lineIndex, colorSpace);
+                }
+                if ((flags & offsetDirty) != 0) {
+                    updateContentOffset(lineIndex);
+                }
+                this.lineFlags[lineIndex] = 0;
+            }
+        }
+
+        this.isDirty = false;
+    }
+
     /**
      * Create a new background mesh after a change to lineSpacing, padding, or
      * width.
@@ -700,6 +769,47 @@ public class Overlay extends BaseAppState {
         return result;
     }
 
+    /**
+     * Record a pending change to every content line.
+     *
+     * @param flag which dirty flag to set
+     */
+    private void markAllLines(int flag) {
+        int numLines = countLines();
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            lineFlags[lineIndex] |= flag;
+        }
+        this.isDirty = true;
+    }
+
+    /**
+     * Record a pending change to the indexed content line.
+     *
+     * @param lineIndex which line (&ge;0, &lt;numLines)
+     * @param flag which dirty flag to set
+     */
+    private void markLine(int lineIndex, int flag) {
+        lineFlags[lineIndex] |= flag;
+        this.isDirty = true;
+    }
+
+    /**
+     * Alter the text of the indexed content line, unless it's unchanged.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;numLines)
+     * @param text the desired text (not null)
+     */
+    private void setTextOnly(int lineIndex, String text) {
+        if (!text.equals(contentStrings[lineIndex])) {
+            this.contentStrings[lineIndex] = text;
+            int flags = textDirty;
+            if (contentAlignments[lineIndex] != BitmapFont.Align.Left) {
+                flags |= offsetDirty;
+            }
+            markLine(lineIndex, flags);
+        }
+    }
+
     /**
      * Adjust the "Color" parameter of the background material for the specified
      * ColorSpace.
@@ -0,0 +1,679 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * Key-sequence bindings of an InputMode, compiled into a trie, along with the
+ * state of the recognizer that walks it.
+ * <p>
+ * Trie edges are kept in an open-addressing hash table keyed by (node,
+ * universal code, long-press flag), so each hotkey event advances the
+ * recognizer in constant time. Timeouts (between strokes, for long presses,
+ * and for a sequence that's also the prefix of a longer one) are kept in a
+ * TimingWheel, which is advanced once per frame. Time is read from the input
+ * clock of the mode stack, which accumulates the time per frame, so a
+ * JournalReplay reproduces the recorded timing.
+ * <p>
+ * Strokes consumed by an attempt are buffered. If the attempt is abandoned
+ * (because a stroke timed out or didn't match) the buffered strokes are
+ * dispatched to the mode's other bindings, so a sequence never disables the
+ * plain bindings of its hotkeys.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class SequenceTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * index of the root node of the trie
+     */
+    final private static int rootNode = 0;
+    /**
+     * index of the timer for a sequence that's also a prefix
+     */
+    final private static int timerAmbiguous = 0;
+    /**
+     * index of the timer for a long press
+     */
+    final private static int timerLong = 1;
+    /**
+     * index of the timer between strokes
+     */
+    final private static int timerStroke = 2;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SequenceTable.class.getName());
+    /**
+     * prefix for sequence keys in a bindings configuration
+     */
+    final private static String keyPrefix = "sequence ";
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if each universal code appears in some sequence, indexed by code
+     */
+    private boolean[] isUsed = new boolean[0];
+    /**
+     * true if the press of each hotkey was consumed, so that its release
+     * should also be consumed, indexed by universal code
+     */
+    private boolean[] isConsumed = new boolean[0];
+    /**
+     * true if the indexed pending stroke has been released
+     */
+    private boolean[] isReleased = new boolean[4];
+    /**
+     * true if each node has at least one child, indexed by node
+     */
+    private boolean[] hasChildren = new boolean[1];
+    /**
+     * true if the trie needs to be recompiled
+     */
+    private boolean isDirty = false;
+    /**
+     * universal code of the hotkey being held to decide between a tap and a
+     * long press, or -1 if none
+     */
+    private int heldCode = -1;
+    /**
+     * current node of the recognizer
+     */
+    private int node = rootNode;
+    /**
+     * number of strokes consumed by the current attempt
+     */
+    private int numPending = 0;
+    /**
+     * universal codes of the strokes consumed by the current attempt, in the
+     * order they were pressed
+     */
+    private int[] pendingCodes = new int[4];
+    /**
+     * target node of each edge, or -1 for an empty slot, indexed by slot
+     */
+    private int[] edgeTargets = new int[0];
+    /**
+     * key of each edge, indexed by slot
+     */
+    private long[] edgeKeys = new long[0];
+    /**
+     * interval allowed between strokes (in nanoseconds, &gt;0)
+     */
+    private long strokeNanos = 500_000_000L;
+    /**
+     * duration of a long press (in nanoseconds, &gt;0)
+     */
+    private long longNanos = 500_000_000L;
+    /**
+     * map bound sequences to action names, in binding order
+     */
+    final private Map<KeySequence, String> bindings = new LinkedHashMap<>(16);
+    /**
+     * name of the action completed at each node, or null if none, indexed by
+     * node
+     */
+    private String[] nodeActions = new String[1];
+    /**
+     * ID of the action completed at each node, or -1 if none, indexed by node
+     */
+    private int[] nodeIds = {-1};
+    /**
+     * pending timeouts
+     */
+    final private TimingWheel wheel
+            = new TimingWheel(3, 128, 10_000_000L);
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the specified sequence to the named action, replacing any existing
+     * binding for the sequence.
+     *
+     * @param sequence the sequence to bind (not null)
+     * @param actionName the name of the action (not null)
+     */
+    void bind(KeySequence sequence, String actionName) {
+        assert sequence != null;
+        assert actionName != null;
+
+        bindings.put(sequence, actionName);
+        this.isDirty = true;
+    }
+
+    /**
+     * Test whether the specified hotkey appears in any bound sequence.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @return true if it appears, otherwise false
+     */
+    boolean binds(int universalCode) {
+        compileIfDirty();
+        boolean result = universalCode < isUsed.length && isUsed[universalCode];
+
+        return result;
+    }
+
+    /**
+     * Check whether the actions of all bound sequences have registered
+     * handlers.
+     *
+     * @param mode the mode that bound the sequences (not null, initialized)
+     */
+    void checkHandlers(InputMode mode) {
+        ActionApplication application = mode.getActionApplication();
+        for (String actionName : bindings.values()) {
+            application.checkHandler(mode, actionName);
+        }
+    }
+
+    /**
+     * Unbind all sequences and reset the recognizer.
+     */
+    void clear() {
+        bindings.clear();
+        this.isDirty = true;
+        reset();
+    }
+
+    /**
+     * Enumerate the universal codes that appear in any bound sequence.
+     *
+     * @return a new list of codes
+     */
+    List<Integer> listCodes() {
+        compileIfDirty();
+
+        List<Integer> result = new ArrayList<>(16);
+        for (int code = 0; code < isUsed.length; ++code) {
+            if (isUsed[code]) {
+                result.add(code);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Enumerate the sequences bound to the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @return a new collection
+     */
+    Collection<KeySequence> listSequences(String actionName) {
+        Collection<KeySequence> result = new ArrayList<>(2);
+        for (Map.Entry<KeySequence, String> entry : bindings.entrySet()) {
+            if (entry.getValue().equals(actionName)) {
+                result.add(entry.getKey());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Replace this table's bindings with the sequence bindings in the
+     * specified configuration, removing them from it. Invalid entries are
+     * skipped.
+     *
+     * @param properties the loaded configuration (not null, modified)
+     * @param mode the InputMode that owns this table (not null)
+     */
+    void load(Properties properties, InputMode mode) {
+        clear();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(keyPrefix)) {
+                continue;
+            }
+
+            String actionName = (String) properties.remove(key);
+            String text = MyString.remainder(key, keyPrefix);
+            KeySequence sequence = KeySequence.parse(text);
+            if (sequence == null) {
+                logger.log(Level.WARNING, "Skipped unknown sequence {0}",
+                        MyString.quote(text));
+                continue;
+            }
+            try {
+                mode.bind(actionName, sequence);
+            } catch (IllegalArgumentException exception) {
+                logger.log(Level.WARNING, "Skipped invalid entry {0}={1}",
+                        new Object[]{
+                            MyString.quote(key), MyString.quote(actionName)
+                        });
+            }
+        }
+    }
+
+    /**
+     * Process an event from a hotkey of the InputMode that owns this table.
+     *
+     * @param code the universal code of the hotkey (&ge;0)
+     * @param ongoing true if the hotkey was pressed, false if released
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @param mode the InputMode that owns this table (not null)
+     * @return true if the event was consumed, otherwise false
+     */
+    boolean onHotkey(int code, boolean ongoing, float tpf, InputMode mode) {
+        if (node == rootNode && heldCode < 0 && !binds(code)) {
+            return false; // the common case
+        }
+        long now = InputMode.stack.clockNanos();
+        update(now, tpf, mode);
+
+        if (!ongoing) {
+            boolean result = code < isConsumed.length && isConsumed[code];
+            if (result) {
+                isConsumed[code] = false;
+                markReleased(code);
+            }
+            if (code == heldCode) { // released before becoming a long press
+                wheel.cancel(timerLong);
+                this.heldCode = -1;
+                advance(edge(node, code, false), now, tpf, mode);
+            }
+            return result;
+        }
+
+        if (heldCode >= 0) { // another hotkey interrupted a press
+            wheel.cancel(timerLong);
+            int held = heldCode;
+            this.heldCode = -1;
+            advance(edge(node, held, false), now, tpf, mode);
+        }
+
+        int tapChild = edge(node, code, false);
+        int longChild = edge(node, code, true);
+        if (tapChild < 0 && longChild < 0 && node != rootNode) {
+            // The sequence was broken: complete any prefix and start over.
+            fireAmbiguous(tpf, mode);
+            tapChild = edge(rootNode, code, false);
+            longChild = edge(rootNode, code, true);
+        }
+        if (tapChild < 0 && longChild < 0) {
+            return false;
+        }
+
+        isConsumed[code] = true;
+        addPending(code);
+        wheel.cancel(timerAmbiguous);
+        wheel.cancel(timerStroke);
+        if (longChild >= 0) { // Wait for the release or the long-press time.
+            this.heldCode = code;
+            wheel.schedule(timerLong, now + longNanos);
+        } else {
+            advance(tapChild, now, tpf, mode);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reset the recognizer to the root of the trie, for instance when the
+     * InputMode gets unmapped.
+     */
+    void reset() {
+        wheel.cancelAll();
+        this.heldCode = -1;
+        this.node = rootNode;
+        this.numPending = 0;
+        Arrays.fill(isConsumed, false);
+    }
+
+    /**
+     * Alter the timing of strokes.
+     *
+     * @param strokeSeconds the interval allowed between strokes (in seconds,
+     * &gt;0)
+     * @param longSeconds the duration of a long press (in seconds, &gt;0)
+     */
+    void setTiming(float strokeSeconds, float longSeconds) {
+        assert strokeSeconds > 0f : strokeSeconds;
+        assert longSeconds > 0f : longSeconds;
+
+        this.strokeNanos = (long) (1e9 * strokeSeconds);
+        this.longNanos = (long) (1e9 * longSeconds);
+    }
+
+    /**
+     * Write the bindings to the specified configuration.
+     *
+     * @param properties the configuration to modify (not null)
+     */
+    void store(Properties properties) {
+        for (Map.Entry<KeySequence, String> entry : bindings.entrySet()) {
+            String key = keyPrefix + entry.getKey().toString();
+            properties.setProperty(key, entry.getValue());
+        }
+    }
+
+    /**
+     * Unbind the specified sequence, if it's bound.
+     *
+     * @param sequence the sequence to unbind (not null)
+     * @return the name of the action it was bound to, or null if none
+     */
+    String unbind(KeySequence sequence) {
+        String result = bindings.remove(sequence);
+        if (result != null) {
+            this.isDirty = true;
+            reset();
+        }
+
+        return result;
+    }
+
+    /**
+     * Process any timeouts that have expired. Invoked once per frame.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @param mode the InputMode that owns this table (not null)
+     */
+    void update(float tpf, InputMode mode) {
+        if (node != rootNode || heldCode >= 0) {
+            update(InputMode.stack.clockNanos(), tpf, mode);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Abandon the current attempt: return to the root and dispatch the
+     * strokes it consumed to the mode's other bindings, in order. A stroke
+     * that's still held is pressed but not released, and its release won't
+     * be consumed.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @param mode the InputMode that owns this table (not null)
+     */
+    private void abandon(float tpf, InputMode mode) {
+        this.node = rootNode;
+        int numStrokes = numPending;
+        this.numPending = 0;
+
+        for (int strokeI = 0; strokeI < numStrokes; ++strokeI) {
+            int code = pendingCodes[strokeI];
+            InputMode.stack.redispatch(mode, code, true, tpf);
+            if (isReleased[strokeI]) {
+                InputMode.stack.redispatch(mode, code, false, tpf);
+            } else {
+                isConsumed[code] = false;
+            }
+        }
+    }
+
+    /**
+     * Add an edge to the trie during compilation.
+     *
+     * @param key the key of the edge
+     * @param target the index of the target node (&gt;0)
+     */
+    private void addEdge(long key, int target) {
+        int mask = edgeKeys.length - 1;
+        int slot = hashSlot(key, mask);
+        while (edgeTargets[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        edgeKeys[slot] = key;
+        edgeTargets[slot] = target;
+    }
+
+    /**
+     * Buffer a stroke consumed by the current attempt.
+     *
+     * @param code the universal code of the hotkey pressed (&ge;0)
+     */
+    private void addPending(int code) {
+        if (numPending == pendingCodes.length) {
+            int newLength = 2 * numPending;
+            this.isReleased = Arrays.copyOf(isReleased, newLength);
+            this.pendingCodes = Arrays.copyOf(pendingCodes, newLength);
+        }
+        isReleased[numPending] = false;
+        pendingCodes[numPending] = code;
+        ++numPending;
+    }
+
+    /**
+     * Advance the recognizer to the specified node after a stroke.
+     *
+     * @param child the index of the node, or -1 if the stroke didn't match
+     * @param now the current time (in nanoseconds)
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @param mode the InputMode that owns this table (not null)
+     */
+    private void advance(int child, long now, float tpf, InputMode mode) {
+        if (child < 0) {
+            abandon(tpf, mode);
+            return;
+        }
+
+        this.node = child;
+        String actionName = nodeActions[child];
+        if (actionName == null) {
+            wheel.schedule(timerStroke, now + strokeNanos);
+        } else if (hasChildren[child]) {
+            // Complete the sequence unless a longer one continues in time.
+            wheel.schedule(timerAmbiguous, now + strokeNanos);
+        } else {
+            this.node = rootNode;
+            this.numPending = 0;
+            InputMode.stack.deliver(
+                    mode, nodeIds[child], actionName, true, tpf);
+        }
+    }
+
+    /**
+     * Compile the trie, if the bindings have changed since it was compiled.
+     */
+    private void compileIfDirty() {
+        if (!isDirty) {
+            return;
+        }
+        this.isDirty = false;
+        reset();
+
+        int numEdges = 0;
+        int maxCode = -1;
+        for (KeySequence sequence : bindings.keySet()) {
+            int numStrokes = sequence.countStrokes();
+            numEdges += numStrokes;
+            for (int strokeI = 0; strokeI < numStrokes; ++strokeI) {
+                maxCode = Math.max(maxCode, sequence.hotkey(strokeI).code());
+            }
+        }
+
+        int numSlots = Integer.highestOneBit(2 * numEdges + 1) << 1;
+        this.edgeKeys = new long[numSlots];
+        this.edgeTargets = new int[numSlots];
+        Arrays.fill(edgeTargets, -1);
+        this.isUsed = new boolean[maxCode + 1];
+        this.isConsumed = new boolean[maxCode + 1];
+        this.hasChildren = new boolean[numEdges + 1];
+        this.nodeActions = new String[numEdges + 1];
+        this.nodeIds = new int[numEdges + 1];
+        Arrays.fill(nodeIds, -1);
+
+        int numNodes = 1; // the root
+        for (Map.Entry<KeySequence, String> entry : bindings.entrySet()) {
+            KeySequence sequence = entry.getKey();
+            int current = rootNode;
+            int numStrokes = sequence.countStrokes();
+            for (int strokeI = 0; strokeI < numStrokes; ++strokeI) {
+                int code = sequence.hotkey(strokeI).code();
+                boolean isLong = sequence.isLongPress(strokeI);
+                isUsed[code] = true;
+
+                int next = edge(current, code, isLong);
+                if (next < 0) {
+                    next = numNodes;
+                    ++numNodes;
+                    addEdge(edgeKey(current, code, isLong), next);
+                    hasChildren[current] = true;
+                }
+                current = next;
+            }
+            String actionName = entry.getValue();
+            nodeActions[current] = actionName;
+            if (!actionName.isEmpty()) {
+                nodeIds[current] = ActionRegistry.register(actionName);
+            }
+        }
+    }
+
+    /**
+     * Find the child reached from the specified node by the specified stroke.
+     * Doesn't allocate any objects.
+     *
+     * @param fromNode the index of the parent node (&ge;0)
+     * @param code the universal code of the hotkey (&ge;0)
+     * @param isLong true for a long press, false for a tap
+     * @return the index of the child node, or -1 if none
+     */
+    private int edge(int fromNode, int code, boolean isLong) {
+        int mask = edgeKeys.length - 1;
+        if (mask < 0) {
+            return -1;
+        }
+
+        long key = edgeKey(fromNode, code, isLong);
+        int slot = hashSlot(key, mask);
+        while (edgeTargets[slot] >= 0) {
+            if (edgeKeys[slot] == key) {
+                return edgeTargets[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Generate the hash-table key for an edge.
+     *
+     * @param fromNode the index of the parent node (&ge;0)
+     * @param code the universal code of the hotkey (&ge;0)
+     * @param isLong true for a long press, false for a tap
+     * @return the key
+     */
+    private static long edgeKey(int fromNode, int code, boolean isLong) {
+        long result = ((long) fromNode << 32) | ((long) code << 1);
+        if (isLong) {
+            result |= 1L;
+        }
+
+        return result;
+    }
+
+    /**
+     * If the recognizer is at a node that completes a sequence, complete it,
+     * otherwise abandon the attempt. Either way, return to the root.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @param mode the InputMode that owns this table (not null)
+     */
+    private void fireAmbiguous(float tpf, InputMode mode) {
+        String actionName = nodeActions[node];
+        int actionId = nodeIds[node];
+        wheel.cancel(timerAmbiguous);
+        wheel.cancel(timerStroke);
+
+        if (actionName == null) {
+            abandon(tpf, mode);
+        } else {
+            this.node = rootNode;
+            this.numPending = 0;
+            InputMode.stack.deliver(mode, actionId, actionName, true, tpf);
+        }
+    }
+
+    /**
+     * Determine the initial hash-table slot for the specified key.
+     *
+     * @param key the key of an edge
+     * @param mask the number of slots minus one
+     * @return the slot index
+     */
+    private static int hashSlot(long key, int mask) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        int result = (int) (mixed >>> 32) & mask;
+
+        return result;
+    }
+
+    /**
+     * Note the release of a buffered stroke.
+     *
+     * @param code the universal code of the hotkey released (&ge;0)
+     */
+    private void markReleased(int code) {
+        for (int strokeI = 0; strokeI < numPending; ++strokeI) {
+            if (pendingCodes[strokeI] == code && !isReleased[strokeI]) {
+                isReleased[strokeI] = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Process any timeouts that have expired by the specified time.
+     *
+     * @param now the current time (in nanoseconds)
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     * @param mode the InputMode that owns this table (not null)
+     */
+    private void update(long now, float tpf, InputMode mode) {
+        int expired = wheel.advance(now);
+        if ((expired & (1 << timerLong)) != 0 && heldCode >= 0) {
+            int held = heldCode;
+            this.heldCode = -1;
+            advance(edge(node, held, true), now, tpf, mode);
+        }
+        if ((expired & (1 << timerAmbiguous)) != 0) {
+            fireAmbiguous(tpf, mode);
+        }
+        if ((expired & (1 << timerStroke)) != 0) {
+            abandon(tpf, mode);
+        }
+    }
+}
@@ -28,7 +28,20 @@
  */
 package jme3utilities.ui;
 
+import com.jme3.input.InputManager;
+import com.jme3.input.RawInputListener;
 import com.jme3.input.controls.ActionListener;
+import com.jme3.input.event.JoyAxisEvent;
+import com.jme3.input.event.JoyButtonEvent;
+import com.jme3.input.event.KeyInputEvent;
+import com.jme3.input.event.MouseButtonEvent;
+import com.jme3.input.event.MouseMotionEvent;
+import com.jme3.input.event.TouchEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
@@ -37,6 +50,18 @@ import jme3utilities.Validate;
 
 /**
  * A SignalTracker to handle actions that start with the "signal " prefix.
+ * <p>
+ * Each signal name is registered once and assigned a dense integer ID, shared
+ * by all trackers. The status of each signal is kept in primitive bitsets
+ * (one per source) so that tests don't involve any string handling. The
+ * name-based methods inherited from SignalTracker remain available.
+ * <p>
+ * Each transition is also timestamped, both for the signal as a whole and for
+ * each source, and tagged with the number of the frame in which it occurred.
+ * This allows app states to query how long a signal has been held and whether
+ * it was pressed or released during the current frame, without polling names
+ * or integrating tpf themselves. Alternatively, an app state can subscribe to
+ * a set of signals and be notified only when they change.
  *
  * @author Stephen Gold sgold@sonic.net
  */
@@ -46,12 +71,94 @@ public class Signals
     // *************************************************************************
     // constants and loggers
 
+    /**
+     * number of bits in a bitset word
+     */
+    final private static int bitsPerWord = Long.SIZE;
     /**
      * message logger for this class
      */
     final private static Logger logger2
             = Logger.getLogger(Signals.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * number of sources holding each signal active, indexed by signal ID
+     */
+    private int[] activeCounts = new int[bitsPerWord];
+    /**
+     * number of the current frame (&ge;1), incremented when the InputManager
+     * begins processing input
+     */
+    private int frameNumber = 1;
+    /**
+     * number of the frame of the most recent press of each signal, or 0 if
+     * never pressed, indexed by signal ID
+     */
+    private int[] pressFrames = new int[bitsPerWord];
+    /**
+     * number of times each signal has become active, indexed by signal ID
+     */
+    private int[] pressCounts = new int[bitsPerWord];
+    /**
+     * number of the frame of the most recent release of each signal, or 0 if
+     * never released, indexed by signal ID
+     */
+    private int[] releaseFrames = new int[bitsPerWord];
+    /**
+     * number of times each signal has become inactive, indexed by signal ID
+     */
+    private int[] releaseCounts = new int[bitsPerWord];
+    /**
+     * names of all registered signals, indexed by signal ID
+     */
+    final private static List<String> registeredNames = new ArrayList<>(64);
+    /**
+     * bitset of signals held active by any source
+     */
+    private long[] activeBits = new long[1];
+    /**
+     * bitset of signals added to this tracker
+     */
+    private long[] addedBits = new long[1];
+    /**
+     * bitsets of signals held active by each source, indexed by source index
+     * (elements may be null)
+     */
+    private long[][] sourceBits = new long[0][];
+    /**
+     * time of the most recent press of each signal (in nanoseconds), indexed
+     * by signal ID
+     */
+    private long[] pressNanos = new long[bitsPerWord];
+    /**
+     * time of the most recent release of each signal (in nanoseconds),
+     * indexed by signal ID
+     */
+    private long[] releaseNanos = new long[bitsPerWord];
+    /**
+     * time of the most recent press of each signal by each source (in
+     * nanoseconds), indexed by source index and then signal ID (elements may
+     * be null)
+     */
+    private long[][] sourcePressNanos = new long[0][];
+    /**
+     * listeners subscribed to each signal, indexed by signal ID (elements may
+     * be null, replaced on change so notification can iterate safely)
+     */
+    private SignalListener[][] subscribers = new SignalListener[0][];
+    /**
+     * map registered signal names to IDs
+     */
+    final private static Map<String, Integer> registeredIds
+            = new HashMap<>(64);
+    /**
+     * map signal action strings to parsed arguments: the signal ID in the
+     * upper 32 bits and the source index in the lower 32 bits
+     */
+    final private Map<String, Long> parsedActions = new HashMap<>(64);
+    // *************************************************************************
     // constructors
 
     /**
@@ -61,6 +168,386 @@ public class Signals
         // do nothing
     }
     // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the specified word of the bitset of active signals. Doesn't
+     * allocate any objects.
+     *
+     * @param wordIndex the index of the word (&ge;0, &lt;countWords())
+     * @return the word (bit N represents signal ID 64*wordIndex+N)
+     */
+    long activeWord(int wordIndex) {
+        long result = activeBits[wordIndex];
+        return result;
+    }
+
+    /**
+     * Count how many times the identified signal has become active (from any
+     * source) since it was added.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return the count (&ge;0)
+     */
+    public int countPresses(int signalId) {
+        int result = (signalId < pressCounts.length)
+                ? pressCounts[signalId] : 0;
+        return result;
+    }
+
+    /**
+     * Count how many times the identified signal has become inactive (from
+     * all sources) since it was added.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return the count (&ge;0)
+     */
+    public int countReleases(int signalId) {
+        int result = (signalId < releaseCounts.length)
+                ? releaseCounts[signalId] : 0;
+        return result;
+    }
+
+    /**
+     * Count the words in the bitset of active signals.
+     *
+     * @return the count (&gt;0)
+     */
+    int countWords() {
+        int result = activeBits.length;
+        return result;
+    }
+
+    /**
+     * Look up the ID of the named signal.
+     *
+     * @param signalName the name of the signal (not null)
+     * @return the ID (&ge;0) or -1 if the name has never been registered
+     */
+    public static int findId(String signalName) {
+        Validate.nonNull(signalName, "signal name");
+
+        Integer id = registeredIds.get(signalName);
+        if (id == null) {
+            return -1;
+        } else {
+            return id;
+        }
+    }
+
+    /**
+     * Determine how long the identified signal has been continuously active
+     * from any source. Doesn't allocate any objects.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return the duration (in seconds, &ge;0) or 0 if inactive
+     */
+    public float heldSeconds(int signalId) {
+        if (!testBit(activeBits, signalId)) {
+            return 0f;
+        }
+
+        long elapsedNanos = System.nanoTime() - pressNanos[signalId];
+        float result = 1e-9f * elapsedNanos;
+
+        return result;
+    }
+
+    /**
+     * Determine how long the identified signal has been continuously active
+     * from the specified source. Doesn't allocate any objects.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @param sourceIndex the index of the source (&ge;0)
+     * @return the duration (in seconds, &ge;0) or 0 if inactive
+     */
+    public float heldSeconds(int signalId, int sourceIndex) {
+        if (sourceIndex >= sourceBits.length
+                || sourceBits[sourceIndex] == null
+                || !testBit(sourceBits[sourceIndex], signalId)) {
+            return 0f;
+        }
+
+        long pressTime = sourcePressNanos[sourceIndex][signalId];
+        float result = 1e-9f * (System.nanoTime() - pressTime);
+
+        return result;
+    }
+
+    /**
+     * Start counting frames. Invoked once, during application initialization.
+     *
+     * @param inputManager the application's InputManager (not null)
+     */
+    void initialize(InputManager inputManager) {
+        inputManager.addRawInputListener(new FrameListener());
+    }
+
+    /**
+     * Return the time of the most recent press of the identified signal.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return the {@code System.nanoTime()} value, or 0 if never pressed
+     */
+    public long lastPressNanos(int signalId) {
+        long result = (signalId < pressNanos.length)
+                ? pressNanos[signalId] : 0L;
+        return result;
+    }
+
+    /**
+     * Return the time of the most recent release of the identified signal.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return the {@code System.nanoTime()} value, or 0 if never released
+     */
+    public long lastReleaseNanos(int signalId) {
+        long result = (signalId < releaseNanos.length)
+                ? releaseNanos[signalId] : 0L;
+        return result;
+    }
+
+    /**
+     * Return the name of the identified signal.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return the name (not null)
+     */
+    public static String nameOf(int signalId) {
+        Validate.inRange(signalId, "signal ID", 0, countRegistered() - 1);
+        String result = registeredNames.get(signalId);
+        return result;
+    }
+
+    /**
+     * Test whether the identified signal became active during the current
+     * frame. It might have become inactive again since then. Doesn't allocate
+     * any objects.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return true if pressed this frame, otherwise false
+     */
+    public boolean pressedThisFrame(int signalId) {
+        boolean result = signalId < pressFrames.length
+                && pressFrames[signalId] == frameNumber;
+        return result;
+    }
+
+    /**
+     * Look up the ID of the named signal, registering the name if it hasn't
+     * been registered yet. Registering doesn't add the signal to any tracker.
+     *
+     * @param signalName the name of the signal (not null)
+     * @return the ID (&ge;0)
+     */
+    public static int register(String signalName) {
+        Validate.nonNull(signalName, "signal name");
+
+        Integer id = registeredIds.get(signalName);
+        if (id == null) {
+            id = registeredNames.size();
+            registeredNames.add(signalName);
+            registeredIds.put(signalName, id);
+        }
+
+        return id;
+    }
+
+    /**
+     * Test whether the identified signal became inactive during the current
+     * frame. It might have become active again since then. Doesn't allocate
+     * any objects.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return true if released this frame, otherwise false
+     */
+    public boolean releasedThisFrame(int signalId) {
+        boolean result = signalId < releaseFrames.length
+                && releaseFrames[signalId] == frameNumber;
+        return result;
+    }
+
+    /**
+     * Update the status of the identified signal for the specified source.
+     * Doesn't allocate any objects unless a new source index is encountered.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @param sourceIndex the index of the source (&ge;0)
+     * @param newState true&rarr;active, false&rarr;inactive
+     */
+    public void setActive(int signalId, int sourceIndex, boolean newState) {
+        Validate.inRange(signalId, "signal ID", 0, countRegistered() - 1);
+        Validate.nonNegative(sourceIndex, "source index");
+
+        if (!testBit(addedBits, signalId)) {
+            logger2.log(Level.WARNING,
+                    "Ignored operation on unknown signal {0}.",
+                    MyString.quote(registeredNames.get(signalId)));
+            return;
+        }
+
+        if (sourceIndex >= sourceBits.length) {
+            int numSources = sourceIndex + 1;
+            long[][] newBits = new long[numSources][];
+            System.arraycopy(sourceBits, 0, newBits, 0, sourceBits.length);
+            this.sourceBits = newBits;
+
+            long[][] newNanos = new long[numSources][];
+            System.arraycopy(sourcePressNanos, 0, newNanos, 0,
+                    sourcePressNanos.length);
+            this.sourcePressNanos = newNanos;
+        }
+        long[] bits = sourceBits[sourceIndex];
+        if (bits == null) {
+            bits = new long[addedBits.length];
+            sourceBits[sourceIndex] = bits;
+            sourcePressNanos[sourceIndex] = new long[activeCounts.length];
+        }
+
+        boolean oldState = testBit(bits, signalId);
+        if (oldState == newState) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        int wordIndex = signalId / bitsPerWord;
+        long mask = 1L << signalId; // shift distance is taken modulo 64
+        if (newState) {
+            bits[wordIndex] |= mask;
+            sourcePressNanos[sourceIndex][signalId] = now;
+            int count = ++activeCounts[signalId];
+            if (count == 1) {
+                activeBits[wordIndex] |= mask;
+                pressNanos[signalId] = now;
+                pressFrames[signalId] = frameNumber;
+                ++pressCounts[signalId];
+                notifySubscribers(signalId, true);
+            }
+        } else {
+            bits[wordIndex] &= ~mask;
+            int count = --activeCounts[signalId];
+            assert count >= 0 : count;
+            if (count == 0) {
+                activeBits[wordIndex] &= ~mask;
+                releaseNanos[signalId] = now;
+                releaseFrames[signalId] = frameNumber;
+                ++releaseCounts[signalId];
+                notifySubscribers(signalId, false);
+            }
+        }
+    }
+
+    /**
+     * Subscribe the specified listener to transitions of the identified
+     * signals. The signals needn't have been added yet.
+     *
+     * @param listener the listener to notify (not null, alias created)
+     * @param signalIds the IDs of the signals of interest (not null, each
+     * &ge;0)
+     */
+    public void subscribe(SignalListener listener, int... signalIds) {
+        Validate.nonNull(listener, "listener");
+        Validate.nonNull(signalIds, "signal IDs");
+
+        for (int signalId : signalIds) {
+            Validate.inRange(signalId, "signal ID", 0, countRegistered() - 1);
+            if (signalId >= subscribers.length) {
+                this.subscribers = Arrays.copyOf(subscribers, signalId + 1);
+            }
+
+            SignalListener[] oldArray = subscribers[signalId];
+            if (oldArray == null) {
+                subscribers[signalId] = new SignalListener[]{listener};
+            } else {
+                int length = oldArray.length;
+                SignalListener[] newArray
+                        = Arrays.copyOf(oldArray, length + 1);
+                newArray[length] = listener;
+                subscribers[signalId] = newArray;
+            }
+        }
+    }
+
+    /**
+     * Test whether the identified signal is active from any source. Doesn't
+     * allocate any objects.
+     *
+     * @param signalId the ID of the signal (&ge;0)
+     * @return true if active, otherwise false
+     */
+    public boolean test(int signalId) {
+        boolean result = testBit(activeBits, signalId);
+        return result;
+    }
+
+    /**
+     * Test a pair of signal masks stored in a range of words: every required
+     * signal must be active and every prohibited signal must be inactive.
+     * Doesn't allocate any objects.
+     *
+     * @param onMasks storage for bitsets of required signal IDs (not null,
+     * unaffected)
+     * @param offMasks storage for bitsets of prohibited signal IDs (not null,
+     * same length as onMasks, unaffected)
+     * @param startIndex the index of the first word of the pair (&ge;0)
+     * @param numWords the number of words in each mask (&ge;0)
+     * @return true if both conditions are satisfied, otherwise false
+     */
+    boolean testMasks(
+            long[] onMasks, long[] offMasks, int startIndex, int numWords) {
+        assert onMasks.length == offMasks.length;
+        assert startIndex + numWords <= onMasks.length;
+
+        int numActiveWords = activeBits.length;
+        for (int wordIndex = 0; wordIndex < numWords; ++wordIndex) {
+            long active = (wordIndex < numActiveWords)
+                    ? activeBits[wordIndex] : 0L;
+            int maskIndex = startIndex + wordIndex;
+            long required = onMasks[maskIndex];
+            if ((active & required) != required
+                    || (active & offMasks[maskIndex]) != 0L) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Unsubscribe the specified listener from transitions of the identified
+     * signals.
+     *
+     * @param listener the listener to unsubscribe (not null)
+     * @param signalIds the IDs of the signals (not null)
+     */
+    public void unsubscribe(SignalListener listener, int... signalIds) {
+        Validate.nonNull(listener, "listener");
+        Validate.nonNull(signalIds, "signal IDs");
+
+        for (int signalId : signalIds) {
+            if (signalId < 0 || signalId >= subscribers.length
+                    || subscribers[signalId] == null) {
+                continue;
+            }
+
+            SignalListener[] oldArray = subscribers[signalId];
+            int length = oldArray.length;
+            for (int index = 0; index < length; ++index) {
+                if (oldArray[index] == listener) {
+                    SignalListener[] newArray = null;
+                    if (length > 1) {
+                        newArray = new SignalListener[length - 1];
+                        System.arraycopy(oldArray, 0, newArray, 0, index);
+                        System.arraycopy(oldArray, index + 1, newArray,
+                                index, length - index - 1);
+                    }
+                    subscribers[signalId] = newArray;
+                    break;
+                }
+            }
+        }
+    }
+    // *************************************************************************
     // ActionListener methods
 
     /**
@@ -78,7 +565,169 @@ public class Signals
         }
         Validate.nonNull(actionString, "action string");
 
-        // Parse the action string.
+        // Each distinct action string is parsed only once.
+        Long parsed = parsedActions.get(actionString);
+        if (parsed == null) {
+            parsed = parseAction(actionString);
+            parsedActions.put(actionString, parsed);
+        }
+
+        long args = parsed;
+        int signalId = (int) (args >>> 32);
+        int sourceIndex = (int) args;
+        setActive(signalId, sourceIndex, isOngoing);
+    }
+    // *************************************************************************
+    // SignalTracker methods
+
+    /**
+     * Add a signal to this tracker, registering its name if necessary. If the
+     * signal was already added, its status is left unchanged.
+     *
+     * @param name the name of the signal (not null)
+     */
+    @Override
+    public void add(String name) {
+        int signalId = register(name);
+        if (testBit(addedBits, signalId)) {
+            return;
+        }
+
+        int wordIndex = signalId / bitsPerWord;
+        if (wordIndex >= addedBits.length) {
+            int numWords = wordIndex + 1;
+            this.activeBits = grow(activeBits, numWords);
+            this.addedBits = grow(addedBits, numWords);
+            int numSignals = numWords * bitsPerWord;
+            for (int i = 0; i < sourceBits.length; ++i) {
+                if (sourceBits[i] != null) {
+                    sourceBits[i] = grow(sourceBits[i], numWords);
+                    sourcePressNanos[i]
+                            = grow(sourcePressNanos[i], numSignals);
+                }
+            }
+            this.activeCounts = grow(activeCounts, numSignals);
+            this.pressCounts = grow(pressCounts, numSignals);
+            this.pressFrames = grow(pressFrames, numSignals);
+            this.pressNanos = grow(pressNanos, numSignals);
+            this.releaseCounts = grow(releaseCounts, numSignals);
+            this.releaseFrames = grow(releaseFrames, numSignals);
+            this.releaseNanos = grow(releaseNanos, numSignals);
+        }
+        addedBits[wordIndex] |= 1L << signalId;
+    }
+
+    /**
+     * Update the status of the named signal for the specified source.
+     *
+     * @param name the name of the signal (not null)
+     * @param sourceIndex the index of the source (&ge;0)
+     * @param newState true&rarr;active, false&rarr;inactive
+     */
+    @Override
+    public void setActive(String name, int sourceIndex, boolean newState) {
+        int signalId = findId(name);
+        if (signalId < 0) {
+            logger2.log(Level.WARNING,
+                    "Ignored operation on unknown signal {0}.",
+                    MyString.quote(name));
+        } else {
+            setActive(signalId, sourceIndex, newState);
+        }
+    }
+
+    /**
+     * Test whether the named signal is active from any source.
+     *
+     * @param name the name of the signal (not null)
+     * @return true if active, otherwise false
+     */
+    @Override
+    public boolean test(String name) {
+        int signalId = findId(name);
+        if (signalId < 0 || !testBit(addedBits, signalId)) {
+            logger2.log(Level.WARNING,
+                    "Testing a signal {0} which is not yet added.",
+                    MyString.quote(name));
+            return false;
+        }
+
+        boolean result = testBit(activeBits, signalId);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Count the registered signal names.
+     *
+     * @return the count (&ge;0)
+     */
+    private static int countRegistered() {
+        int result = registeredNames.size();
+        return result;
+    }
+
+    /**
+     * Copy an int array to a longer array.
+     *
+     * @param array the array to copy (not null, unaffected)
+     * @param length the desired length (&ge;array.length)
+     * @return a new array
+     */
+    private static int[] grow(int[] array, int length) {
+        assert length >= array.length : length;
+
+        int[] result = new int[length];
+        System.arraycopy(array, 0, result, 0, array.length);
+
+        return result;
+    }
+
+    /**
+     * Copy a long array (such as a bitset) to a longer array.
+     *
+     * @param array the array to copy (not null, unaffected)
+     * @param length the desired length (&ge;array.length)
+     * @return a new array
+     */
+    private static long[] grow(long[] array, int length) {
+        assert length >= array.length : length;
+
+        long[] result = new long[length];
+        System.arraycopy(array, 0, result, 0, array.length);
+
+        return result;
+    }
+
+    /**
+     * Notify any listeners subscribed to the identified signal. Doesn't
+     * allocate any objects.
+     *
+     * @param signalId the ID of the signal that changed (&ge;0)
+     * @param isActive true if it became active, false if it became inactive
+     */
+    private void notifySubscribers(int signalId, boolean isActive) {
+        if (signalId >= subscribers.length) {
+            return;
+        }
+
+        SignalListener[] listeners = subscribers[signalId];
+        if (listeners != null) {
+            for (SignalListener listener : listeners) {
+                listener.onSignalChange(signalId, isActive);
+            }
+        }
+    }
+
+    /**
+     * Parse a signal action string.
+     *
+     * @param actionString consisting of "signal " + signalName + " " + source
+     * @return the signal ID in the upper 32 bits and the source index in the
+     * lower 32 bits
+     */
+    private static long parseAction(String actionString) {
         boolean hasPrefix
                 = actionString.startsWith(InputMode.signalActionPrefix);
         Validate.require(hasPrefix, "the required action prefix");
@@ -91,6 +740,76 @@ public class Signals
         String signalName = args.substring(0, spacePosition);
         String sourceString = args.substring(spacePosition + 1);
         int sourceIndex = Integer.parseInt(sourceString);
-        setActive(signalName, sourceIndex, isOngoing);
+        Validate.nonNegative(sourceIndex, "source index");
+
+        int signalId = register(signalName);
+        long result = ((long) signalId << 32) | sourceIndex;
+
+        return result;
+    }
+
+    /**
+     * Test the specified bit of a bitset.
+     *
+     * @param bits the bitset to test (not null, unaffected)
+     * @param bitIndex the index of the bit to test (&ge;0)
+     * @return true if the bit is set, false if it's clear or out of range
+     */
+    private static boolean testBit(long[] bits, int bitIndex) {
+        int wordIndex = bitIndex / bitsPerWord;
+        if (wordIndex >= bits.length) {
+            return false;
+        }
+
+        boolean result = (bits[wordIndex] & (1L << bitIndex)) != 0L;
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Advance the frame number each time the InputManager begins processing
+     * input, before any signal actions are dispatched.
+     */
+    final private class FrameListener implements RawInputListener {
+        @Override
+        public void beginInput() {
+            ++frameNumber;
+        }
+
+        @Override
+        public void endInput() {
+            // do nothing
+        }
+
+        @Override
+        public void onJoyAxisEvent(JoyAxisEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onJoyButtonEvent(JoyButtonEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onKeyEvent(KeyInputEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onMouseButtonEvent(MouseButtonEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onMouseMotionEvent(MouseMotionEvent event) {
+            // do nothing
+        }
+
+        @Override
+        public void onTouchEvent(TouchEvent event) {
+            // do nothing
+        }
     }
 }
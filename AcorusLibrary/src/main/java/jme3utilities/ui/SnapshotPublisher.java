@@ -0,0 +1,177 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Publish the input state of an ActionApplication once per frame, so that
+ * other threads (such as physics or simulation workers) can read a consistent
+ * copy without locking the render thread.
+ * <p>
+ * Publication uses a sequence lock: the render thread makes the sequence
+ * number odd, overwrites the shared state, then makes it even again. A reader
+ * copies the state into its own InputSnapshot and retries if the sequence
+ * number was odd or changed during the copy. The writer never waits, readers
+ * never block it, and neither allocates any objects in the steady state.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class SnapshotPublisher {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SnapshotPublisher.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * sequence number: odd while the render thread is writing, incremented
+     * twice per publication
+     */
+    final private AtomicLong sequence = new AtomicLong(0L);
+    /**
+     * raw bits of the published axis values, indexed by axis ID (replaced
+     * only while the sequence number is odd)
+     */
+    private volatile AtomicIntegerArray axisBits = new AtomicIntegerArray(0);
+    /**
+     * published signal bitset, indexed by word (replaced only while the
+     * sequence number is odd)
+     */
+    private volatile AtomicLongArray signalWords = new AtomicLongArray(0);
+    /**
+     * serial number of the most recently published frame (&ge;0)
+     */
+    private volatile long frameNumber = 0L;
+    /**
+     * time of the most recent publication (in nanoseconds)
+     */
+    private volatile long publishNanos = 0L;
+    /**
+     * short name of the active InputMode as of the most recent publication,
+     * or null if none
+     */
+    private volatile String activeModeName = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a publisher with nothing published.
+     */
+    SnapshotPublisher() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the serial number of the most recently published frame. May be
+     * invoked from any thread.
+     *
+     * @return the serial number (&ge;0, 0 if nothing has been published yet)
+     */
+    public long frameNumber() {
+        return frameNumber;
+    }
+
+    /**
+     * Publish the current input state. Invoked once per frame on the render
+     * thread. Allocates only if the number of signals or axes has grown.
+     *
+     * @param signals the signal tracker (not null, unaffected)
+     * @param axes the analog-axis values (not null, unaffected)
+     * @param activeMode the active InputMode, or null if none
+     */
+    void publish(Signals signals, Axes axes, InputMode activeMode) {
+        int numWords = signals.countWords();
+        int numAxes = axes.capacity();
+
+        long start = sequence.incrementAndGet();
+        assert (start & 1L) == 1L : start;
+
+        if (signalWords.length() != numWords) {
+            this.signalWords = new AtomicLongArray(numWords);
+        }
+        for (int wordIndex = 0; wordIndex < numWords; ++wordIndex) {
+            signalWords.set(wordIndex, signals.activeWord(wordIndex));
+        }
+
+        if (axisBits.length() != numAxes) {
+            this.axisBits = new AtomicIntegerArray(numAxes);
+        }
+        for (int axisId = 0; axisId < numAxes; ++axisId) {
+            int bits = Float.floatToRawIntBits(axes.value(axisId));
+            axisBits.set(axisId, bits);
+        }
+
+        this.activeModeName
+                = (activeMode == null) ? null : activeMode.shortName();
+        this.publishNanos = System.nanoTime();
+        this.frameNumber = frameNumber + 1L;
+
+        sequence.incrementAndGet(); // even again: the state is consistent
+    }
+
+    /**
+     * Copy the most recently published state into the specified snapshot.
+     * May be invoked from any thread. Doesn't block or allocate, except when
+     * the snapshot needs to grow. Spins only while a publication is in
+     * progress.
+     *
+     * @param storeResult the snapshot to fill (not null, modified)
+     * @return the serial number of the copied frame (&ge;0)
+     */
+    public long read(InputSnapshot storeResult) {
+        Validate.nonNull(storeResult, "store result");
+
+        while (true) {
+            long before = sequence.get();
+            if ((before & 1L) == 1L) {
+                continue; // a publication is in progress
+            }
+
+            long frame = frameNumber;
+            storeResult.copy(signalWords, axisBits, activeModeName, frame,
+                    publishNanos);
+
+            if (sequence.get() == before) {
+                return frame;
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+import jme3utilities.InitialState;
+import jme3utilities.Validate;
+
+/**
+ * An AppState to generate synthetic hotkey events, for benchmarks and other
+ * unattended runs (typically in a headless ActionApplication, where the mouse
+ * buttons are the only hotkeys).
+ * <p>
+ * The specified hotkeys are pressed one at a time, in rotation, each held for
+ * a fixed number of frames. The events are dispatched to the mapped input
+ * modes exactly as if they came from the InputManager, so signals, actions,
+ * combos, and sequences all respond. Generating events doesn't allocate any
+ * objects.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class SyntheticInput extends AcorusAppState {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SyntheticInput.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of frames remaining before the next hotkey is pressed (&ge;0)
+     */
+    private int framesRemaining = 0;
+    /**
+     * number of frames to hold each hotkey (&gt;0)
+     */
+    final private int holdFrames;
+    /**
+     * index of the held hotkey in the rotation, or -1 if none
+     */
+    private int heldIndex = -1;
+    /**
+     * universal codes of the hotkeys to press, in rotation
+     */
+    final private int[] universalCodes;
+    /**
+     * number of hotkey events dispatched so far (&ge;0)
+     */
+    private long numEvents = 0L;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an enabled generator for the specified hotkeys.
+     *
+     * @param holdFrames the number of frames to hold each hotkey (&gt;0)
+     * @param hotkeys the hotkeys to press, in rotation (not null, not empty,
+     * unaffected)
+     */
+    public SyntheticInput(int holdFrames, Hotkey... hotkeys) {
+        super(InitialState.Enabled);
+        Validate.positive(holdFrames, "hold frames");
+        Validate.nonEmpty(hotkeys, "hotkeys");
+
+        this.holdFrames = holdFrames;
+        int numHotkeys = hotkeys.length;
+        this.universalCodes = new int[numHotkeys];
+        for (int index = 0; index < numHotkeys; ++index) {
+            Validate.nonNull(hotkeys[index], "hotkey");
+            universalCodes[index] = hotkeys[index].code();
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the hotkey events dispatched so far, including releases.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countEvents() {
+        return numEvents;
+    }
+    // *************************************************************************
+    // AcorusAppState methods
+
+    /**
+     * Enable or disable this state. Disabling it releases the held hotkey, if
+     * any.
+     *
+     * @param newSetting true to enable, false to disable
+     */
+    @Override
+    public void setEnabled(boolean newSetting) {
+        if (!newSetting && heldIndex >= 0) {
+            release(0f);
+            this.framesRemaining = 0;
+        }
+        super.setEnabled(newSetting);
+    }
+
+    /**
+     * Press the next hotkey when the held one has been held long enough.
+     * Invoked once per frame while this state is attached and enabled.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        if (framesRemaining > 0) {
+            --framesRemaining;
+            return;
+        }
+
+        int nextIndex = heldIndex + 1;
+        if (heldIndex >= 0) {
+            release(tpf);
+        }
+        if (nextIndex >= universalCodes.length) {
+            nextIndex = 0;
+        }
+
+        InputMode.stack.dispatch(universalCodes[nextIndex], true, tpf);
+        ++numEvents;
+        this.heldIndex = nextIndex;
+        this.framesRemaining = holdFrames - 1;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Release the held hotkey.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    private void release(float tpf) {
+        assert heldIndex >= 0 : heldIndex;
+
+        InputMode.stack.dispatch(universalCodes[heldIndex], false, tpf);
+        ++numEvents;
+        this.heldIndex = -1;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * A hashed timing wheel for a small, fixed set of timers, identified by index.
+ * <p>
+ * Each timer is kept in the slot for its deadline's tick, so advancing the
+ * wheel visits only the slots for the ticks that have elapsed, regardless of
+ * how many timers are pending. A timer whose deadline is more than one
+ * revolution away stays in its slot until the revolution in which it's due.
+ * Doesn't allocate any objects after construction.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class TimingWheel {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of timers, limited by the size of a slot bitmask
+     */
+    final static int maxTimers = Integer.SIZE;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TimingWheel.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * bitmask of pending timers in each slot, indexed by tick modulo the
+     * number of slots
+     */
+    final private int[] slotMasks;
+    /**
+     * duration of each tick (in nanoseconds, &gt;0)
+     */
+    final private long tickNanos;
+    /**
+     * most recent tick visited by {@link #advance(long)}, or -1 if never
+     * advanced
+     */
+    private long lastTick = -1L;
+    /**
+     * deadline of each timer (in nanoseconds), or -1 if it isn't pending
+     */
+    final private long[] deadlines;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a wheel with no pending timers.
+     *
+     * @param numTimers the number of timers (&gt;0, &le;32)
+     * @param numSlots the number of slots (a power of 2, &gt;0)
+     * @param tickNanos the duration of each tick (in nanoseconds, &gt;0)
+     */
+    TimingWheel(int numTimers, int numSlots, long tickNanos) {
+        assert numTimers > 0 && numTimers <= maxTimers : numTimers;
+        assert numSlots > 0 && Integer.bitCount(numSlots) == 1 : numSlots;
+        assert tickNanos > 0L : tickNanos;
+
+        this.deadlines = new long[numTimers];
+        Arrays.fill(deadlines, -1L);
+        this.slotMasks = new int[numSlots];
+        this.tickNanos = tickNanos;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Advance the wheel to the specified time and collect the timers that
+     * have expired, which are no longer pending afterward.
+     *
+     * @param nowNanos the current time (in nanoseconds, &ge;0)
+     * @return a bitmask of the expired timers (0 if none)
+     */
+    int advance(long nowNanos) {
+        long nowTick = nowNanos / tickNanos;
+        if (lastTick < 0L) {
+            this.lastTick = nowTick - 1L;
+        }
+        long numTicks = Math.min(nowTick - lastTick, slotMasks.length);
+
+        int result = 0;
+        int slotMask = slotMasks.length - 1;
+        for (long step = 1L; step <= numTicks; ++step) {
+            int slot = (int) ((lastTick + step) & slotMask);
+            int pending = slotMasks[slot];
+            while (pending != 0) {
+                int timerBit = Integer.lowestOneBit(pending);
+                pending &= ~timerBit;
+                int timerIndex = Integer.numberOfTrailingZeros(timerBit);
+                if (deadlines[timerIndex] <= nowNanos) {
+                    slotMasks[slot] &= ~timerBit;
+                    deadlines[timerIndex] = -1L;
+                    result |= timerBit;
+                }
+            }
+        }
+        if (nowTick > lastTick) {
+            this.lastTick = nowTick;
+        }
+
+        return result;
+    }
+
+    /**
+     * Cancel the indexed timer, if it's pending.
+     *
+     * @param timerIndex which timer (&ge;0, &lt;numTimers)
+     */
+    void cancel(int timerIndex) {
+        long deadline = deadlines[timerIndex];
+        if (deadline >= 0L) {
+            int slot = slotFor(deadline);
+            slotMasks[slot] &= ~(1 << timerIndex);
+            deadlines[timerIndex] = -1L;
+        }
+    }
+
+    /**
+     * Cancel all pending timers.
+     */
+    void cancelAll() {
+        Arrays.fill(deadlines, -1L);
+        Arrays.fill(slotMasks, 0);
+    }
+
+    /**
+     * Test whether the indexed timer is pending.
+     *
+     * @param timerIndex which timer (&ge;0, &lt;numTimers)
+     * @return true if pending, otherwise false
+     */
+    boolean isPending(int timerIndex) {
+        boolean result = deadlines[timerIndex] >= 0L;
+        return result;
+    }
+
+    /**
+     * Schedule the indexed timer, replacing any previous deadline.
+     *
+     * @param timerIndex which timer (&ge;0, &lt;numTimers)
+     * @param deadlineNanos when the timer should expire (in nanoseconds,
+     * &ge;0)
+     */
+    void schedule(int timerIndex, long deadlineNanos) {
+        assert deadlineNanos >= 0L : deadlineNanos;
+
+        cancel(timerIndex);
+        /*
+         * A deadline in a tick that's already been visited goes into
+         * the next tick's slot, so that it isn't missed.
+         */
+        long deadline = Math.max(deadlineNanos, (lastTick + 1L) * tickNanos);
+        int slot = slotFor(deadline);
+        slotMasks[slot] |= 1 << timerIndex;
+        deadlines[timerIndex] = deadline;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine which slot holds a timer with the specified deadline.
+     *
+     * @param deadlineNanos the deadline (in nanoseconds, &ge;0)
+     * @return the slot index (&ge;0, &lt;numSlots)
+     */
+    private int slotFor(long deadlineNanos) {
+        long tick = deadlineNanos / tickNanos;
+        int result = (int) (tick & (slotMasks.length - 1));
+
+        return result;
+    }
+}
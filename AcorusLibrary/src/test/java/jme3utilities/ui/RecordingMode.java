@@ -0,0 +1,120 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An InputMode for unit tests: it's wired directly to an InputManager, without
+ * being attached to an application, and it records the actions it receives.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class RecordingMode extends InputMode {
+    // *************************************************************************
+    // fields
+
+    /**
+     * actions received, in order, each prefixed with "+" if ongoing or "-" if
+     * not
+     */
+    final private List<String> actions = new ArrayList<>(8);
+    /**
+     * signal tracker for signal actions and combos
+     */
+    final private Signals signals;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a mode that maps to the shared headless InputManager.
+     *
+     * @param name terse name for the mode (not null)
+     * @param signals the signal tracker to use (not null, alias created)
+     */
+    RecordingMode(String name, Signals signals) {
+        super(name);
+        this.inputManager = HeadlessInputs.initialize();
+        this.signals = signals;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Forget all actions received so far.
+     */
+    void clearActions() {
+        actions.clear();
+    }
+
+    /**
+     * Enumerate the actions received so far.
+     *
+     * @return a new list, in the order received
+     */
+    List<String> listActions() {
+        List<String> result = new ArrayList<>(actions);
+        return result;
+    }
+    // *************************************************************************
+    // InputMode methods
+
+    /**
+     * Add the default hotkey bindings, of which there are none.
+     */
+    @Override
+    protected void defaultBindings() {
+        // do nothing
+    }
+
+    /**
+     * Access the signal tracker specified at construction.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    @Override
+    public Signals getSignals() {
+        return signals;
+    }
+    // *************************************************************************
+    // ActionListener methods
+
+    /**
+     * Record an action.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        actions.add((ongoing ? "+" : "-") + actionString);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the binding and dispatch of combos: combos that pass their tests should
+ * be delivered in binding order, whether their masks span one word or
+ * several.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TestComboTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * time interval of each simulated frame (in seconds)
+     */
+    final private static float tpf = 0.01f;
+    // *************************************************************************
+    // fields
+
+    /**
+     * trigger of the combos
+     */
+    private Hotkey trigger;
+    /**
+     * mode that receives the combo actions
+     */
+    private RecordingMode mode;
+    /**
+     * signal tracker that the combos test
+     */
+    private Signals signals;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a fresh mode and signal tracker for each test, with signal
+     * "combo on" active and signal "combo off" inactive.
+     */
+    @Before
+    public void setUp() {
+        this.signals = new Signals();
+        signals.add("combo on");
+        signals.add("combo off");
+        signals.setActive("combo on", 0, true);
+
+        this.mode = new RecordingMode("combos", signals);
+        this.trigger = Hotkey.findKey(KeyInput.KEY_A);
+    }
+
+    /**
+     * Unmap the mode, so it doesn't affect later tests.
+     */
+    @After
+    public void tearDown() {
+        mode.unmapAll();
+    }
+
+    /**
+     * Combos that pass their tests should be delivered in binding order, and
+     * rebinding a combo should keep its place.
+     */
+    @Test
+    public void testBindingOrder() {
+        ComboTable table = new ComboTable();
+        Combo first = new Combo(trigger, "combo on", true);
+        table.bind(first, "first");
+        table.bind(new Combo(trigger, "combo off", false), "second");
+        table.bind(new Combo(trigger, "combo off", true), "never");
+        String[] names = {"combo off", "combo on"};
+        boolean[] flags = {false, true};
+        table.bind(new Combo(trigger, names, flags), "fourth");
+
+        table.dispatch(KeyInput.KEY_A, signals, mode, tpf);
+        assertActions("+first", "+second", "+fourth");
+
+        table.bind(first, "renamed");
+        table.dispatch(KeyInput.KEY_A, signals, mode, tpf);
+        assertActions("+renamed", "+second", "+fourth");
+        Assert.assertTrue(table.listCombos("first").isEmpty());
+        Assert.assertEquals(1, table.listCombos("renamed").size());
+
+        // Combos bound to other triggers shouldn't be tested.
+        table.dispatch(KeyInput.KEY_B, signals, mode, tpf);
+        assertActions();
+    }
+
+    /**
+     * A combo should be delivered after the action of its trigger, and only
+     * when the trigger is pressed.
+     */
+    @Test
+    public void testDispatchThroughStack() {
+        mode.bind("plain a", KeyInput.KEY_A);
+        mode.bind("combo a", new Combo(trigger, "combo on", true));
+        mode.bind("combo b", new Combo(Hotkey.findKey(KeyInput.KEY_B),
+                "combo on", true));
+        mode.mapAll();
+
+        InputMode.stack.dispatch(KeyInput.KEY_A, true, tpf);
+        InputMode.stack.dispatch(KeyInput.KEY_A, false, tpf);
+        assertActions("+plain a", "+combo a", "-plain a");
+
+        // A hotkey bound only to combos should still be dispatched.
+        Assert.assertTrue(
+                InputMode.stack.dispatch(KeyInput.KEY_B, true, tpf));
+        InputMode.stack.dispatch(KeyInput.KEY_B, false, tpf);
+        assertActions("+combo b");
+    }
+
+    /**
+     * Combos whose masks span several words should be tested alongside
+     * combos whose masks fit in one word.
+     */
+    @Test
+    public void testMultiWordMasks() {
+        String highName = null;
+        for (int index = 0; index < 2 * Long.SIZE; ++index) {
+            highName = "combo wide " + index;
+            signals.add(highName);
+        }
+        Assert.assertTrue(Signals.findId(highName) >= Long.SIZE);
+
+        ComboTable table = new ComboTable();
+        table.bind(new Combo(trigger, "combo on", true), "narrow");
+        String[] names = {"combo on", highName};
+        boolean[] flags = {true, true};
+        table.bind(new Combo(trigger, names, flags), "wide");
+        table.bind(new Combo(trigger, highName, false), "wide off");
+
+        table.dispatch(KeyInput.KEY_A, signals, mode, tpf);
+        assertActions("+narrow", "+wide off");
+
+        signals.setActive(highName, 0, true);
+        table.dispatch(KeyInput.KEY_A, signals, mode, tpf);
+        assertActions("+narrow", "+wide");
+    }
+
+    /**
+     * Triggers should be kept in ascending order of universal code,
+     * regardless of binding order.
+     */
+    @Test
+    public void testTriggerOrder() {
+        ComboTable table = new ComboTable();
+        Hotkey c = Hotkey.findKey(KeyInput.KEY_C);
+        table.bind(new Combo(c, "combo on", true), "c");
+        table.bind(new Combo(trigger, "combo on", true), "a");
+
+        Assert.assertEquals(2, table.countTriggers());
+        Assert.assertEquals(Math.min(KeyInput.KEY_A, KeyInput.KEY_C),
+                table.triggerCode(0));
+        Assert.assertEquals(Math.max(KeyInput.KEY_A, KeyInput.KEY_C),
+                table.triggerCode(1));
+        Assert.assertTrue(table.hasCombos(KeyInput.KEY_C));
+        Assert.assertFalse(table.hasCombos(KeyInput.KEY_B));
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the actions received by the mode, then forget them.
+     *
+     * @param expected the expected actions, in order
+     */
+    private void assertActions(String... expected) {
+        Assert.assertEquals(Arrays.asList(expected), mode.listActions());
+        mode.clearActions();
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test round trips of hotkey events through an InputJournal and a
+ * JournalReplay.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TestInputJournal {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * asset path of the journal, relative to the sandbox
+     */
+    final private static String assetPath = "test.ajl";
+    /**
+     * name of the signal bound in the bottom layer
+     */
+    final private static String signalName = "journal signal";
+    // *************************************************************************
+    // fields
+
+    /**
+     * bottom layer, which binds A to an action and S to a signal
+     */
+    private RecordingMode base;
+    /**
+     * overlay that passes unbound hotkeys through and binds C
+     */
+    private RecordingMode overlay;
+    /**
+     * signal tracker shared by both layers
+     */
+    private Signals signals;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Designate a temporary sandbox for the journal files.
+     *
+     * @throws IOException if the sandbox can't be created
+     */
+    @BeforeClass
+    public static void designateSandbox() throws IOException {
+        HeadlessInputs.initialize();
+        if (!ActionApplication.hasSandbox()) {
+            String path = Files.createTempDirectory("acorus").toString();
+            ActionApplication.designateSandbox(path);
+        }
+    }
+
+    /**
+     * Map a bottom layer and a pass-through overlay, then record a journal of
+     * 3 frames.
+     *
+     * @throws IOException if the journal can't be written
+     */
+    @Before
+    public void setUp() throws IOException {
+        this.signals = new Signals();
+        this.base = new RecordingMode("journal base", signals);
+        base.bind("journal a", KeyInput.KEY_A);
+        base.bindSignal(signalName, KeyInput.KEY_S);
+        base.mapAll();
+
+        this.overlay = new RecordingMode("journal overlay", signals);
+        overlay.bind("journal c", KeyInput.KEY_C);
+        InputMode.stack.push(overlay, true);
+        overlay.mapAll();
+
+        InputJournal journal = new InputJournal(4); // to exercise flushes
+        InputMode.stack.setJournal(journal);
+        journal.start(assetPath);
+
+        tap(KeyInput.KEY_A);
+        journal.recordFrame(0.02f);
+
+        InputMode.stack.dispatch(KeyInput.KEY_C, true, 0.03f);
+        journal.recordFrame(0.03f);
+
+        InputMode.stack.dispatch(KeyInput.KEY_C, false, 0.04f);
+        tap(KeyInput.KEY_S);
+        journal.recordFrame(0.04f);
+
+        journal.stop();
+        InputMode.stack.setJournal(null);
+
+        // one checkpoint, 6 hotkey events, and 3 frames:
+        Assert.assertEquals(10L, journal.countRecords());
+        assertRecorded(1);
+    }
+
+    /**
+     * Unmap both layers, so they don't affect later tests.
+     */
+    @After
+    public void tearDown() {
+        overlay.unmapAll();
+        base.unmapAll();
+    }
+
+    /**
+     * Binding the recorded hotkeys should reproduce the layer with the same
+     * name, or else the bottom layer, without flattening the other layers
+     * into it.
+     *
+     * @throws IOException if the journal can't be read
+     */
+    @Test
+    public void testBindRecorded() throws IOException {
+        JournalReplay replay = new JournalReplay(assetPath);
+        Hotkey a = Hotkey.findKey(KeyInput.KEY_A);
+        Hotkey c = Hotkey.findKey(KeyInput.KEY_C);
+        Hotkey s = Hotkey.findKey(KeyInput.KEY_S);
+
+        InputMode sameName = new RecordingMode("journal overlay", signals);
+        Assert.assertEquals(1, replay.bindRecorded(sameName));
+        Assert.assertEquals("journal c", sameName.findActionName(c));
+        Assert.assertNull(sameName.findActionName(a));
+
+        InputMode otherName = new RecordingMode("journal other", signals);
+        Assert.assertEquals(2, replay.bindRecorded(otherName));
+        Assert.assertEquals("journal a", otherName.findActionName(a));
+        Assert.assertEquals(InputMode.signalActionPrefix + signalName,
+                otherName.findActionName(s));
+        Assert.assertNull(otherName.findActionName(c));
+    }
+
+    /**
+     * Replaying a journal against changed bindings should count the mismatched
+     * checkpoint.
+     *
+     * @throws IOException if the journal can't be read
+     */
+    @Test
+    public void testMismatch() throws IOException {
+        JournalReplay replay = new JournalReplay(assetPath);
+        base.bind("journal changed", KeyInput.KEY_A);
+        replayAll(replay);
+
+        Assert.assertEquals(1, replay.countMismatches());
+        Assert.assertEquals(Arrays.asList("+journal changed",
+                "-journal changed"), base.listActions());
+    }
+
+    /**
+     * Replaying a journal against the recorded bindings should reproduce the
+     * recorded actions, signals, and frame times.
+     *
+     * @throws IOException if the journal can't be read
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        JournalReplay replay = new JournalReplay(assetPath);
+        Assert.assertEquals(3, replay.countFrames());
+
+        long startNanos = InputMode.stack.clockNanos();
+        replayAll(replay);
+        long elapsedNanos = InputMode.stack.clockNanos() - startNanos;
+
+        Assert.assertEquals(3, replay.countReplayed());
+        Assert.assertEquals(0, replay.countMismatches());
+        Assert.assertEquals(0, replay.countOrphans());
+        Assert.assertFalse(InputMode.stack.isReplaying());
+        Assert.assertEquals(90e6, elapsedNanos, 1e3);
+        assertRecorded(2);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that each layer received the recorded actions and that the
+     * signal was pressed and released, then forget the actions.
+     *
+     * @param numPresses the expected number of presses of the signal since
+     * setup began
+     */
+    private void assertRecorded(int numPresses) {
+        Assert.assertEquals(Arrays.asList("+journal a", "-journal a"),
+                base.listActions());
+        Assert.assertEquals(Arrays.asList("+journal c", "-journal c"),
+                overlay.listActions());
+        base.clearActions();
+        overlay.clearActions();
+
+        int signalId = Signals.findId(signalName);
+        Assert.assertFalse(signals.test(signalId));
+        Assert.assertEquals(numPresses, signals.countPresses(signalId));
+        Assert.assertEquals(numPresses, signals.countReleases(signalId));
+    }
+
+    /**
+     * Replay every frame of the specified journal.
+     *
+     * @param replay the replay to perform (not null)
+     */
+    private static void replayAll(JournalReplay replay) {
+        while (!replay.isFinished()) {
+            replay.replayFrame(0f);
+        }
+    }
+
+    /**
+     * Press and release the specified key.
+     *
+     * @param keyCode the key code of the key
+     */
+    private static void tap(int keyCode) {
+        InputMode.stack.dispatch(keyCode, true, 0f);
+        InputMode.stack.dispatch(keyCode, false, 0f);
+    }
+}
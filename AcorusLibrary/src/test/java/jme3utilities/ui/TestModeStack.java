@@ -0,0 +1,200 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test how the mode stack routes hotkey events among its layers: overlays
+ * that pass unbound hotkeys through or consume them, and releases that follow
+ * their presses.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TestModeStack {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * time interval of each simulated frame (in seconds)
+     */
+    final private static float tpf = 0.01f;
+    // *************************************************************************
+    // fields
+
+    /**
+     * bottom layer
+     */
+    private RecordingMode base;
+    /**
+     * top layer
+     */
+    private RecordingMode overlay;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a bottom layer that binds A and B, and an overlay that binds
+     * only A.
+     */
+    @Before
+    public void setUp() {
+        Signals signals = new Signals();
+        this.base = new RecordingMode("base", signals);
+        base.bind("base a", KeyInput.KEY_A);
+        base.bind("base b", KeyInput.KEY_B);
+
+        this.overlay = new RecordingMode("overlay", signals);
+        overlay.bind("overlay a", KeyInput.KEY_A);
+    }
+
+    /**
+     * Unmap both layers, so they don't affect later tests.
+     */
+    @After
+    public void tearDown() {
+        overlay.unmapAll();
+        base.unmapAll();
+    }
+
+    /**
+     * An overlay that consumes hotkeys should hide the bindings of the layer
+     * beneath it.
+     */
+    @Test
+    public void testConsume() {
+        base.mapAll();
+        InputMode.stack.push(overlay, false);
+        overlay.mapAll();
+
+        Assert.assertTrue(tap(KeyInput.KEY_A));
+        Assert.assertFalse(tap(KeyInput.KEY_B));
+        assertActions(overlay, "+overlay a", "-overlay a");
+        assertActions(base);
+
+        // Once the overlay is unmapped, the bottom layer should be reachable.
+        overlay.unmapAll();
+        Assert.assertTrue(tap(KeyInput.KEY_B));
+        assertActions(base, "+base b", "-base b");
+    }
+
+    /**
+     * An overlay that passes hotkeys through should handle only the hotkeys
+     * it binds.
+     */
+    @Test
+    public void testPassThrough() {
+        base.mapAll();
+        InputMode.stack.push(overlay, true);
+        overlay.mapAll();
+
+        Assert.assertTrue(tap(KeyInput.KEY_A));
+        Assert.assertTrue(tap(KeyInput.KEY_B));
+        assertActions(overlay, "+overlay a", "-overlay a");
+        assertActions(base, "+base b", "-base b");
+        Assert.assertFalse(tap(KeyInput.KEY_C));
+    }
+
+    /**
+     * A release should go to the layer that received the press, even if an
+     * overlay that binds the hotkey was mapped while it was held.
+     */
+    @Test
+    public void testReleaseAfterPush() {
+        base.mapAll();
+        InputMode.stack.dispatch(KeyInput.KEY_A, true, tpf);
+
+        InputMode.stack.push(overlay, true);
+        overlay.mapAll();
+        InputMode.stack.dispatch(KeyInput.KEY_A, false, tpf);
+        assertActions(base, "+base a", "-base a");
+        assertActions(overlay);
+
+        // The next press should go to the overlay.
+        tap(KeyInput.KEY_A);
+        assertActions(overlay, "+overlay a", "-overlay a");
+    }
+
+    /**
+     * A release shouldn't reach a layer that received the press but was
+     * unmapped while the hotkey was held, nor the layer that now owns the
+     * hotkey.
+     */
+    @Test
+    public void testReleaseAfterUnmap() {
+        base.mapAll();
+        InputMode.stack.push(overlay, true);
+        overlay.mapAll();
+        InputMode.stack.dispatch(KeyInput.KEY_A, true, tpf);
+
+        overlay.unmapAll();
+        Assert.assertTrue(
+                InputMode.stack.dispatch(KeyInput.KEY_A, false, tpf));
+        assertActions(overlay, "+overlay a");
+        assertActions(base);
+
+        // A release without a dispatched press should be ignored.
+        Assert.assertFalse(
+                InputMode.stack.dispatch(KeyInput.KEY_A, false, tpf));
+        assertActions(base);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the actions received by the specified mode.
+     *
+     * @param mode the mode to verify (not null)
+     * @param expected the expected actions, in order
+     */
+    private static void assertActions(RecordingMode mode, String... expected) {
+        List<String> actual = mode.listActions();
+        Assert.assertEquals(Arrays.asList(expected), actual);
+        mode.clearActions();
+    }
+
+    /**
+     * Press and release the specified key.
+     *
+     * @param keyCode the key code of the key
+     * @return true if the press was handled, otherwise false
+     */
+    private static boolean tap(int keyCode) {
+        boolean result = InputMode.stack.dispatch(keyCode, true, tpf);
+        InputMode.stack.dispatch(keyCode, false, tpf);
+
+        return result;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the timing of key sequences, as dispatched through the mode stack and
+ * timed by its input clock.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TestSequenceTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * time interval of each simulated frame (in seconds)
+     */
+    final private static float tpf = 0.01f;
+    /**
+     * time interval that exceeds the default stroke and long-press timing (in
+     * seconds)
+     */
+    final private static float timeout = 0.6f;
+    // *************************************************************************
+    // fields
+
+    /**
+     * mode under test
+     */
+    private RecordingMode mode;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a fresh mode for each test.
+     */
+    @Before
+    public void setUp() {
+        this.mode = new RecordingMode("sequences", new Signals());
+    }
+
+    /**
+     * Unmap the mode, so it doesn't affect later tests.
+     */
+    @After
+    public void tearDown() {
+        mode.unmapAll();
+    }
+
+    /**
+     * A sequence that's also the prefix of a longer one should complete only
+     * after the stroke interval expires, unless the longer one continues in
+     * time.
+     */
+    @Test
+    public void testAmbiguousPrefix() {
+        Hotkey g = Hotkey.findKey(KeyInput.KEY_G);
+        mode.bind("double g", KeySequence.doubleTap(g));
+        mode.bind("triple g", new KeySequence(g, g, g));
+        mode.mapAll();
+
+        tap(KeyInput.KEY_G);
+        tap(KeyInput.KEY_G);
+        assertActions(); // waiting for a possible third stroke
+        advance(timeout);
+        assertActions("+double g");
+
+        mode.clearActions();
+        tap(KeyInput.KEY_G);
+        tap(KeyInput.KEY_G);
+        tap(KeyInput.KEY_G);
+        assertActions("+triple g");
+        advance(timeout);
+        assertActions("+triple g");
+    }
+
+    /**
+     * A stroke that doesn't continue the sequence should replay the strokes
+     * already consumed, then be dispatched normally.
+     */
+    @Test
+    public void testBrokenSequence() {
+        Hotkey a = Hotkey.findKey(KeyInput.KEY_A);
+        Hotkey b = Hotkey.findKey(KeyInput.KEY_B);
+        mode.bind("plain a", KeyInput.KEY_A);
+        mode.bind("plain c", KeyInput.KEY_C);
+        mode.bind("a then b", new KeySequence(a, b));
+        mode.mapAll();
+
+        tap(KeyInput.KEY_A);
+        assertActions();
+        tap(KeyInput.KEY_C);
+        assertActions("+plain a", "-plain a", "+plain c", "-plain c");
+    }
+
+    /**
+     * A completed sequence should deliver a single ongoing action, and the
+     * plain bindings of its hotkeys shouldn't fire.
+     */
+    @Test
+    public void testCompletion() {
+        Hotkey a = Hotkey.findKey(KeyInput.KEY_A);
+        Hotkey b = Hotkey.findKey(KeyInput.KEY_B);
+        mode.bind("plain a", KeyInput.KEY_A);
+        mode.bind("a then b", new KeySequence(a, b));
+        mode.mapAll();
+
+        tap(KeyInput.KEY_A);
+        tap(KeyInput.KEY_B);
+        assertActions("+a then b");
+        advance(timeout);
+        assertActions("+a then b");
+    }
+
+    /**
+     * A stroke that's still held when the sequence times out should be
+     * pressed, and its eventual release dispatched normally.
+     */
+    @Test
+    public void testHeldStrokeTimeout() {
+        Hotkey a = Hotkey.findKey(KeyInput.KEY_A);
+        Hotkey b = Hotkey.findKey(KeyInput.KEY_B);
+        mode.bind("plain a", KeyInput.KEY_A);
+        mode.bind("a then b", new KeySequence(a, b));
+        mode.mapAll();
+
+        InputMode.stack.dispatch(KeyInput.KEY_A, true, tpf);
+        advance(timeout);
+        assertActions("+plain a");
+        InputMode.stack.dispatch(KeyInput.KEY_A, false, tpf);
+        assertActions("+plain a", "-plain a");
+    }
+
+    /**
+     * A long press should complete once the hotkey has been held long
+     * enough, while a tap of the same hotkey should be dispatched normally.
+     */
+    @Test
+    public void testLongPress() {
+        Hotkey a = Hotkey.findKey(KeyInput.KEY_A);
+        mode.bind("plain a", KeyInput.KEY_A);
+        mode.bind("hold a", KeySequence.longPress(a));
+        mode.mapAll();
+
+        tap(KeyInput.KEY_A);
+        assertActions("+plain a", "-plain a");
+
+        mode.clearActions();
+        InputMode.stack.dispatch(KeyInput.KEY_A, true, tpf);
+        assertActions();
+        advance(timeout);
+        assertActions("+hold a");
+        InputMode.stack.dispatch(KeyInput.KEY_A, false, tpf);
+        assertActions("+hold a");
+    }
+
+    /**
+     * A sequence that times out between strokes should replay the strokes it
+     * consumed, in order.
+     */
+    @Test
+    public void testStrokeTimeout() {
+        Hotkey a = Hotkey.findKey(KeyInput.KEY_A);
+        Hotkey b = Hotkey.findKey(KeyInput.KEY_B);
+        mode.bind("plain a", KeyInput.KEY_A);
+        mode.bind("a then b", new KeySequence(a, b));
+        mode.mapAll();
+
+        tap(KeyInput.KEY_A);
+        advance(0.1f);
+        assertActions();
+        advance(timeout);
+        assertActions("+plain a", "-plain a");
+
+        // The next stroke should start a new attempt.
+        mode.clearActions();
+        tap(KeyInput.KEY_A);
+        tap(KeyInput.KEY_B);
+        assertActions("+a then b");
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Advance the input clock, then process any expired timeouts.
+     *
+     * @param seconds the time interval (in seconds, &ge;0)
+     */
+    private void advance(float seconds) {
+        InputMode.stack.advanceClock(seconds);
+        mode.sequenceTable().update(seconds, mode);
+    }
+
+    /**
+     * Verify the actions received by the mode under test.
+     *
+     * @param expected the expected actions, in order
+     */
+    private void assertActions(String... expected) {
+        Assert.assertEquals(Arrays.asList(expected), mode.listActions());
+    }
+
+    /**
+     * Press and release the specified key, advancing the input clock by one
+     * frame.
+     *
+     * @param keyCode the key code of the key
+     */
+    private void tap(int keyCode) {
+        InputMode.stack.dispatch(keyCode, true, tpf);
+        advance(tpf);
+        InputMode.stack.dispatch(keyCode, false, tpf);
+    }
+}
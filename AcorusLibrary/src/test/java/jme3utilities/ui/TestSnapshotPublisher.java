@@ -0,0 +1,161 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test round trips of input state through a SnapshotPublisher into an
+ * InputSnapshot, on one thread and across threads.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TestSnapshotPublisher {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of frames to publish while another thread reads them
+     */
+    final private static int numConcurrentFrames = 20_000;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * A reader on another thread should never observe a partially published
+     * frame.
+     *
+     * @throws InterruptedException if interrupted while joining the reader
+     */
+    @Test
+    public void testConcurrentReads() throws InterruptedException {
+        final Signals signals = new Signals();
+        signals.add("concurrent even");
+        signals.add("concurrent odd");
+        final int evenId = Signals.findId("concurrent even");
+        final int oddId = Signals.findId("concurrent odd");
+        final int axisId = Axes.register("concurrent axis");
+        Axes axes = new Axes();
+        final SnapshotPublisher publisher = new SnapshotPublisher();
+
+        final String[] failure = new String[1];
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                InputSnapshot snapshot = new InputSnapshot();
+                long frame = 0L;
+                while (frame < numConcurrentFrames && failure[0] == null) {
+                    frame = publisher.read(snapshot);
+                    if (frame == 0L) {
+                        continue; // nothing published yet
+                    }
+                    boolean isEven = (frame % 2L == 0L);
+                    if (snapshot.frameNumber() != frame
+                            || snapshot.axisValue(axisId) != frame
+                            || snapshot.isActive(evenId) != isEven
+                            || snapshot.isActive(oddId) == isEven) {
+                        failure[0] = "inconsistent snapshot of frame "
+                                + frame;
+                    }
+                }
+            }
+        };
+        reader.start();
+
+        for (int frame = 1; frame <= numConcurrentFrames; ++frame) {
+            boolean isEven = (frame % 2 == 0);
+            signals.setActive(evenId, 0, isEven);
+            signals.setActive(oddId, 0, !isEven);
+            axes.set(axisId, frame);
+            publisher.publish(signals, axes, null);
+        }
+        reader.join();
+
+        Assert.assertNull(failure[0]);
+    }
+
+    /**
+     * Reading before anything has been published should yield an empty
+     * snapshot.
+     */
+    @Test
+    public void testEmpty() {
+        SnapshotPublisher publisher = new SnapshotPublisher();
+        InputSnapshot snapshot = new InputSnapshot();
+
+        Assert.assertEquals(0L, publisher.frameNumber());
+        Assert.assertEquals(0L, publisher.read(snapshot));
+        Assert.assertEquals(0L, snapshot.frameNumber());
+        Assert.assertNull(snapshot.activeModeName());
+        Assert.assertFalse(snapshot.isActive(0));
+        Assert.assertEquals(0f, snapshot.axisValue(0), 0f);
+    }
+
+    /**
+     * Each publication should be read back exactly, reusing the same
+     * snapshot.
+     */
+    @Test
+    public void testRoundTrip() {
+        Signals signals = new Signals();
+        signals.add("snapshot a");
+        signals.add("snapshot b");
+        int aId = Signals.findId("snapshot a");
+        int bId = Signals.findId("snapshot b");
+        int axisId = Axes.register("snapshot axis");
+        Axes axes = new Axes();
+        InputMode mode = new RecordingMode("snapshot", signals);
+        SnapshotPublisher publisher = new SnapshotPublisher();
+        InputSnapshot snapshot = new InputSnapshot();
+
+        signals.setActive(aId, 0, true);
+        axes.set(axisId, 0.25f);
+        publisher.publish(signals, axes, mode);
+
+        Assert.assertEquals(1L, publisher.read(snapshot));
+        Assert.assertEquals(1L, snapshot.frameNumber());
+        Assert.assertEquals("snapshot", snapshot.activeModeName());
+        Assert.assertTrue(snapshot.isActive(aId));
+        Assert.assertFalse(snapshot.isActive(bId));
+        Assert.assertEquals(0.25f, snapshot.axisValue(axisId), 0f);
+
+        signals.setActive(aId, 0, false);
+        signals.setActive(bId, 0, true);
+        axes.set(axisId, -0.5f);
+        publisher.publish(signals, axes, null);
+
+        Assert.assertEquals(2L, publisher.read(snapshot));
+        Assert.assertEquals(2L, snapshot.frameNumber());
+        Assert.assertNull(snapshot.activeModeName());
+        Assert.assertFalse(snapshot.isActive(aId));
+        Assert.assertTrue(snapshot.isActive(bId));
+        Assert.assertEquals(-0.5f, snapshot.axisValue(axisId), 0f);
+    }
+}